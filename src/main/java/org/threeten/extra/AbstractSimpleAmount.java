@@ -31,7 +31,21 @@
  */
 package org.threeten.extra;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAmount;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -47,14 +61,316 @@ import org.threeten.bp.temporal.TemporalUnit;
  * 
  * @param <T>  the subclass type
  */
-abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implements Comparable<T> {
+abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implements Comparable<T>, TemporalAmount {
     // amount stored in subclass for serialization reasons
 
+    /**
+     * The smallest amount held in the instance cache of each subclass.
+     */
+    static final int CACHE_MIN = -366;
+    /**
+     * The largest amount held in the instance cache of each subclass.
+     * <p>
+     * This is the number of days in a leap year, thus the number of days, weeks,
+     * months or years between any two dates less than a year apart is cached,
+     * in either direction. The small amounts typical of the other units are also
+     * covered, while each cache stays below 1000 instances.
+     */
+    static final int CACHE_MAX = 366;
+    /**
+     * The number of seconds in a day.
+     */
+    private static final long SECONDS_PER_DAY = 86400;
+
+    /**
+     * The part of the hash code derived from the unit, which also identifies the type.
+     */
+    private final int unitHash;
+
     /**
      * Constructs a new instance.
+     * <p>
+     * The unit hash is calculated here, once per instance, rather than on each use.
+     * This calls {@link #getUnit()}, which must return a constant in each subclass.
+     * As this is the no-arg constructor, it also runs when reading the original
+     * serialized form of a subclass.
      */
     AbstractSimpleAmount() {
         super();
+        this.unitHash = getUnit().getName().hashCode() << 16;
+    }
+
+    /**
+     * Fills the instance cache of a subclass.
+     * <p>
+     * The entry for zero is the specified constant, the others are created
+     * using {@link #create(int)}.
+     *
+     * @param <T>  the subclass type
+     * @param zero  the constant for zero, not null
+     * @param cache  the array to fill, with a length of {@code CACHE_MAX - CACHE_MIN + 1}, not null
+     * @return the filled array, not null
+     */
+    static <T extends AbstractSimpleAmount<T>> T[] fillCache(T zero, T[] cache) {
+        for (int i = 0; i < cache.length; i++) {
+            int amount = i + CACHE_MIN;
+            cache[i] = (amount == 0 ? zero : zero.create(amount));
+        }
+        return cache;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the number of whole time-based units between two temporals.
+     * <p>
+     * Pairs of {@code Instant} and {@code LocalDateTime} are calculated directly
+     * from the epoch-second and nano-of-second.
+     * Pairs of {@code LocalDate} are calculated directly from the epoch-day
+     * if the unit is a whole number of days.
+     * Other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param start  the start temporal, inclusive, not null
+     * @param end  the end temporal, exclusive, not null
+     * @param unit  the unit to calculate in, not null
+     * @param secondsPerUnit  the length of the unit in seconds, positive
+     * @return the number of whole units, may be negative
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    static int secondsBetween(Temporal start, Temporal end, TemporalUnit unit, long secondsPerUnit) {
+        long secs;
+        int nanos;
+        if (start instanceof LocalDate && end instanceof LocalDate && secondsPerUnit % SECONDS_PER_DAY == 0) {
+            long days = ((LocalDate) end).toEpochDay() - ((LocalDate) start).toEpochDay();
+            return Jdk8Methods.safeToInt(days / (secondsPerUnit / SECONDS_PER_DAY));
+        } else if (start instanceof Instant && end instanceof Instant) {
+            Instant startInstant = (Instant) start;
+            Instant endInstant = (Instant) end;
+            secs = endInstant.getEpochSecond() - startInstant.getEpochSecond();
+            nanos = endInstant.getNano() - startInstant.getNano();
+        } else if (start instanceof LocalDateTime && end instanceof LocalDateTime) {
+            LocalDateTime startDateTime = (LocalDateTime) start;
+            LocalDateTime endDateTime = (LocalDateTime) end;
+            secs = endDateTime.toEpochSecond(ZoneOffset.UTC) - startDateTime.toEpochSecond(ZoneOffset.UTC);
+            nanos = endDateTime.getNano() - startDateTime.getNano();
+        } else {
+            return Jdk8Methods.safeToInt(start.periodUntil(end, unit));
+        }
+        if (secs > 0 && nanos < 0) {
+            secs--;
+        } else if (secs < 0 && nanos > 0) {
+            secs++;
+        }
+        return Jdk8Methods.safeToInt(secs / secondsPerUnit);
+    }
+
+    /**
+     * Calculates the number of whole month-based units between two temporals.
+     * <p>
+     * Pairs of {@code LocalDate} and {@code YearMonth} are calculated directly
+     * from the proleptic-month.
+     * Other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param start  the start temporal, inclusive, not null
+     * @param end  the end temporal, exclusive, not null
+     * @param unit  the unit to calculate in, not null
+     * @param monthsPerUnit  the length of the unit in months, positive
+     * @return the number of whole units, may be negative
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the result overflows an {@code int}
+     */
+    static int monthsBetween(Temporal start, Temporal end, TemporalUnit unit, int monthsPerUnit) {
+        long months;
+        if (start instanceof LocalDate && end instanceof LocalDate) {
+            LocalDate startDate = (LocalDate) start;
+            LocalDate endDate = (LocalDate) end;
+            long packed1 = prolepticMonth(startDate.getYear(), startDate.getMonthValue()) * 32L + startDate.getDayOfMonth();
+            long packed2 = prolepticMonth(endDate.getYear(), endDate.getMonthValue()) * 32L + endDate.getDayOfMonth();
+            months = (packed2 - packed1) / 32;
+        } else if (start instanceof YearMonth && end instanceof YearMonth) {
+            YearMonth startMonth = (YearMonth) start;
+            YearMonth endMonth = (YearMonth) end;
+            months = prolepticMonth(endMonth.getYear(), endMonth.getMonthValue()) -
+                        prolepticMonth(startMonth.getYear(), startMonth.getMonthValue());
+        } else {
+            return Jdk8Methods.safeToInt(start.periodUntil(end, unit));
+        }
+        return Jdk8Methods.safeToInt(months / monthsPerUnit);
+    }
+
+    /**
+     * Sums an array of amounts, checking for overflow only on the final total.
+     *
+     * @param amounts  the amounts to sum, not null
+     * @return the total
+     * @throws ArithmeticException if the total overflows an {@code int}
+     */
+    static int sumOf(int[] amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        long total = 0;
+        for (int amount : amounts) {
+            total += amount;
+        }
+        return Jdk8Methods.safeToInt(total);
+    }
+
+    /**
+     * Finds the minimum of an array of amounts.
+     *
+     * @param amounts  the amounts to search, not null
+     * @return the minimum
+     * @throws IllegalArgumentException if the array is empty
+     */
+    static int minOf(int[] amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        if (amounts.length == 0) {
+            throw new IllegalArgumentException("Amounts array must not be empty");
+        }
+        int min = amounts[0];
+        for (int i = 1; i < amounts.length; i++) {
+            min = Math.min(min, amounts[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Finds the maximum of an array of amounts.
+     *
+     * @param amounts  the amounts to search, not null
+     * @return the maximum
+     * @throws IllegalArgumentException if the array is empty
+     */
+    static int maxOf(int[] amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        if (amounts.length == 0) {
+            throw new IllegalArgumentException("Amounts array must not be empty");
+        }
+        int max = amounts[0];
+        for (int i = 1; i < amounts.length; i++) {
+            max = Math.max(max, amounts[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Parses an ISO-8601 amount consisting of a single unit.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @param timeBased  true if the 'T' time designator is required
+     * @param unit  the upper-case unit designator
+     * @param typeName  the name of the type being parsed, not null
+     * @return the parsed amount
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    static int parseAmount(CharSequence text, int offset, int length, boolean timeBased, char unit, String typeName) {
+        return parseAmount(text, offset, length, timeBased, unit, unit, 1, typeName);
+    }
+
+    /**
+     * Parses an ISO-8601 amount consisting of a single unit, with an alternate unit.
+     * <p>
+     * The format is an optional sign, 'P', then 'T' if the unit is time-based,
+     * then an optionally signed number, then the unit designator.
+     * The letters are case insensitive. A leading minus negates the amount.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @param timeBased  true if the 'T' time designator is required
+     * @param unit  the upper-case unit designator
+     * @param alternateUnit  the upper-case designator of an alternate unit
+     * @param alternateMultiplier  the number of units in the alternate unit
+     * @param typeName  the name of the type being parsed, not null
+     * @return the parsed amount
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    static int parseAmount(
+            CharSequence text, int offset, int length, boolean timeBased,
+            char unit, char alternateUnit, int alternateMultiplier, String typeName) {
+        Objects.requireNonNull(text, "text");
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length: " + offset + ", " + length);
+        }
+        int end = offset + length;
+        int pos = offset;
+        boolean negate = false;
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate = (text.charAt(pos) == '-');
+            pos++;
+        }
+        if (pos >= end || Character.toUpperCase(text.charAt(pos)) != 'P') {
+            throw parseError(text, offset, end, pos, typeName);
+        }
+        pos++;
+        if (timeBased) {
+            if (pos >= end || Character.toUpperCase(text.charAt(pos)) != 'T') {
+                throw parseError(text, offset, end, pos, typeName);
+            }
+            pos++;
+        }
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate ^= (text.charAt(pos) == '-');
+            pos++;
+        }
+        int digitsStart = pos;
+        long value = 0;
+        while (pos < end) {
+            char ch = text.charAt(pos);
+            if (ch < '0' || ch > '9') {
+                break;
+            }
+            value = value * 10 + (ch - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw parseError(text, offset, end, digitsStart, typeName);
+            }
+            pos++;
+        }
+        if (pos == digitsStart || pos != end - 1) {
+            throw parseError(text, offset, end, pos, typeName);
+        }
+        char designator = Character.toUpperCase(text.charAt(pos));
+        if (designator == unit) {
+            // no conversion
+        } else if (designator == alternateUnit) {
+            value *= alternateMultiplier;
+        } else {
+            throw parseError(text, offset, end, pos, typeName);
+        }
+        value = (negate ? -value : value);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw parseError(text, offset, end, digitsStart, typeName);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Creates the exception for a parse error.
+     *
+     * @param text  the text being parsed, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param pos  the index of the error
+     * @param typeName  the name of the type being parsed, not null
+     * @return the exception, not null
+     */
+    private static DateTimeParseException parseError(CharSequence text, int start, int end, int pos, String typeName) {
+        return new DateTimeParseException("Text cannot be parsed to " + typeName, text.subSequence(start, end), pos - start);
+    }
+
+    /**
+     * Gets the proleptic-month, counting months sequentially from year 0.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @return the proleptic-month
+     */
+    private static long prolepticMonth(int year, int month) {
+        return year * 12L + month - 1;
     }
 
     //-----------------------------------------------------------------------
@@ -73,6 +389,16 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
      */
     public abstract T withAmount(int amount);
 
+    /**
+     * Creates a new instance of the subclass, bypassing the instance cache.
+     * <p>
+     * This is used to fill the cache, thus must not call the static factory.
+     *
+     * @param amount  the amount of time, may be negative
+     * @return a new amount, not null
+     */
+    abstract T create(int amount);
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -81,6 +407,162 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
      */
     public abstract TemporalUnit getUnit();
 
+    /**
+     * Gets the list of units, which contains only the unit of this amount.
+     *
+     * @return the list containing the unit, not null
+     */
+    @Override
+    public List<TemporalUnit> getUnits() {
+        return Collections.singletonList(getUnit());
+    }
+
+    /**
+     * Gets the amount of time for the requested unit.
+     *
+     * @param unit  the unit to query, not null
+     * @return the amount of time, may be negative
+     * @throws DateTimeException if the unit is not the unit of this amount
+     */
+    @Override
+    public long get(TemporalUnit unit) {
+        if (getUnit().equals(unit)) {
+            return getAmount();
+        }
+        throw new DateTimeException("Unsupported unit: " + unit);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds this amount to the specified temporal object.
+     * <p>
+     * {@code LocalDate}, {@code LocalDateTime}, {@code LocalTime} and {@code Instant}
+     * are adjusted by calling their method specific to the unit, such as {@code plusDays},
+     * where they have one. Other temporals and units use {@link Temporal#plus(long, TemporalUnit)}.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to add
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal addTo(Temporal temporal) {
+        int amount = getAmount();
+        if (temporal instanceof LocalDate) {
+            LocalDate date = (LocalDate) temporal;
+            if (this instanceof Days) {
+                return date.plusDays(amount);
+            } else if (this instanceof Weeks) {
+                return date.plusWeeks(amount);
+            } else if (this instanceof Months) {
+                return date.plusMonths(amount);
+            } else if (this instanceof Years) {
+                return date.plusYears(amount);
+            }
+        } else if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            if (this instanceof Seconds) {
+                return dateTime.plusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return dateTime.plusMinutes(amount);
+            } else if (this instanceof Hours) {
+                return dateTime.plusHours(amount);
+            } else if (this instanceof Days) {
+                return dateTime.plusDays(amount);
+            } else if (this instanceof Weeks) {
+                return dateTime.plusWeeks(amount);
+            } else if (this instanceof Months) {
+                return dateTime.plusMonths(amount);
+            } else if (this instanceof Years) {
+                return dateTime.plusYears(amount);
+            }
+        } else if (temporal instanceof LocalTime) {
+            LocalTime time = (LocalTime) temporal;
+            if (this instanceof Seconds) {
+                return time.plusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return time.plusMinutes(amount);
+            } else if (this instanceof Hours) {
+                return time.plusHours(amount);
+            }
+        } else if (temporal instanceof Instant) {
+            Instant instant = (Instant) temporal;
+            if (this instanceof Seconds) {
+                return instant.plusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return instant.plusSeconds(amount * 60L);
+            } else if (this instanceof Hours) {
+                return instant.plusSeconds(amount * 3600L);
+            }
+        }
+        return temporal.plus(amount, getUnit());
+    }
+
+    /**
+     * Subtracts this amount from the specified temporal object.
+     * <p>
+     * {@code LocalDate}, {@code LocalDateTime}, {@code LocalTime} and {@code Instant}
+     * are adjusted by calling their method specific to the unit, such as {@code minusDays},
+     * where they have one. Other temporals and units use {@link Temporal#minus(long, TemporalUnit)}.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to subtract
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal subtractFrom(Temporal temporal) {
+        int amount = getAmount();
+        if (temporal instanceof LocalDate) {
+            LocalDate date = (LocalDate) temporal;
+            if (this instanceof Days) {
+                return date.minusDays(amount);
+            } else if (this instanceof Weeks) {
+                return date.minusWeeks(amount);
+            } else if (this instanceof Months) {
+                return date.minusMonths(amount);
+            } else if (this instanceof Years) {
+                return date.minusYears(amount);
+            }
+        } else if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            if (this instanceof Seconds) {
+                return dateTime.minusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return dateTime.minusMinutes(amount);
+            } else if (this instanceof Hours) {
+                return dateTime.minusHours(amount);
+            } else if (this instanceof Days) {
+                return dateTime.minusDays(amount);
+            } else if (this instanceof Weeks) {
+                return dateTime.minusWeeks(amount);
+            } else if (this instanceof Months) {
+                return dateTime.minusMonths(amount);
+            } else if (this instanceof Years) {
+                return dateTime.minusYears(amount);
+            }
+        } else if (temporal instanceof LocalTime) {
+            LocalTime time = (LocalTime) temporal;
+            if (this instanceof Seconds) {
+                return time.minusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return time.minusMinutes(amount);
+            } else if (this instanceof Hours) {
+                return time.minusHours(amount);
+            }
+        } else if (temporal instanceof Instant) {
+            Instant instant = (Instant) temporal;
+            if (this instanceof Seconds) {
+                return instant.minusSeconds(amount);
+            } else if (this instanceof Minutes) {
+                return instant.minusSeconds(amount * 60L);
+            } else if (this instanceof Hours) {
+                return instant.minusSeconds(amount * 3600L);
+            }
+        }
+        return temporal.minus(amount, getUnit());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a new instance with the specified amount of time added.
@@ -172,9 +654,136 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
         return -value;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a new instance with the specified amount of time added,
+     * saturating at the {@code int} range instead of throwing.
+     * <p>
+     * If the result would be greater than {@code Integer.MAX_VALUE} then
+     * {@code Integer.MAX_VALUE} is used, and similarly for the minimum.
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amount  the amount of time to add, may be negative
+     * @return the new amount plus the specified amount of time, not null
+     */
+    public T plusSaturated(int amount) {
+        return withAmount(saturate((long) getAmount() + amount));
+    }
+
+    /**
+     * Returns a new instance with the specified amount of time subtracted,
+     * saturating at the {@code int} range instead of throwing.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amount  the amount of time to take away, may be negative
+     * @return the new amount minus the specified amount of time, not null
+     */
+    public T minusSaturated(int amount) {
+        return withAmount(saturate((long) getAmount() - amount));
+    }
+
+    /**
+     * Returns a new instance with the amount multiplied by the specified scalar,
+     * saturating at the {@code int} range instead of throwing.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param scalar  the amount to multiply by, may be negative
+     * @return the new amount multiplied by the specified scalar, not null
+     */
+    public T multipliedBySaturated(int scalar) {
+        return withAmount(saturate((long) getAmount() * scalar));
+    }
+
+    /**
+     * Returns a new instance with the amount negated,
+     * saturating at the {@code int} range instead of throwing.
+     * <p>
+     * Negating {@code Integer.MIN_VALUE} returns {@code Integer.MAX_VALUE}.
+     *
+     * @return the new amount with a negated amount, not null
+     */
+    public T negatedSaturated() {
+        return withAmount(saturate(-(long) getAmount()));
+    }
+
+    /**
+     * Clamps the value to the {@code int} range.
+     *
+     * @param value  the value to clamp
+     * @return the clamped value
+     */
+    private static int saturate(long value) {
+        return (value > Integer.MAX_VALUE ? Integer.MAX_VALUE : (value < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) value));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a new instance with the specified amount of time added,
+     * returning null instead of throwing if the result overflows.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amount  the amount of time to add, may be negative
+     * @return the new amount plus the specified amount of time, null if the result overflows an {@code int}
+     */
+    public T tryPlus(int amount) {
+        return orNull((long) getAmount() + amount);
+    }
+
+    /**
+     * Returns a new instance with the specified amount of time subtracted,
+     * returning null instead of throwing if the result overflows.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param amount  the amount of time to take away, may be negative
+     * @return the new amount minus the specified amount of time, null if the result overflows an {@code int}
+     */
+    public T tryMinus(int amount) {
+        return orNull((long) getAmount() - amount);
+    }
+
+    /**
+     * Returns a new instance with the amount multiplied by the specified scalar,
+     * returning null instead of throwing if the result overflows.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param scalar  the amount to multiply by, may be negative
+     * @return the new amount multiplied by the specified scalar, null if the result overflows an {@code int}
+     */
+    public T tryMultipliedBy(int scalar) {
+        return orNull((long) getAmount() * scalar);
+    }
+
+    /**
+     * Returns a new instance with the amount negated,
+     * returning null instead of throwing if the result overflows.
+     *
+     * @return the new amount with a negated amount, null if the amount is {@code Integer.MIN_VALUE}
+     */
+    public T tryNegated() {
+        return orNull(-(long) getAmount());
+    }
+
+    /**
+     * Returns an instance with the specified amount, or null if it is outside the {@code int} range.
+     *
+     * @param value  the new amount
+     * @return the new amount, null if the value overflows an {@code int}
+     */
+    private T orNull(long value) {
+        return (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE ? null : withAmount((int) value));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares the amount of time in this instance to another instance.
+     * <p>
+     * Amounts of different types can only be compared using raw types.
+     * They are ordered by unit hash, consistent with {@code equals}.
      *
      * @param other  the other amount, not null
      * @return the comparator value, negative if less, positive if greater
@@ -182,6 +791,10 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
      */
     @Override
     public int compareTo(T other) {
+        int otherUnitHash = ((AbstractSimpleAmount<?>) other).unitHash;
+        if (unitHash != otherUnitHash) {
+            return (unitHash < otherUnitHash ? -1 : 1);
+        }
         int thisValue = this.getAmount();
         int otherValue = other.getAmount();
         return (thisValue < otherValue ? -1 : (thisValue == otherValue ? 0 : 1));
@@ -212,6 +825,9 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
     //-----------------------------------------------------------------------
     /**
      * Is this instance equal to that specified.
+     * <p>
+     * Each subclass has a single unit, thus comparing the unit hash, which is
+     * distinct for each subclass, and the amount is sufficient.
      *
      * @param obj  the other amount of time, null returns false
      * @return true if this amount of time is the same as that specified
@@ -221,21 +837,24 @@ abstract class AbstractSimpleAmount<T extends AbstractSimpleAmount<T>> implement
         if (this == obj) {
            return true;
         }
-        if (obj instanceof AbstractSimpleAmount<?>) {
+        if (obj instanceof AbstractSimpleAmount) {
             AbstractSimpleAmount<?> other = (AbstractSimpleAmount<?>) obj;
-            return getAmount() == other.getAmount() && getUnit().equals(other.getUnit());
+            return unitHash == other.unitHash && getAmount() == other.getAmount();
         }
         return false;
     }
 
     /**
      * Returns the hash code for this amount.
+     * <p>
+     * The hash code is the same in every run of the JVM, as the unit part is
+     * derived from the name of the unit rather than its identity hash code.
      *
      * @return a suitable hash code
      */
     @Override
     public int hashCode() {
-        return getUnit().hashCode() ^ getAmount();
+        return unitHash ^ getAmount();
     }
 
     //-----------------------------------------------------------------------
@@ -39,7 +39,10 @@ import java.util.Calendar;
 import java.util.Locale;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
@@ -49,6 +52,7 @@ import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalQuery;
 import org.threeten.bp.temporal.ValueRange;
+import org.threeten.extra.internal.DisplayNames;
 
 /**
  * A half-day before or after midday, with the values 'AM' and 'PM'.
@@ -127,6 +131,8 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * This factory converts the arbitrary temporal object to an instance of {@code DayOfWeek}.
      * <p>
      * The conversion extracts the {@link ChronoField#AMPM_OF_DAY AMPM_OF_DAY} field.
+     * {@code LocalTime}, {@code LocalDateTime}, {@code OffsetDateTime} and {@code ZonedDateTime}
+     * are handled directly from the hour-of-day.
      * <p>
      * This method matches the signature of the functional interface {@link TemporalQuery}
      * allowing it to be used as a query via method reference, {@code AmPm::from}.
@@ -139,6 +145,18 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
         if (temporal instanceof AmPm) {
             return (AmPm) temporal;
         }
+        if (temporal instanceof LocalTime) {
+            return ((LocalTime) temporal).getHour() < 12 ? AM : PM;
+        }
+        if (temporal instanceof LocalDateTime) {
+            return ((LocalDateTime) temporal).getHour() < 12 ? AM : PM;
+        }
+        if (temporal instanceof ZonedDateTime) {
+            return ((ZonedDateTime) temporal).getHour() < 12 ? AM : PM;
+        }
+        if (temporal instanceof OffsetDateTime) {
+            return ((OffsetDateTime) temporal).getHour() < 12 ? AM : PM;
+        }
         return of(temporal.get(AMPM_OF_DAY));
     }
 
@@ -168,7 +186,7 @@ public enum AmPm implements TemporalAccessor, TemporalAdjuster {
      * @return the text value of the AM/PM, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(AMPM_OF_DAY, style).toFormatter(locale).format(this);
+        return DisplayNames.displayName(this, AMPM_OF_DAY, style, locale);
     }
 
     //-----------------------------------------------------------------------
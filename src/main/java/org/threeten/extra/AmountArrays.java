@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalAmount;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * Bulk operations on arrays of amounts of time.
+ * <p>
+ * Most of these operate on the raw amounts of a single unit held as primitive
+ * {@code int} values, such as an array of hours, without creating an object per value.
+ * The sum, minimum and maximum of an array are available as factories on each
+ * amount class, such as {@link Hours#sum(int[])}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class AmountArrays {
+
+    /**
+     * Restricted constructor.
+     */
+    private AmountArrays() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Counts the amounts falling into each of a sequence of equal width buckets.
+     * <p>
+     * Bucket {@code n} counts the amounts from {@code n * bucketWidth} inclusive to
+     * {@code (n + 1) * bucketWidth} exclusive.
+     * The first and last buckets are open-ended, so amounts less than zero are
+     * counted in the first bucket and amounts beyond the last bucket in the last.
+     *
+     * @param amounts  the amounts to count, not null
+     * @param bucketWidth  the width of each bucket, in the unit of the amounts, positive
+     * @param bucketCount  the number of buckets, positive
+     * @return the count of amounts in each bucket, not null
+     * @throws IllegalArgumentException if the width or count is not positive
+     */
+    public static int[] histogram(int[] amounts, int bucketWidth, int bucketCount) {
+        Objects.requireNonNull(amounts, "amounts");
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive: " + bucketWidth);
+        }
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive: " + bucketCount);
+        }
+        int[] counts = new int[bucketCount];
+        int last = bucketCount - 1;
+        for (int amount : amounts) {
+            int bucket = (amount < 0 ? 0 : amount / bucketWidth);
+            counts[bucket > last ? last : bucket]++;
+        }
+        return counts;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of amounts from one unit to another.
+     * <p>
+     * This returns a new array, see {@link #convert(int[], TemporalUnit, TemporalUnit, int[])}.
+     *
+     * @param amounts  the amounts to convert, not null
+     * @param fromUnit  the unit of the amounts, not null
+     * @param toUnit  the unit to convert to, not null
+     * @return the converted amounts, not null
+     * @throws DateTimeException if the units cannot be converted exactly
+     * @throws ArithmeticException if a converted amount exceeds an {@code int}
+     */
+    public static int[] convert(int[] amounts, TemporalUnit fromUnit, TemporalUnit toUnit) {
+        Objects.requireNonNull(amounts, "amounts");
+        int[] result = new int[amounts.length];
+        convert(amounts, fromUnit, toUnit, result);
+        return result;
+    }
+
+    /**
+     * Converts an array of amounts from one unit to another, storing the
+     * result in the specified array.
+     * <p>
+     * Conversion is only supported between units that have an exact relationship.
+     * These are the time-based units from {@code NANOS} to {@code HALF_DAYS},
+     * {@code DAYS} and {@code WEEKS}, and the month-based units from {@code MONTHS}
+     * to {@code MILLENNIA}. For example, hours may be converted to minutes and
+     * weeks to days, but days may not be converted to hours.
+     * <p>
+     * Converting to a larger unit truncates towards zero, thus 90 minutes is 1 hour.
+     * The source and result may be the same array.
+     *
+     * @param amounts  the amounts to convert, not null
+     * @param fromUnit  the unit of the amounts, not null
+     * @param toUnit  the unit to convert to, not null
+     * @param result  the array to store the converted amounts in, at least as long as the amounts, not null
+     * @throws IllegalArgumentException if the result array is too short
+     * @throws DateTimeException if the units cannot be converted exactly
+     * @throws ArithmeticException if a converted amount exceeds an {@code int}
+     */
+    public static void convert(int[] amounts, TemporalUnit fromUnit, TemporalUnit toUnit, int[] result) {
+        Objects.requireNonNull(amounts, "amounts");
+        Objects.requireNonNull(fromUnit, "fromUnit");
+        Objects.requireNonNull(toUnit, "toUnit");
+        Objects.requireNonNull(result, "result");
+        if (result.length < amounts.length) {
+            throw new IllegalArgumentException("Result array is too short: " + result.length);
+        }
+        int fromGroup = group(fromUnit);
+        int toGroup = group(toUnit);
+        if (fromGroup != toGroup) {
+            throw new DateTimeException("Unable to convert " + fromUnit + " to " + toUnit);
+        }
+        long fromLength = length(fromUnit, fromGroup);
+        long toLength = length(toUnit, toGroup);
+        if (fromLength >= toLength) {
+            long multiplier = fromLength / toLength;
+            for (int i = 0; i < amounts.length; i++) {
+                result[i] = Jdk8Methods.safeToInt(Jdk8Methods.safeMultiply(amounts[i], multiplier));
+            }
+        } else {
+            long divisor = toLength / fromLength;
+            for (int i = 0; i < amounts.length; i++) {
+                result[i] = (int) (amounts[i] / divisor);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sums amounts of different units into a single {@code Duration}.
+     * <p>
+     * {@link Hours}, {@link Minutes}, {@link Seconds} and {@code Duration} are
+     * added directly without intermediate objects. Any other amount is added
+     * unit by unit, and must only contain units with an exact duration.
+     * Thus days, months and years are rejected.
+     *
+     * @param amounts  the amounts to sum, not null, containing no nulls
+     * @return the total duration, not null
+     * @throws DateTimeException if an amount has a unit with an estimated duration
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static Duration totalDuration(TemporalAmount... amounts) {
+        Objects.requireNonNull(amounts, "amounts");
+        long seconds = 0;
+        long nanos = 0;
+        for (TemporalAmount amount : amounts) {
+            if (amount instanceof Seconds) {
+                seconds = Jdk8Methods.safeAdd(seconds, ((Seconds) amount).getAmount());
+            } else if (amount instanceof Minutes) {
+                seconds = Jdk8Methods.safeAdd(seconds, ((Minutes) amount).getAmount() * 60L);
+            } else if (amount instanceof Hours) {
+                seconds = Jdk8Methods.safeAdd(seconds, ((Hours) amount).getAmount() * 3600L);
+            } else if (amount instanceof Duration) {
+                Duration duration = (Duration) amount;
+                seconds = Jdk8Methods.safeAdd(seconds, duration.getSeconds());
+                nanos += duration.getNano();
+            } else {
+                Objects.requireNonNull(amount, "amount");
+                for (TemporalUnit unit : amount.getUnits()) {
+                    if (unit.isDurationEstimated()) {
+                        throw new DateTimeException("Unit must not have an estimated duration: " + unit);
+                    }
+                    Duration duration = unit.getDuration().multipliedBy(amount.get(unit));
+                    seconds = Jdk8Methods.safeAdd(seconds, duration.getSeconds());
+                    nanos += duration.getNano();
+                }
+            }
+        }
+        return Duration.ofSeconds(seconds, nanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the group of units that can be converted exactly between each other.
+     *
+     * @param unit  the unit, not null
+     * @return the group, 0 for time-based, 1 for day-based, 2 for month-based
+     * @throws DateTimeException if the unit is not supported
+     */
+    private static int group(TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case NANOS:
+                case MICROS:
+                case MILLIS:
+                case SECONDS:
+                case MINUTES:
+                case HOURS:
+                case HALF_DAYS:
+                    return 0;
+                case DAYS:
+                case WEEKS:
+                    return 1;
+                case MONTHS:
+                case YEARS:
+                case DECADES:
+                case CENTURIES:
+                case MILLENNIA:
+                    return 2;
+                default:
+                    break;
+            }
+        }
+        throw new DateTimeException("Unsupported unit: " + unit);
+    }
+
+    /**
+     * Gets the length of the unit, in nanoseconds for time-based units and seconds otherwise.
+     *
+     * @param unit  the unit, not null
+     * @param group  the group of the unit
+     * @return the length of the unit
+     */
+    private static long length(TemporalUnit unit, int group) {
+        return (group == 0 ? unit.getDuration().toNanos() : unit.getDuration().getSeconds());
+    }
+
+}
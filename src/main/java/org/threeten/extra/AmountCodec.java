@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.threeten.bp.temporal.TemporalAmount;
+
+/**
+ * A compact binary codec for the simple amount classes.
+ * <p>
+ * This encodes {@link Days}, {@link Hours}, {@link Minutes}, {@link Months},
+ * {@link Seconds}, {@link Weeks} and {@link Years} as a one byte unit tag followed
+ * by the amount as a zig-zag encoded variable length integer.
+ * Each amount occupies between two and six bytes, with amounts from -64 to 63
+ * taking two bytes. The same format is used by Java serialization of these classes.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class AmountCodec {
+
+    /** The tag for {@code Days}. */
+    static final byte DAYS_TYPE = 1;
+    /** The tag for {@code Hours}. */
+    static final byte HOURS_TYPE = 2;
+    /** The tag for {@code Minutes}. */
+    static final byte MINUTES_TYPE = 3;
+    /** The tag for {@code Months}. */
+    static final byte MONTHS_TYPE = 4;
+    /** The tag for {@code Seconds}. */
+    static final byte SECONDS_TYPE = 5;
+    /** The tag for {@code Weeks}. */
+    static final byte WEEKS_TYPE = 6;
+    /** The tag for {@code Years}. */
+    static final byte YEARS_TYPE = 7;
+    /**
+     * The maximum number of bytes in an encoded amount.
+     */
+    public static final int MAX_ENCODED_LENGTH = 6;
+
+    /**
+     * Restricted constructor.
+     */
+    private AmountCodec() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of bytes needed to encode the amount.
+     *
+     * @param amount  the amount to encode, one of the simple amount classes, not null
+     * @return the encoded length, from 2 to 6
+     * @throws IllegalArgumentException if the amount is not a simple amount
+     */
+    public static int encodedLength(TemporalAmount amount) {
+        int zigZag = zigZag(amountOf(amount));
+        int length = 2;
+        while ((zigZag & ~0x7F) != 0) {
+            zigZag >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the amount to the output.
+     *
+     * @param amount  the amount to encode, one of the simple amount classes, not null
+     * @param out  the output to write to, not null
+     * @throws IllegalArgumentException if the amount is not a simple amount
+     * @throws IOException if an error occurs
+     */
+    public static void write(TemporalAmount amount, DataOutput out) throws IOException {
+        Objects.requireNonNull(out, "out");
+        byte type = typeOf(amount);
+        int zigZag = zigZag(amountOf(amount));
+        out.writeByte(type);
+        while ((zigZag & ~0x7F) != 0) {
+            out.writeByte((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        out.writeByte(zigZag);
+    }
+
+    /**
+     * Reads an amount from the input.
+     *
+     * @param in  the input to read from, not null
+     * @return the decoded amount, one of the simple amount classes, not null
+     * @throws StreamCorruptedException if the input is not a valid encoded amount
+     * @throws IOException if an error occurs
+     */
+    public static TemporalAmount read(DataInput in) throws IOException {
+        Objects.requireNonNull(in, "in");
+        byte type = in.readByte();
+        int zigZag = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 28) {
+                throw new StreamCorruptedException("Invalid encoded amount");
+            }
+            byte b = in.readByte();
+            if (shift == 28 && (b & 0x70) != 0) {
+                throw new StreamCorruptedException("Invalid encoded amount");
+            }
+            zigZag |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        TemporalAmount amount = create(type, unZigZag(zigZag));
+        if (amount == null) {
+            throw new StreamCorruptedException("Unknown amount type: " + type);
+        }
+        return amount;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the amount to the buffer at its current position.
+     * <p>
+     * The position of the buffer is advanced by the encoded length.
+     *
+     * @param amount  the amount to encode, one of the simple amount classes, not null
+     * @param buffer  the buffer to write to, not null
+     * @throws IllegalArgumentException if the amount is not a simple amount
+     * @throws java.nio.BufferOverflowException if the buffer has insufficient space
+     */
+    public static void write(TemporalAmount amount, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        byte type = typeOf(amount);
+        int zigZag = zigZag(amountOf(amount));
+        buffer.put(type);
+        while ((zigZag & ~0x7F) != 0) {
+            buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        buffer.put((byte) zigZag);
+    }
+
+    /**
+     * Reads an amount from the buffer at its current position.
+     * <p>
+     * The position of the buffer is advanced by the encoded length.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the decoded amount, one of the simple amount classes, not null
+     * @throws IllegalArgumentException if the buffer does not contain a valid encoded amount
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the amount
+     */
+    public static TemporalAmount read(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        byte type = buffer.get();
+        int zigZag = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 28) {
+                throw new IllegalArgumentException("Invalid encoded amount");
+            }
+            byte b = buffer.get();
+            if (shift == 28 && (b & 0x70) != 0) {
+                throw new IllegalArgumentException("Invalid encoded amount");
+            }
+            zigZag |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+        }
+        TemporalAmount amount = create(type, unZigZag(zigZag));
+        if (amount == null) {
+            throw new IllegalArgumentException("Unknown amount type: " + type);
+        }
+        return amount;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the type tag of the amount.
+     *
+     * @param amount  the amount, not null
+     * @return the type tag
+     * @throws IllegalArgumentException if the amount is not a simple amount
+     */
+    private static byte typeOf(TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        if (amount instanceof Days) {
+            return DAYS_TYPE;
+        } else if (amount instanceof Hours) {
+            return HOURS_TYPE;
+        } else if (amount instanceof Minutes) {
+            return MINUTES_TYPE;
+        } else if (amount instanceof Months) {
+            return MONTHS_TYPE;
+        } else if (amount instanceof Seconds) {
+            return SECONDS_TYPE;
+        } else if (amount instanceof Weeks) {
+            return WEEKS_TYPE;
+        } else if (amount instanceof Years) {
+            return YEARS_TYPE;
+        }
+        throw new IllegalArgumentException("Unsupported amount type: " + amount.getClass().getName());
+    }
+
+    /**
+     * Gets the amount of a simple amount.
+     *
+     * @param amount  the amount, not null
+     * @return the amount
+     * @throws IllegalArgumentException if the amount is not a simple amount
+     */
+    private static int amountOf(TemporalAmount amount) {
+        typeOf(amount);
+        return ((AbstractSimpleAmount<?>) amount).getAmount();
+    }
+
+    /**
+     * Creates the amount from the type tag.
+     *
+     * @param type  the type tag
+     * @param amount  the amount
+     * @return the amount, null if the type is unknown
+     */
+    static TemporalAmount create(byte type, int amount) {
+        switch (type) {
+            case DAYS_TYPE:
+                return Days.of(amount);
+            case HOURS_TYPE:
+                return Hours.of(amount);
+            case MINUTES_TYPE:
+                return Minutes.of(amount);
+            case MONTHS_TYPE:
+                return Months.of(amount);
+            case SECONDS_TYPE:
+                return Seconds.of(amount);
+            case WEEKS_TYPE:
+                return Weeks.of(amount);
+            case YEARS_TYPE:
+                return Years.of(amount);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Zig-zag encodes the value, so that small negative values are small unsigned values.
+     *
+     * @param value  the value to encode
+     * @return the encoded value
+     */
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Decodes a zig-zag encoded value.
+     *
+     * @param value  the encoded value
+     * @return the decoded value
+     */
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
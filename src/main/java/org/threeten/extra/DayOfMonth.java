@@ -35,10 +35,10 @@ import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoUnit.DAYS;
 
 import java.io.Serializable;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.MonthDay;
 import org.threeten.bp.YearMonth;
@@ -68,9 +68,14 @@ public final class DayOfMonth
      */
     private static final long serialVersionUID = -8840172642009917873L;
     /**
-     * Cache of singleton instances.
+     * Cache of singleton instances, indexed by day-of-month minus one.
      */
-    private static final AtomicReferenceArray<DayOfMonth> CACHE = new AtomicReferenceArray<DayOfMonth>(31);
+    private static final DayOfMonth[] CACHE = new DayOfMonth[31];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new DayOfMonth(i + 1);
+        }
+    }
 
     /**
      * The day-of-month being represented, from 1 to 31.
@@ -88,17 +93,10 @@ public final class DayOfMonth
      * @throws DateTimeException if the day-of-month is invalid
      */
     public static DayOfMonth of(int dayOfMonth) {
-        try {
-            DayOfMonth result = CACHE.get(--dayOfMonth);
-            if (result == null) {
-                DayOfMonth temp = new DayOfMonth(dayOfMonth + 1);
-                CACHE.compareAndSet(dayOfMonth, null, temp);
-                result = CACHE.get(dayOfMonth);
-            }
-            return result;
-        } catch (IndexOutOfBoundsException ex) {
-            throw new DateTimeException("Invalid value for DayOfMonth: " + ++dayOfMonth);
+        if (dayOfMonth < 1 || dayOfMonth > 31) {
+            throw new DateTimeException("Invalid value for DayOfMonth: " + dayOfMonth);
         }
+        return CACHE[dayOfMonth - 1];
     }
 
     //-----------------------------------------------------------------------
@@ -121,6 +119,15 @@ public final class DayOfMonth
         if (temporal instanceof DayOfMonth) {
             return (DayOfMonth) temporal;
         }
+        if (temporal instanceof LocalDate) {
+            return CACHE[((LocalDate) temporal).getDayOfMonth() - 1];
+        }
+        if (temporal instanceof LocalDateTime) {
+            return CACHE[((LocalDateTime) temporal).getDayOfMonth() - 1];
+        }
+        if (temporal instanceof MonthDay) {
+            return CACHE[((MonthDay) temporal).getDayOfMonth() - 1];
+        }
         return of(temporal.get(DAY_OF_MONTH));
     }
 
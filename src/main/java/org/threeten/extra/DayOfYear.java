@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+
+import java.io.Serializable;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * A representation of a day-of-year in the ISO-8601 calendar system.
+ * <p>
+ * {@code DayOfYear} allows the day-of-year to be represented in a type-safe way.
+ * The value can range from 1 to 366, as there is no year to validate against.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class DayOfYear
+        implements Comparable<DayOfYear>, TemporalAccessor, TemporalAdjuster, Serializable {
+
+    /**
+     * A serialization identifier for this instance.
+     */
+    private static final long serialVersionUID = -8789692114017384034L;
+    /**
+     * Cache of singleton instances, indexed by day-of-year minus one.
+     */
+    private static final DayOfYear[] CACHE = new DayOfYear[366];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new DayOfYear(i + 1);
+        }
+    }
+
+    /**
+     * The day-of-year being represented, from 1 to 366.
+     */
+    private final int dayOfYear;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code DayOfYear}.
+     * <p>
+     * A day-of-year object represents one of the 366 days of the year, from 1 to 366.
+     *
+     * @param dayOfYear  the day-of-year to represent, from 1 to 366
+     * @return the day-of-year, not null
+     * @throws DateTimeException if the day-of-year is invalid
+     */
+    public static DayOfYear of(int dayOfYear) {
+        if (dayOfYear < 1 || dayOfYear > 366) {
+            throw new DateTimeException("Invalid value for DayOfYear: " + dayOfYear);
+        }
+        return CACHE[dayOfYear - 1];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code DayOfYear} from a temporal object.
+     * <p>
+     * A {@code TemporalAccessor} represents some form of date and time information.
+     * This factory converts the arbitrary temporal object to an instance of {@code DayOfYear}.
+     * <p>
+     * The conversion extracts the {@link ChronoField#DAY_OF_YEAR DAY_OF_YEAR} field.
+     * <p>
+     * This method matches the signature of the functional interface {@link TemporalQuery}
+     * allowing it to be used as a query via method reference, {@code DayOfYear::from}.
+     *
+     * @param temporal  the temporal object to convert, not null
+     * @return the day-of-year, not null
+     * @throws DateTimeException if unable to convert to a {@code DayOfYear}
+     */
+    public static DayOfYear from(TemporalAccessor temporal) {
+        if (temporal instanceof DayOfYear) {
+            return (DayOfYear) temporal;
+        }
+        if (temporal instanceof LocalDate) {
+            return CACHE[((LocalDate) temporal).getDayOfYear() - 1];
+        }
+        if (temporal instanceof LocalDateTime) {
+            return CACHE[((LocalDateTime) temporal).getDayOfYear() - 1];
+        }
+        return of(temporal.get(DAY_OF_YEAR));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance with the specified day-of-year.
+     *
+     * @param dayOfYear  the day-of-year to represent
+     */
+    private DayOfYear(int dayOfYear) {
+        this.dayOfYear = dayOfYear;
+    }
+
+    /**
+     * Resolve the singleton.
+     *
+     * @return the singleton, not null
+     */
+    private Object readResolve() {
+        return of(dayOfYear);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the field that defines how the day-of-year field operates.
+     * <p>
+     * The field provides access to the minimum and maximum values, and a
+     * generic way to access values within a date-time.
+     *
+     * @return the day-of-year field, not null
+     */
+    public TemporalField getField() {
+        return DAY_OF_YEAR;
+    }
+
+    /**
+     * Gets the day-of-year value.
+     *
+     * @return the day-of-year, from 1 to 366
+     */
+    public int getValue() {
+        return dayOfYear;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified field is supported.
+     * <p>
+     * This checks if this day-of-year can be queried for the specified field.
+     * If false, then calling the {@link #range(TemporalField) range} and
+     * {@link #get(TemporalField) get} methods will throw an exception.
+     * <p>
+     * If the field is {@link ChronoField#DAY_OF_YEAR DAY_OF_YEAR} then
+     * this method returns true.
+     * All other {@code ChronoField} instances will return false.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.isSupportedBy(TemporalAccessor)}
+     * passing {@code this} as the argument.
+     * Whether the field is supported is determined by the field.
+     *
+     * @param field  the field to check, null returns false
+     * @return true if the field is supported on this day-of-year, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field == DAY_OF_YEAR;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Gets the range of valid values for the specified field.
+     * <p>
+     * The range object expresses the minimum and maximum valid values for a field.
+     * This day-of-year is used to enhance the accuracy of the returned range.
+     * If it is not possible to return the range, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     * <p>
+     * If the field is {@link ChronoField#DAY_OF_YEAR DAY_OF_YEAR} then the
+     * range of the day-of-year, from 1 to 366, will be returned.
+     * All other {@code ChronoField} instances will throw a {@code DateTimeException}.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.rangeRefinedBy(TemporalAccessor)}
+     * passing {@code this} as the argument.
+     * Whether the range can be obtained is determined by the field.
+     *
+     * @param field  the field to query the range for, not null
+     * @return the range of valid values for the field, not null
+     * @throws DateTimeException if the range for the field cannot be obtained
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field == DAY_OF_YEAR) {
+            return field.range();
+        } else if (field instanceof ChronoField) {
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    /**
+     * Gets the value of the specified field from this day-of-year as an {@code int}.
+     * <p>
+     * This queries this day-of-year for the value for the specified field.
+     * The returned value will always be within the valid range of values for the field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     * <p>
+     * If the field is {@link ChronoField#DAY_OF_YEAR DAY_OF_YEAR} then the
+     * value of the day-of-year, from 1 to 366, will be returned.
+     * All other {@code ChronoField} instances will throw a {@code DateTimeException}.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.getFrom(TemporalAccessor)}
+     * passing {@code this} as the argument. Whether the value can be obtained,
+     * and what the value represents, is determined by the field.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field, within the valid range of values
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws DateTimeException if the range of valid values for the field exceeds an {@code int}
+     * @throws DateTimeException if the value is outside the range of valid values for the field
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public int get(TemporalField field) {
+        if (field == DAY_OF_YEAR) {
+            return getValue();
+        }
+        return range(field).checkValidIntValue(getLong(field), field);
+    }
+
+    /**
+     * Gets the value of the specified field from this day-of-year as a {@code long}.
+     * <p>
+     * This queries this day-of-year for the value for the specified field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     * <p>
+     * If the field is {@link ChronoField#DAY_OF_YEAR DAY_OF_YEAR} then the
+     * value of the day-of-year, from 1 to 366, will be returned.
+     * All other {@code ChronoField} instances will throw a {@code DateTimeException}.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.getFrom(TemporalAccessor)}
+     * passing {@code this} as the argument. Whether the value can be obtained,
+     * and what the value represents, is determined by the field.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public long getLong(TemporalField field) {
+        if (field == DAY_OF_YEAR) {
+            return getValue();
+        } else if (field instanceof ChronoField) {
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.getFrom(this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Queries this day-of-year using the specified query.
+     * <p>
+     * This queries this day-of-year using the specified query strategy object.
+     * The {@code TemporalQuery} object defines the logic to be used to
+     * obtain the result. Read the documentation of the query to understand
+     * what the result of this method will be.
+     * <p>
+     * The result of this method is obtained by invoking the
+     * {@link TemporalQuery#queryFrom(TemporalAccessor)} method on the
+     * specified query passing {@code this} as the argument.
+     *
+     * @param <R> the type of the result
+     * @param query  the query to invoke, not null
+     * @return the query result, null may be returned (defined by the query)
+     * @throws DateTimeException if unable to query (defined by the query)
+     * @throws ArithmeticException if numeric overflow occurs (defined by the query)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(TemporalQuery<R> query) {
+        if (query == TemporalQueries.precision()) {
+            return (R) DAYS;
+        } else if (query == TemporalQueries.zoneId() || query == TemporalQueries.chronology()) {
+            return null;
+        }
+        return query.queryFrom(this);
+    }
+
+    /**
+     * Adjusts the specified temporal object to have this day-of-year.
+     * <p>
+     * This returns a temporal object of the same observable type as the input
+     * with the day-of-year changed to be the same as this.
+     * <p>
+     * The adjustment is equivalent to using {@link Temporal#with(TemporalField, long)}
+     * passing {@link ChronoField#DAY_OF_YEAR} as the field.
+     * <p>
+     * In most cases, it is clearer to reverse the calling pattern by using
+     * {@link Temporal#with(TemporalAdjuster)}:
+     * <pre>
+     *   // these two lines are equivalent, but the second approach is recommended
+     *   temporal = thisDayOfYear.adjustInto(temporal);
+     *   temporal = temporal.with(thisDayOfYear);
+     * </pre>
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the target object to be adjusted, not null
+     * @return the adjusted object, not null
+     * @throws DateTimeException if unable to make the adjustment
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal adjustInto(Temporal temporal) {
+        return temporal.with(DAY_OF_YEAR, getValue());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the year is valid for this day-of-year.
+     * <p>
+     * This method checks whether this day-of-year and the input year form
+     * a valid date. This can only return false for day-of-year 366.
+     *
+     * @param year  the year to validate
+     * @return true if the year is valid for this day-of-year
+     */
+    public boolean isValidYear(int year) {
+        return (dayOfYear < 366 || Year.isLeap(year));
+    }
+
+    /**
+     * Combines this day-of-year with a year to create a {@code LocalDate}.
+     * <p>
+     * This returns a {@code LocalDate} formed from this day and the specified year.
+     * <p>
+     * A day-of-year of 366 will only be valid in a leap year.
+     *
+     * @param year  the year to use, from {@code Year.MIN_VALUE} to {@code Year.MAX_VALUE}
+     * @return the local date formed from this day and the specified year, not null
+     * @throws DateTimeException if the year is invalid or this is day 366 and the year is not a leap year
+     */
+    public LocalDate atYear(int year) {
+        return LocalDate.ofYearDay(year, dayOfYear);
+    }
+
+    /**
+     * Combines this day-of-year with a year to create a {@code LocalDate}.
+     * <p>
+     * This returns a {@code LocalDate} formed from this day and the specified year.
+     * <p>
+     * A day-of-year of 366 will only be valid in a leap year.
+     *
+     * @param year  the year to use, not null
+     * @return the local date formed from this day and the specified year, not null
+     * @throws DateTimeException if this is day 366 and the year is not a leap year
+     */
+    public LocalDate atYear(Year year) {
+        return atYear(year.getValue());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this day-of-year instance to another.
+     *
+     * @param otherDayOfYear  the other day-of-year instance, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(DayOfYear otherDayOfYear) {
+        return Integer.compare(dayOfYear, otherDayOfYear.dayOfYear);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Is this instance equal to that specified, evaluating the day-of-year.
+     *
+     * @param otherDayOfYear  the other day-of-year instance, null returns false
+     * @return true if the day-of-year is the same
+     */
+    @Override
+    public boolean equals(Object otherDayOfYear) {
+        return this == otherDayOfYear;
+    }
+
+    /**
+     * A hash code for the day-of-year object.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return dayOfYear;
+    }
+
+    /**
+     * A string describing the day-of-year object.
+     *
+     * @return a string describing this object
+     */
+    @Override
+    public String toString() {
+        return "DayOfYear=" + getValue();
+    }
+
+}
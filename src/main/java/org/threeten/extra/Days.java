@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.DAYS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +56,14 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
      * A constant for zero days.
      */
     public static final Days ZERO = new Days(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Days[] CACHE = fillCache(ZERO, new Days[CACHE_MAX - CACHE_MIN + 1]);
+    /**
+     * The number of seconds in a day.
+     */
+    private static final long SECONDS_PER_DAY = 86400;
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +81,103 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
      * @return the {@code Days} instance, not null
      */
     public static Days of(int days) {
-        if (days == 0) {
-            return ZERO;
+        if (days >= CACHE_MIN && days <= CACHE_MAX) {
+            return CACHE[days - CACHE_MIN];
         }
         return new Days(days);
     }
 
+    /**
+     * Obtains an instance of {@code Days} consisting of the number of days between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDate}, {@code LocalDateTime} and {@code Instant} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of days between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Days between(Temporal startInclusive, Temporal endExclusive) {
+        return of(secondsBetween(startInclusive, endExclusive, DAYS, SECONDS_PER_DAY));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Days} that is the total of an array of days.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param days  the numbers of days to sum, not null
+     * @return the total number of days, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Days sum(int[] days) {
+        return of(sumOf(days));
+    }
+
+    /**
+     * Obtains an instance of {@code Days} that is the smallest of an array of days.
+     *
+     * @param days  the numbers of days to search, not null
+     * @return the smallest number of days, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Days min(int[] days) {
+        return of(minOf(days));
+    }
+
+    /**
+     * Obtains an instance of {@code Days} that is the largest of an array of days.
+     *
+     * @param days  the numbers of days to search, not null
+     * @return the largest number of days, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Days max(int[] days) {
+        return of(maxOf(days));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Days} from a text string such as 'P5D'.
+     * <p>
+     * This parses the format 'PnD' or 'PnW', where weeks are converted to days.
+     * The 'P' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Days parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Days} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Days parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, false, 'D', 'W', 7, "Days"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of days.
@@ -86,7 +190,17 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +230,11 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
         return Days.of(amount);
     }
 
+    @Override
+    Days create(int amount) {
+        return new Days(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +273,18 @@ public final class Days extends AbstractSimpleAmount<Days> implements Serializab
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to a {@code Period}.
+     * <p>
+     * The period has the same number of days.
+     *
+     * @return the equivalent period, not null
+     */
+    public Period toPeriod() {
+        return Period.ofDays(days);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of days.
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
+
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Bulk conversion of arrays of epoch-based instants and dates to bucket values.
+ * <p>
+ * These methods map each element of a {@code long[]} of epoch-millis or epoch-days
+ * to the value of a date-time field, writing the results into an {@code int[]}.
+ * The values are calculated arithmetically, without creating a date-time object
+ * per element, making them suitable for generating group-by keys.
+ * <p>
+ * The supported fields, and the bucket values they produce, are:
+ * <ul>
+ * <li>{@link org.threeten.bp.temporal.ChronoField#DAY_OF_MONTH DAY_OF_MONTH} - from 1 to 31,
+ *  as per {@link DayOfMonth#getValue()}
+ * <li>{@link org.threeten.bp.temporal.IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} - from 1 to 4,
+ *  as per {@link QuarterOfYear#getValue()}
+ * <li>{@link org.threeten.bp.temporal.ChronoField#MONTH_OF_YEAR MONTH_OF_YEAR} - from 1 to 12
+ * <li>{@link org.threeten.bp.temporal.IsoFields#WEEK_OF_WEEK_BASED_YEAR WEEK_OF_WEEK_BASED_YEAR} - from 1 to 53
+ * <li>{@link org.threeten.bp.temporal.ChronoField#AMPM_OF_DAY AMPM_OF_DAY} - 0 or 1,
+ *  as per {@link AmPm#getValue()}, epoch-millis only
+ * <li>{@link org.threeten.bp.temporal.ChronoField#HOUR_OF_DAY HOUR_OF_DAY} - from 0 to 23,
+ *  epoch-millis only
+ * </ul>
+ * Dates follow the proleptic ISO calendar system.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class EpochBuckets {
+
+    /**
+     * Milliseconds per day.
+     */
+    private static final long MILLIS_PER_DAY = 86400000L;
+    /**
+     * Milliseconds per hour.
+     */
+    private static final int MILLIS_PER_HOUR = 3600000;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final long DAYS_PER_CYCLE = 146097L;
+    /**
+     * The number of days from 0000-03-01 to 1970-01-01.
+     */
+    private static final long DAYS_0000_03_01_TO_1970 = 719468L;
+
+    /**
+     * Restricted constructor.
+     */
+    private EpochBuckets() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-millis to bucket values in UTC.
+     * <p>
+     * This returns a new array, see {@link #bucketMillis(long[], TemporalField, ZoneOffset, int[])}.
+     *
+     * @param epochMillis  the milliseconds from 1970-01-01T00:00Z, not null
+     * @param field  the field to bucket by, not null
+     * @return the bucket values, not null
+     * @throws DateTimeException if the field is not supported
+     */
+    public static int[] bucketMillis(long[] epochMillis, TemporalField field) {
+        return bucketMillis(epochMillis, field, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts an array of epoch-millis to bucket values at an offset.
+     * <p>
+     * This returns a new array, see {@link #bucketMillis(long[], TemporalField, ZoneOffset, int[])}.
+     *
+     * @param epochMillis  the milliseconds from 1970-01-01T00:00Z, not null
+     * @param field  the field to bucket by, not null
+     * @param offset  the offset to obtain the local date-time at, not null
+     * @return the bucket values, not null
+     * @throws DateTimeException if the field is not supported
+     */
+    public static int[] bucketMillis(long[] epochMillis, TemporalField field, ZoneOffset offset) {
+        Objects.requireNonNull(epochMillis, "epochMillis");
+        int[] result = new int[epochMillis.length];
+        bucketMillis(epochMillis, field, offset, result);
+        return result;
+    }
+
+    /**
+     * Converts an array of epoch-millis to bucket values at an offset,
+     * storing the result in the specified array.
+     * <p>
+     * Each instant is converted to the local date-time at the offset,
+     * and the value of the field extracted.
+     *
+     * @param epochMillis  the milliseconds from 1970-01-01T00:00Z, not null
+     * @param field  the field to bucket by, not null
+     * @param offset  the offset to obtain the local date-time at, not null
+     * @param result  the array to store the bucket values in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the result array is too short
+     * @throws DateTimeException if the field is not supported
+     */
+    public static void bucketMillis(long[] epochMillis, TemporalField field, ZoneOffset offset, int[] result) {
+        Objects.requireNonNull(epochMillis, "epochMillis");
+        Objects.requireNonNull(field, "field");
+        Objects.requireNonNull(offset, "offset");
+        Objects.requireNonNull(result, "result");
+        checkLength(epochMillis.length, result);
+        long offsetMillis = offset.getTotalSeconds() * 1000L;
+        int length = epochMillis.length;
+        if (field == HOUR_OF_DAY || field == AMPM_OF_DAY) {
+            int divisor = (field == HOUR_OF_DAY ? MILLIS_PER_HOUR : MILLIS_PER_HOUR * 12);
+            for (int i = 0; i < length; i++) {
+                long millisOfDay = Jdk8Methods.floorMod(epochMillis[i], MILLIS_PER_DAY) + offsetMillis;
+                if (millisOfDay < 0) {
+                    millisOfDay += MILLIS_PER_DAY;
+                } else if (millisOfDay >= MILLIS_PER_DAY) {
+                    millisOfDay -= MILLIS_PER_DAY;
+                }
+                result[i] = (int) (millisOfDay / divisor);
+            }
+            return;
+        }
+        int kind = dateKind(field);
+        for (int i = 0; i < length; i++) {
+            long millis = epochMillis[i];
+            long epochDay = Jdk8Methods.floorDiv(millis, MILLIS_PER_DAY);
+            long millisOfDay = Jdk8Methods.floorMod(millis, MILLIS_PER_DAY) + offsetMillis;
+            if (millisOfDay < 0) {
+                epochDay--;
+            } else if (millisOfDay >= MILLIS_PER_DAY) {
+                epochDay++;
+            }
+            result[i] = dateBucket(epochDay, kind);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to bucket values.
+     * <p>
+     * This returns a new array, see {@link #bucketDays(long[], TemporalField, int[])}.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param field  the field to bucket by, not null
+     * @return the bucket values, not null
+     * @throws DateTimeException if the field is not supported
+     */
+    public static int[] bucketDays(long[] epochDays, TemporalField field) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        int[] result = new int[epochDays.length];
+        bucketDays(epochDays, field, result);
+        return result;
+    }
+
+    /**
+     * Converts an array of epoch-days to bucket values, storing the result
+     * in the specified array.
+     * <p>
+     * Only the date-based fields are supported.
+     *
+     * @param epochDays  the days from 1970-01-01, not null
+     * @param field  the field to bucket by, not null
+     * @param result  the array to store the bucket values in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the result array is too short
+     * @throws DateTimeException if the field is not supported
+     */
+    public static void bucketDays(long[] epochDays, TemporalField field, int[] result) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        Objects.requireNonNull(field, "field");
+        Objects.requireNonNull(result, "result");
+        checkLength(epochDays.length, result);
+        int kind = dateKind(field);
+        int length = epochDays.length;
+        for (int i = 0; i < length; i++) {
+            result[i] = dateBucket(epochDays[i], kind);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks the result array is long enough.
+     *
+     * @param length  the input length
+     * @param result  the result array, not null
+     */
+    private static void checkLength(int length, int[] result) {
+        if (result.length < length) {
+            throw new IllegalArgumentException("Result array is too short: " + result.length + " < " + length);
+        }
+    }
+
+    /**
+     * Maps a date-based field to the internal kind.
+     *
+     * @param field  the field, not null
+     * @return the kind, from 0 to 3
+     * @throws DateTimeException if the field is not supported
+     */
+    private static int dateKind(TemporalField field) {
+        if (field == DAY_OF_MONTH) {
+            return 0;
+        } else if (field == MONTH_OF_YEAR) {
+            return 1;
+        } else if (field == QUARTER_OF_YEAR) {
+            return 2;
+        } else if (field == WEEK_OF_WEEK_BASED_YEAR) {
+            return 3;
+        }
+        throw new DateTimeException("Unsupported field: " + field.getName());
+    }
+
+    /**
+     * Calculates the bucket value of a date-based field from an epoch-day.
+     * <p>
+     * This uses the civil-from-days algorithm, working in 400 year cycles
+     * of years starting in March so that the leap day is at the end of the year.
+     *
+     * @param epochDay  the epoch-day
+     * @param kind  the kind of field
+     * @return the bucket value
+     */
+    private static int dateBucket(long epochDay, int kind) {
+        if (kind == 3) {
+            long thursday = epochDay - Jdk8Methods.floorMod(epochDay + 3, 7) + 3;
+            return (int) ((thursday - jan1EpochDay(thursday)) / 7) + 1;
+        }
+        long zeroDay = epochDay + DAYS_0000_03_01_TO_1970;
+        long cycle = Jdk8Methods.floorDiv(zeroDay, DAYS_PER_CYCLE);
+        int dayOfCycle = (int) (zeroDay - cycle * DAYS_PER_CYCLE);
+        int yearOfCycle = (dayOfCycle - dayOfCycle / 1460 + dayOfCycle / 36524 - dayOfCycle / 146096) / 365;
+        int marchDayOfYear = dayOfCycle - (365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100);
+        int marchMonth = (5 * marchDayOfYear + 2) / 153;
+        if (kind == 0) {
+            return marchDayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        }
+        int month = (marchMonth < 10 ? marchMonth + 3 : marchMonth - 9);
+        return (kind == 1 ? month : (month + 2) / 3);
+    }
+
+    /**
+     * Calculates the epoch-day of the first of January of the year containing the epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the epoch-day of the start of the year
+     */
+    private static long jan1EpochDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_03_01_TO_1970;
+        long cycle = Jdk8Methods.floorDiv(zeroDay, DAYS_PER_CYCLE);
+        int dayOfCycle = (int) (zeroDay - cycle * DAYS_PER_CYCLE);
+        int yearOfCycle = (dayOfCycle - dayOfCycle / 1460 + dayOfCycle / 36524 - dayOfCycle / 146096) / 365;
+        int marchDayOfYear = dayOfCycle - (365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100);
+        // the March-based year runs from March to February, so January and February
+        // belong to the calendar year after the one the March-based year started in
+        long marchYear = cycle * 400 + yearOfCycle;
+        long year = (marchDayOfYear >= 306 ? marchYear + 1 : marchYear);
+        long prevMarchYear = year - 1;
+        long prevCycle = Jdk8Methods.floorDiv(prevMarchYear, 400);
+        int prevYearOfCycle = (int) (prevMarchYear - prevCycle * 400);
+        long prevMarchStart = prevCycle * DAYS_PER_CYCLE + 365 * prevYearOfCycle + prevYearOfCycle / 4 - prevYearOfCycle / 100;
+        return prevMarchStart + 306 - DAYS_0000_03_01_TO_1970;
+    }
+
+}
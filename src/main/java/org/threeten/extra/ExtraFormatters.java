@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.SignStyle;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.extra.internal.DisplayNames;
+
+/**
+ * Formatters for the additional date-time types.
+ * <p>
+ * This provides two facilities. Firstly, methods that append printer-parsers
+ * to a {@link DateTimeFormatterBuilder}, such as quarters as "Q3" or "3rd quarter"
+ * and days-of-month as ordinals, "3rd". Secondly, a registry of precompiled
+ * formatters, avoiding the cost of building a formatter for each use.
+ * <p>
+ * The formatters print {@link QuarterOfYear}, {@link AmPm}, {@link DayOfMonth} and
+ * {@link YearQuarter}, as well as any other date-time with the relevant fields.
+ * The result of parsing can be converted using the {@code from} factory of the type:
+ * <pre>
+ *   QuarterOfYear quarter = QuarterOfYear.from(ExtraFormatters.quarterCode().parse("Q3"));
+ * </pre>
+ * The ordinal forms are English.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ * All returned formatters are immutable and thread-safe.
+ */
+public final class ExtraFormatters {
+
+    /**
+     * The quarter codes, such as "Q3".
+     */
+    private static final Map<Long, String> QUARTER_CODES;
+    /**
+     * The quarter ordinals, such as "3rd quarter".
+     */
+    private static final Map<Long, String> QUARTER_ORDINALS;
+    /**
+     * The day-of-month ordinals, such as "3rd".
+     */
+    private static final Map<Long, String> DAY_OF_MONTH_ORDINALS;
+    static {
+        Map<Long, String> codes = new HashMap<Long, String>();
+        Map<Long, String> quarters = new HashMap<Long, String>();
+        for (long quarter = 1; quarter <= 4; quarter++) {
+            codes.put(quarter, "Q" + quarter);
+            quarters.put(quarter, ordinal((int) quarter) + " quarter");
+        }
+        Map<Long, String> days = new HashMap<Long, String>();
+        for (long day = 1; day <= 31; day++) {
+            days.put(day, ordinal((int) day));
+        }
+        QUARTER_CODES = Collections.unmodifiableMap(codes);
+        QUARTER_ORDINALS = Collections.unmodifiableMap(quarters);
+        DAY_OF_MONTH_ORDINALS = Collections.unmodifiableMap(days);
+    }
+    /**
+     * The quarter code formatter.
+     */
+    private static final DateTimeFormatter QUARTER_CODE =
+            appendQuarterCode(new DateTimeFormatterBuilder()).toFormatter();
+    /**
+     * The quarter ordinal formatter.
+     */
+    private static final DateTimeFormatter QUARTER_ORDINAL =
+            appendQuarterOrdinal(new DateTimeFormatterBuilder().parseCaseInsensitive()).toFormatter(Locale.ENGLISH);
+    /**
+     * The day-of-month ordinal formatter.
+     */
+    private static final DateTimeFormatter DAY_OF_MONTH_ORDINAL =
+            appendDayOfMonthOrdinal(new DateTimeFormatterBuilder().parseCaseInsensitive()).toFormatter(Locale.ENGLISH);
+    /**
+     * The year-quarter formatter.
+     */
+    private static final DateTimeFormatter YEAR_QUARTER =
+            appendQuarterCode(new DateTimeFormatterBuilder()
+                .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
+                .appendLiteral('-')).toFormatter();
+
+    /**
+     * Restricted constructor.
+     */
+    private ExtraFormatters() {
+    }
+
+    /**
+     * Gets the English ordinal of a number, such as "1st" or "12th".
+     *
+     * @param value  the value, positive
+     * @return the ordinal, not null
+     */
+    private static String ordinal(int value) {
+        int lastTwo = value % 100;
+        if (lastTwo >= 11 && lastTwo <= 13) {
+            return value + "th";
+        }
+        switch (value % 10) {
+            case 1: return value + "st";
+            case 2: return value + "nd";
+            case 3: return value + "rd";
+            default: return value + "th";
+        }
+    }
+
+    /**
+     * Appends a year to a buffer, as used by {@code toString} of the year-based types.
+     * <p>
+     * Years from 0000 to 9999 are padded to four digits. Years outside that range
+     * have a sign, matching {@code LocalDate} and the {@link #yearQuarter()} formatter.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param year  the year to append
+     * @return the same buffer, for chaining, not null
+     */
+    static StringBuilder appendYear(StringBuilder buf, int year) {
+        int start = buf.length();
+        if (Math.abs(year) < 1000) {
+            if (year < 0) {
+                buf.append(year - 10000).deleteCharAt(start + 1);
+            } else {
+                buf.append(year + 10000).deleteCharAt(start);
+            }
+        } else {
+            if (year > 9999) {
+                buf.append('+');
+            }
+            buf.append(year);
+        }
+        return buf;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Appends the quarter-of-year as a code, such as "Q3", to the builder.
+     * <p>
+     * This prints and parses the {@link org.threeten.bp.temporal.IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} field.
+     *
+     * @param builder  the builder to append to, not null
+     * @return the same builder, for chaining, not null
+     */
+    public static DateTimeFormatterBuilder appendQuarterCode(DateTimeFormatterBuilder builder) {
+        return builder.appendText(QUARTER_OF_YEAR, QUARTER_CODES);
+    }
+
+    /**
+     * Appends the quarter-of-year as an English ordinal, such as "3rd quarter", to the builder.
+     * <p>
+     * This prints and parses the {@link org.threeten.bp.temporal.IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} field.
+     *
+     * @param builder  the builder to append to, not null
+     * @return the same builder, for chaining, not null
+     */
+    public static DateTimeFormatterBuilder appendQuarterOrdinal(DateTimeFormatterBuilder builder) {
+        return builder.appendText(QUARTER_OF_YEAR, QUARTER_ORDINALS);
+    }
+
+    /**
+     * Appends the day-of-month as an English ordinal, such as "3rd", to the builder.
+     * <p>
+     * This prints and parses the {@link org.threeten.bp.temporal.ChronoField#DAY_OF_MONTH DAY_OF_MONTH} field.
+     *
+     * @param builder  the builder to append to, not null
+     * @return the same builder, for chaining, not null
+     */
+    public static DateTimeFormatterBuilder appendDayOfMonthOrdinal(DateTimeFormatterBuilder builder) {
+        return builder.appendText(DAY_OF_MONTH, DAY_OF_MONTH_ORDINALS);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets a formatter for the quarter-of-year as a code, such as "Q3".
+     *
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter quarterCode() {
+        return QUARTER_CODE;
+    }
+
+    /**
+     * Gets a formatter for the quarter-of-year as an English ordinal, such as "3rd quarter".
+     * <p>
+     * Parsing is case insensitive.
+     *
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter quarterOrdinal() {
+        return QUARTER_ORDINAL;
+    }
+
+    /**
+     * Gets a formatter for the day-of-month as an English ordinal, such as "3rd".
+     * <p>
+     * Parsing is case insensitive.
+     *
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter dayOfMonthOrdinal() {
+        return DAY_OF_MONTH_ORDINAL;
+    }
+
+    /**
+     * Gets a formatter for the year and quarter, such as "2012-Q3".
+     * <p>
+     * Years outside the range 0000 to 9999 are printed with a sign.
+     * Values parsed by this formatter can be converted using {@link YearQuarter#from}.
+     *
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter yearQuarter() {
+        return YEAR_QUARTER;
+    }
+
+    /**
+     * Gets a formatter for the localized text of the quarter-of-year.
+     * <p>
+     * This is equivalent to appending the
+     * {@link org.threeten.bp.temporal.IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} field as text,
+     * however the formatter is only built once for each style and locale.
+     *
+     * @param style  the text style, not null
+     * @param locale  the locale, not null
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter quarterText(TextStyle style, Locale locale) {
+        return DisplayNames.formatter(QuarterOfYear.class, QUARTER_OF_YEAR, style, locale);
+    }
+
+    /**
+     * Gets a formatter for the localized text of the AM/PM.
+     * <p>
+     * This is equivalent to appending the
+     * {@link org.threeten.bp.temporal.ChronoField#AMPM_OF_DAY AMPM_OF_DAY} field as text,
+     * however the formatter is only built once for each style and locale.
+     *
+     * @param style  the text style, not null
+     * @param locale  the locale, not null
+     * @return the formatter, not null
+     */
+    public static DateTimeFormatter amPmText(TextStyle style, Locale locale) {
+        return DisplayNames.formatter(AmPm.class, AMPM_OF_DAY, style, locale);
+    }
+
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Month;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A fiscal calendar, dividing each fiscal year into four quarters and twelve periods.
+ * <p>
+ * Two kinds of fiscal calendar are supported:
+ * <ul>
+ * <li>Month-based, where the fiscal year starts on the first day of a configurable
+ *  month and each period is a calendar month.
+ * <li>Week-based, the 52/53-week calendars used in retail, where the fiscal year ends
+ *  on a fixed day-of-week, either the last in a month or the nearest to the end of a month.
+ *  Each quarter is 13 weeks, split into periods using a {@link WeekPattern}.
+ *  In a 53-week year, the extra week is added to the last period.
+ * </ul>
+ * A fiscal year is numbered by the calendar year of the month it ends in, which is the
+ * month before the start month for month-based calendars and the end month for week-based.
+ * A week-based year ending nearest the end of a month may end a few days into the next
+ * month, and thus the next calendar year, but is still numbered by the end month.
+ * For example, a year ending on the Saturday nearest the end of December 2015
+ * ends on 2016-01-02 and is fiscal year 2015.
+ * For example, in a month-based calendar starting in April, fiscal year 2013 runs
+ * from 2012-04-01 to 2013-03-31.
+ * <p>
+ * The start of every period in the fiscal years 1900 to 2100 is precomputed when the
+ * calendar is created. Mapping a date in that range to its fiscal year, quarter, period
+ * and week is a single binary search of that table. Dates outside the range are
+ * calculated on demand.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class FiscalCalendar implements Serializable {
+
+    /**
+     * A serialization identifier for this instance.
+     */
+    private static final long serialVersionUID = -2312950718431725823L;
+    /**
+     * The first fiscal year in the precomputed table.
+     */
+    private static final int TABLE_MIN_YEAR = 1900;
+    /**
+     * The last fiscal year in the precomputed table.
+     */
+    private static final int TABLE_MAX_YEAR = 2100;
+    /**
+     * The number of periods in a fiscal year.
+     */
+    private static final int PERIODS = 12;
+
+    /**
+     * The pattern of weeks in each quarter of a week-based fiscal calendar.
+     */
+    public static enum WeekPattern {
+        /** Periods of 4, 4 and 5 weeks. */
+        FOUR_FOUR_FIVE(4, 4, 5),
+        /** Periods of 4, 5 and 4 weeks. */
+        FOUR_FIVE_FOUR(4, 5, 4),
+        /** Periods of 5, 4 and 4 weeks. */
+        FIVE_FOUR_FOUR(5, 4, 4);
+
+        /** The number of weeks in each period of a quarter. */
+        private final int[] weeks;
+
+        private WeekPattern(int first, int second, int third) {
+            this.weeks = new int[] {first, second, third};
+        }
+
+        /**
+         * Gets the number of weeks in a period of a quarter.
+         *
+         * @param periodOfQuarter  the period within the quarter, from 1 to 3
+         * @return the number of weeks, 4 or 5
+         * @throws IndexOutOfBoundsException if the period is invalid
+         */
+        public int getWeeks(int periodOfQuarter) {
+            return weeks[periodOfQuarter - 1];
+        }
+    }
+
+    /**
+     * The fiscal fields of a date, as returned by {@link FiscalCalendar#getFields(LocalDate)}.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    public static final class Fields {
+        /** The fiscal year. */
+        private final int fiscalYear;
+        /** The fiscal period, from 1 to 12. */
+        private final int period;
+        /** The day of the fiscal year, from 1 to 371. */
+        private final int dayOfYear;
+
+        private Fields(int fiscalYear, int period, int dayOfYear) {
+            this.fiscalYear = fiscalYear;
+            this.period = period;
+            this.dayOfYear = dayOfYear;
+        }
+
+        /**
+         * Gets the fiscal year.
+         *
+         * @return the fiscal year, numbered by the calendar year of the month it ends in
+         */
+        public int getFiscalYear() {
+            return fiscalYear;
+        }
+
+        /**
+         * Gets the fiscal quarter.
+         *
+         * @return the fiscal quarter, from 1 to 4
+         */
+        public int getQuarter() {
+            return (period - 1) / 3 + 1;
+        }
+
+        /**
+         * Gets the fiscal period.
+         *
+         * @return the fiscal period, from 1 to 12
+         */
+        public int getPeriod() {
+            return period;
+        }
+
+        /**
+         * Gets the fiscal week, where week 1 is the first seven days of the fiscal year.
+         *
+         * @return the fiscal week, from 1 to 53
+         */
+        public int getWeek() {
+            return (dayOfYear - 1) / 7 + 1;
+        }
+
+        /**
+         * Gets the day of the fiscal year.
+         *
+         * @return the day of the fiscal year, from 1 to 371
+         */
+        public int getDayOfYear() {
+            return dayOfYear;
+        }
+
+        /**
+         * Checks if these fields are equal to other fields.
+         *
+         * @param obj  the object to check, null returns false
+         * @return true if these are equal to the other fields
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Fields) {
+                Fields other = (Fields) obj;
+                return fiscalYear == other.fiscalYear && period == other.period && dayOfYear == other.dayOfYear;
+            }
+            return false;
+        }
+
+        /**
+         * A hash code for these fields.
+         *
+         * @return a suitable hash code
+         */
+        @Override
+        public int hashCode() {
+            return (fiscalYear << 13) ^ (period << 9) ^ dayOfYear;
+        }
+
+        /**
+         * Outputs these fields as a {@code String}.
+         *
+         * @return a string representation of these fields, not null
+         */
+        @Override
+        public String toString() {
+            return "Fields[fiscalYear=" + fiscalYear + ",quarter=" + getQuarter() + ",period=" + period +
+                    ",week=" + getWeek() + ",dayOfYear=" + dayOfYear + "]";
+        }
+    }
+
+    /**
+     * The start month for month-based calendars, the end month for week-based.
+     */
+    private final Month month;
+    /**
+     * The day-of-week the fiscal year ends on, null for month-based calendars.
+     */
+    private final DayOfWeek endDayOfWeek;
+    /**
+     * Whether the year ends on the day-of-week nearest the end of the month, rather than the last.
+     */
+    private final boolean nearest;
+    /**
+     * The week pattern, null for month-based calendars.
+     */
+    private final WeekPattern pattern;
+    /**
+     * The epoch-day of the start of each period from {@code TABLE_MIN_YEAR},
+     * followed by the start of the year after {@code TABLE_MAX_YEAR}.
+     */
+    private final transient int[] table;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a month-based fiscal calendar.
+     * <p>
+     * Each fiscal year starts on the first day of the specified month, and each
+     * period is a calendar month. A start month of January matches the calendar year.
+     *
+     * @param startMonth  the month the fiscal year starts in, not null
+     * @return the fiscal calendar, not null
+     */
+    public static FiscalCalendar ofMonths(Month startMonth) {
+        Objects.requireNonNull(startMonth, "startMonth");
+        return new FiscalCalendar(startMonth, null, false, null);
+    }
+
+    /**
+     * Obtains a week-based fiscal calendar where the year ends on the last
+     * occurrence of a day-of-week in a month.
+     * <p>
+     * For example, a year ending on the last Saturday of January.
+     *
+     * @param endMonth  the month the fiscal year ends in, not null
+     * @param endDayOfWeek  the day-of-week the fiscal year ends on, not null
+     * @param pattern  the pattern of weeks in each quarter, not null
+     * @return the fiscal calendar, not null
+     */
+    public static FiscalCalendar ofWeeksEndingLast(Month endMonth, DayOfWeek endDayOfWeek, WeekPattern pattern) {
+        Objects.requireNonNull(endMonth, "endMonth");
+        Objects.requireNonNull(endDayOfWeek, "endDayOfWeek");
+        Objects.requireNonNull(pattern, "pattern");
+        return new FiscalCalendar(endMonth, endDayOfWeek, false, pattern);
+    }
+
+    /**
+     * Obtains a week-based fiscal calendar where the year ends on the occurrence
+     * of a day-of-week nearest to the end of a month.
+     * <p>
+     * For example, a year ending on the Saturday nearest the end of January,
+     * which may fall in early February.
+     *
+     * @param endMonth  the month the fiscal year ends nearest to the end of, not null
+     * @param endDayOfWeek  the day-of-week the fiscal year ends on, not null
+     * @param pattern  the pattern of weeks in each quarter, not null
+     * @return the fiscal calendar, not null
+     */
+    public static FiscalCalendar ofWeeksEndingNearest(Month endMonth, DayOfWeek endDayOfWeek, WeekPattern pattern) {
+        Objects.requireNonNull(endMonth, "endMonth");
+        Objects.requireNonNull(endDayOfWeek, "endDayOfWeek");
+        Objects.requireNonNull(pattern, "pattern");
+        return new FiscalCalendar(endMonth, endDayOfWeek, true, pattern);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor, precomputing the period table.
+     *
+     * @param month  the start or end month, not null
+     * @param endDayOfWeek  the end day-of-week, null if month-based
+     * @param nearest  whether the year ends nearest the end of the month
+     * @param pattern  the week pattern, null if month-based
+     */
+    private FiscalCalendar(Month month, DayOfWeek endDayOfWeek, boolean nearest, WeekPattern pattern) {
+        this.month = month;
+        this.endDayOfWeek = endDayOfWeek;
+        this.nearest = nearest;
+        this.pattern = pattern;
+        this.table = buildTable();
+    }
+
+    /**
+     * Builds the table of period starts.
+     *
+     * @return the table, not null
+     */
+    private int[] buildTable() {
+        int years = TABLE_MAX_YEAR - TABLE_MIN_YEAR + 1;
+        int[] result = new int[years * PERIODS + 1];
+        long[] starts = new long[PERIODS + 1];
+        for (int i = 0; i < years; i++) {
+            periodStarts(TABLE_MIN_YEAR + i, starts);
+            for (int p = 0; p < PERIODS; p++) {
+                result[i * PERIODS + p] = (int) starts[p];
+            }
+        }
+        result[years * PERIODS] = (int) starts[PERIODS];
+        return result;
+    }
+
+    /**
+     * Validates the deserialized state, rebuilding the table.
+     *
+     * @return the fiscal calendar, not null
+     */
+    private Object readResolve() {
+        if (pattern == null) {
+            return ofMonths(month);
+        }
+        return new FiscalCalendar(month, endDayOfWeek, nearest, pattern);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day of the start of each period of a fiscal year.
+     *
+     * @param fiscalYear  the fiscal year
+     * @param starts  the array to fill with the twelve period starts, followed
+     *  by the start of the next fiscal year, not null
+     */
+    private void periodStarts(int fiscalYear, long[] starts) {
+        if (pattern == null) {
+            int year = (month == Month.JANUARY ? fiscalYear : fiscalYear - 1);
+            LocalDate start = LocalDate.of(year, month, 1);
+            for (int p = 0; p <= PERIODS; p++) {
+                starts[p] = start.plusMonths(p).toEpochDay();
+            }
+        } else {
+            long day = yearEndEpochDay(fiscalYear - 1) + 1;
+            for (int p = 0; p < PERIODS; p++) {
+                starts[p] = day;
+                day += pattern.getWeeks(p % 3 + 1) * 7;
+            }
+            starts[PERIODS] = yearEndEpochDay(fiscalYear) + 1;
+        }
+    }
+
+    /**
+     * Calculates the epoch-day of the last day of a week-based fiscal year.
+     *
+     * @param fiscalYear  the fiscal year
+     * @return the epoch-day of the last day of the year
+     */
+    private long yearEndEpochDay(int fiscalYear) {
+        LocalDate monthEnd = LocalDate.of(fiscalYear, month, 1).plusMonths(1).minusDays(1);
+        int diff = Jdk8Methods.floorMod(monthEnd.getDayOfWeek().getValue() - endDayOfWeek.getValue(), 7);
+        if (nearest && diff > 3) {
+            return monthEnd.toEpochDay() + 7 - diff;
+        }
+        return monthEnd.toEpochDay() - diff;
+    }
+
+    /**
+     * Locates the period containing the date.
+     *
+     * @param epochDay  the epoch-day to locate
+     * @param fallbackYear  the calendar year of the date, used outside the table
+     * @return the period index, as {@code fiscalYear * 12 + period - 1}
+     */
+    private long locate(long epochDay, int fallbackYear) {
+        if (epochDay >= table[0] && epochDay < table[table.length - 1]) {
+            int index = Arrays.binarySearch(table, (int) epochDay);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return (long) TABLE_MIN_YEAR * PERIODS + index;
+        }
+        long[] starts = new long[PERIODS + 1];
+        int fiscalYear = fallbackYear;
+        periodStarts(fiscalYear, starts);
+        while (epochDay < starts[0]) {
+            periodStarts(--fiscalYear, starts);
+        }
+        while (epochDay >= starts[PERIODS]) {
+            periodStarts(++fiscalYear, starts);
+        }
+        int period = 0;
+        while (epochDay >= starts[period + 1]) {
+            period++;
+        }
+        return (long) fiscalYear * PERIODS + period;
+    }
+
+    /**
+     * Gets the epoch-day of the start of a period.
+     *
+     * @param fiscalYear  the fiscal year
+     * @param period  the zero-based period, from 0 to 12
+     * @return the epoch-day of the start of the period
+     */
+    private long periodStartEpochDay(int fiscalYear, int period) {
+        if (fiscalYear >= TABLE_MIN_YEAR && fiscalYear <= TABLE_MAX_YEAR) {
+            return table[(fiscalYear - TABLE_MIN_YEAR) * PERIODS + period];
+        }
+        long[] starts = new long[PERIODS + 1];
+        periodStarts(fiscalYear, starts);
+        return starts[period];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets all the fiscal fields of the date.
+     * <p>
+     * This locates the date in the calendar once, so is preferred to calling
+     * each of the individual getters when more than one field is needed.
+     *
+     * @param date  the date to query, not null
+     * @return the fiscal fields, not null
+     */
+    public Fields getFields(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        long located = locate(epochDay, date.getYear());
+        int fiscalYear = (int) Jdk8Methods.floorDiv(located, PERIODS);
+        int period = Jdk8Methods.floorMod(located, PERIODS) + 1;
+        int dayOfYear = (int) (epochDay - periodStartEpochDay(fiscalYear, 0)) + 1;
+        return new Fields(fiscalYear, period, dayOfYear);
+    }
+
+    /**
+     * Gets the fiscal year of the date.
+     *
+     * @param date  the date to query, not null
+     * @return the fiscal year, numbered by the calendar year of the month it ends in
+     */
+    public int getFiscalYear(LocalDate date) {
+        return getFields(date).getFiscalYear();
+    }
+
+    /**
+     * Gets the fiscal quarter of the date.
+     *
+     * @param date  the date to query, not null
+     * @return the fiscal quarter, from 1 to 4
+     */
+    public int getQuarter(LocalDate date) {
+        return getFields(date).getQuarter();
+    }
+
+    /**
+     * Gets the fiscal period of the date.
+     *
+     * @param date  the date to query, not null
+     * @return the fiscal period, from 1 to 12
+     */
+    public int getPeriod(LocalDate date) {
+        return getFields(date).getPeriod();
+    }
+
+    /**
+     * Gets the fiscal week of the date.
+     * <p>
+     * Week 1 is the first seven days of the fiscal year.
+     * For week-based calendars these are whole weeks ending on the configured day-of-week.
+     *
+     * @param date  the date to query, not null
+     * @return the fiscal week, from 1 to 53
+     */
+    public int getWeek(LocalDate date) {
+        return getFields(date).getWeek();
+    }
+
+    /**
+     * Gets the day of the fiscal year of the date.
+     *
+     * @param date  the date to query, not null
+     * @return the day of the fiscal year, from 1 to 371
+     */
+    public int getDayOfYear(LocalDate date) {
+        return getFields(date).getDayOfYear();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the first day of a fiscal year.
+     *
+     * @param fiscalYear  the fiscal year
+     * @return the first day of the fiscal year, not null
+     * @throws DateTimeException if the fiscal year is outside the supported date range
+     */
+    public LocalDate yearStart(int fiscalYear) {
+        return LocalDate.ofEpochDay(periodStartEpochDay(fiscalYear, 0));
+    }
+
+    /**
+     * Gets the last day of a fiscal year.
+     *
+     * @param fiscalYear  the fiscal year
+     * @return the last day of the fiscal year, not null
+     * @throws DateTimeException if the fiscal year is outside the supported date range
+     */
+    public LocalDate yearEnd(int fiscalYear) {
+        return LocalDate.ofEpochDay(periodStartEpochDay(fiscalYear, PERIODS) - 1);
+    }
+
+    /**
+     * Gets the first day of a period in a fiscal year.
+     *
+     * @param fiscalYear  the fiscal year
+     * @param period  the period, from 1 to 12
+     * @return the first day of the period, not null
+     * @throws DateTimeException if the period is invalid, or the fiscal year is
+     *  outside the supported date range
+     */
+    public LocalDate periodStart(int fiscalYear, int period) {
+        if (period < 1 || period > PERIODS) {
+            throw new DateTimeException("Invalid fiscal period: " + period);
+        }
+        return LocalDate.ofEpochDay(periodStartEpochDay(fiscalYear, period - 1));
+    }
+
+    /**
+     * Gets the length of a fiscal year in days.
+     * <p>
+     * Week-based fiscal years have 364 or 371 days.
+     *
+     * @param fiscalYear  the fiscal year
+     * @return the length of the fiscal year in days
+     * @throws DateTimeException if the fiscal year is outside the supported date range
+     */
+    public int lengthInDays(int fiscalYear) {
+        return (int) (periodStartEpochDay(fiscalYear, PERIODS) - periodStartEpochDay(fiscalYear, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this calendar is equal to another calendar.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other calendar
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof FiscalCalendar) {
+            FiscalCalendar other = (FiscalCalendar) obj;
+            return month == other.month && endDayOfWeek == other.endDayOfWeek &&
+                    nearest == other.nearest && pattern == other.pattern;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this calendar.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, endDayOfWeek, nearest, pattern);
+    }
+
+    /**
+     * Outputs this calendar as a {@code String}.
+     *
+     * @return a string representation of this calendar, not null
+     */
+    @Override
+    public String toString() {
+        if (pattern == null) {
+            return "FiscalCalendar[start=" + month + "]";
+        }
+        return "FiscalCalendar[end=" + (nearest ? "nearest " : "last ") + endDayOfWeek + " " + month + "," + pattern + "]";
+    }
+
+}
@@ -34,7 +34,13 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.HOURS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +57,14 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
      * A constant for zero hours.
      */
     public static final Hours ZERO = new Hours(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Hours[] CACHE = fillCache(ZERO, new Hours[CACHE_MAX - CACHE_MIN + 1]);
+    /**
+     * The number of seconds in an hour.
+     */
+    private static final long SECONDS_PER_HOUR = 3600;
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +82,103 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
      * @return the {@code Hours} instance, not null
      */
     public static Hours of(int hours) {
-        if (hours == 0) {
-            return ZERO;
+        if (hours >= CACHE_MIN && hours <= CACHE_MAX) {
+            return CACHE[hours - CACHE_MIN];
         }
         return new Hours(hours);
     }
 
+    /**
+     * Obtains an instance of {@code Hours} consisting of the number of hours between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDateTime} and {@code Instant} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of hours between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Hours between(Temporal startInclusive, Temporal endExclusive) {
+        return of(secondsBetween(startInclusive, endExclusive, HOURS, SECONDS_PER_HOUR));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Hours} that is the total of an array of hours.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param hours  the numbers of hours to sum, not null
+     * @return the total number of hours, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Hours sum(int[] hours) {
+        return of(sumOf(hours));
+    }
+
+    /**
+     * Obtains an instance of {@code Hours} that is the smallest of an array of hours.
+     *
+     * @param hours  the numbers of hours to search, not null
+     * @return the smallest number of hours, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Hours min(int[] hours) {
+        return of(minOf(hours));
+    }
+
+    /**
+     * Obtains an instance of {@code Hours} that is the largest of an array of hours.
+     *
+     * @param hours  the numbers of hours to search, not null
+     * @return the largest number of hours, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Hours max(int[] hours) {
+        return of(maxOf(hours));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Hours} from a text string such as 'PT5H'.
+     * <p>
+     * This parses the format 'PTnH'.
+     * The 'P', 'T' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Hours parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Hours} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Hours parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, true, 'H', "Hours"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of hours.
@@ -86,7 +191,17 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +231,11 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
         return Hours.of(amount);
     }
 
+    @Override
+    Hours create(int amount) {
+        return new Hours(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +274,40 @@ public final class Hours extends AbstractSimpleAmount<Hours> implements Serializ
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to the equivalent number of minutes.
+     * <p>
+     * Each hour is exactly 60 minutes.
+     *
+     * @return the equivalent number of minutes, not null
+     * @throws ArithmeticException if the result exceeds an {@code int}
+     */
+    public Minutes toMinutes() {
+        return Minutes.of(Jdk8Methods.safeMultiply(hours, 60));
+    }
+
+    /**
+     * Converts this amount to the equivalent number of seconds.
+     * <p>
+     * Each hour is exactly 3600 seconds.
+     *
+     * @return the equivalent number of seconds, not null
+     * @throws ArithmeticException if the result exceeds an {@code int}
+     */
+    public Seconds toSeconds() {
+        return Seconds.of(Jdk8Methods.safeMultiply(hours, 3600));
+    }
+
+    /**
+     * Converts this amount to a {@code Duration}.
+     *
+     * @return the equivalent duration, not null
+     */
+    public Duration toDuration() {
+        return Duration.ofHours(hours);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of hours.
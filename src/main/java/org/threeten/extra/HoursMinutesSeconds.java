@@ -0,0 +1,594 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAmount;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * An amount of time in hours, minutes, seconds and nanoseconds, such as '8 Hours 30 Minutes'.
+ * <p>
+ * This class stores the amount as a single {@code long} number of nanoseconds,
+ * and performs all arithmetic on that value, without intermediate objects.
+ * This limits the range to approximately plus or minus 292 years.
+ * It combines naturally with {@link Hours}, {@link Minutes} and {@link Seconds}.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class HoursMinutesSeconds
+        implements Comparable<HoursMinutesSeconds>, TemporalAmount, Serializable {
+
+    /**
+     * A constant for zero.
+     */
+    public static final HoursMinutesSeconds ZERO = new HoursMinutesSeconds(0);
+    /**
+     * A serialization identifier for this class.
+     */
+    private static final long serialVersionUID = -3266187612471347113L;
+    /**
+     * The units of the amount, as used by {@code TemporalAmount}.
+     */
+    private static final List<TemporalUnit> UNITS = Collections.unmodifiableList(Arrays.<TemporalUnit>asList(SECONDS, NANOS));
+    /**
+     * Nanoseconds per second.
+     */
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    /**
+     * Nanoseconds per minute.
+     */
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    /**
+     * Nanoseconds per hour.
+     */
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+
+    /**
+     * The number of nanoseconds.
+     */
+    private final long nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance from hours, minutes and seconds.
+     * <p>
+     * The values are added together, thus 1 hour and -30 minutes is 30 minutes.
+     *
+     * @param hours  the number of hours, may be negative
+     * @param minutes  the number of minutes, may be negative
+     * @param seconds  the number of seconds, may be negative
+     * @return the amount, not null
+     * @throws ArithmeticException if the amount exceeds the capacity
+     */
+    public static HoursMinutesSeconds of(long hours, long minutes, long seconds) {
+        long total = Jdk8Methods.safeMultiply(hours, NANOS_PER_HOUR);
+        total = Jdk8Methods.safeAdd(total, Jdk8Methods.safeMultiply(minutes, NANOS_PER_MINUTE));
+        total = Jdk8Methods.safeAdd(total, Jdk8Methods.safeMultiply(seconds, NANOS_PER_SECOND));
+        return ofNanos(total);
+    }
+
+    /**
+     * Obtains an instance from a number of nanoseconds.
+     *
+     * @param nanos  the number of nanoseconds, may be negative
+     * @return the amount, not null
+     */
+    public static HoursMinutesSeconds ofNanos(long nanos) {
+        if (nanos == 0) {
+            return ZERO;
+        }
+        return new HoursMinutesSeconds(nanos);
+    }
+
+    /**
+     * Obtains an instance from an amount of hours.
+     *
+     * @param hours  the hours, not null
+     * @return the amount, not null
+     * @throws ArithmeticException if the amount exceeds the capacity
+     */
+    public static HoursMinutesSeconds of(Hours hours) {
+        return ofNanos(Jdk8Methods.safeMultiply(NANOS_PER_HOUR, hours.getAmount()));
+    }
+
+    /**
+     * Obtains an instance from an amount of minutes.
+     *
+     * @param minutes  the minutes, not null
+     * @return the amount, not null
+     * @throws ArithmeticException if the amount exceeds the capacity
+     */
+    public static HoursMinutesSeconds of(Minutes minutes) {
+        return ofNanos(Jdk8Methods.safeMultiply(NANOS_PER_MINUTE, minutes.getAmount()));
+    }
+
+    /**
+     * Obtains an instance from an amount of seconds.
+     *
+     * @param seconds  the seconds, not null
+     * @return the amount, not null
+     */
+    public static HoursMinutesSeconds of(Seconds seconds) {
+        return ofNanos(seconds.getAmount() * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Obtains an instance from a duration.
+     *
+     * @param duration  the duration, not null
+     * @return the amount, not null
+     * @throws ArithmeticException if the duration exceeds the capacity
+     */
+    public static HoursMinutesSeconds of(Duration duration) {
+        return ofNanos(duration.toNanos());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance using a specific number of nanoseconds.
+     *
+     * @param nanos  the nanoseconds to use
+     */
+    private HoursMinutesSeconds(long nanos) {
+        this.nanos = nanos;
+    }
+
+    /**
+     * Resolves singletons.
+     *
+     * @return the singleton instance
+     */
+    private Object readResolve() {
+        return ofNanos(nanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the list of units, which is seconds and nanoseconds.
+     *
+     * @return the list of units, not null
+     */
+    @Override
+    public List<TemporalUnit> getUnits() {
+        return UNITS;
+    }
+
+    /**
+     * Gets the amount for the requested unit.
+     * <p>
+     * Seconds returns the seconds rounded down, and nanoseconds returns the
+     * nano-of-second from 0 to 999,999,999, matching {@code Duration}.
+     *
+     * @param unit  the unit to query, not null
+     * @return the amount of the unit
+     * @throws DateTimeException if the unit is not supported
+     */
+    @Override
+    public long get(TemporalUnit unit) {
+        if (unit == SECONDS) {
+            return Jdk8Methods.floorDiv(nanos, NANOS_PER_SECOND);
+        } else if (unit == NANOS) {
+            return Jdk8Methods.floorMod(nanos, NANOS_PER_SECOND);
+        }
+        throw new DateTimeException("Unsupported unit: " + unit);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this amount is zero.
+     *
+     * @return true if this amount is zero
+     */
+    public boolean isZero() {
+        return nanos == 0;
+    }
+
+    /**
+     * Checks if this amount is negative.
+     *
+     * @return true if this amount is less than zero
+     */
+    public boolean isNegative() {
+        return nanos < 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the total number of whole hours, truncating towards zero.
+     *
+     * @return the number of hours, may be negative
+     */
+    public long toHours() {
+        return nanos / NANOS_PER_HOUR;
+    }
+
+    /**
+     * Gets the total number of whole minutes, truncating towards zero.
+     *
+     * @return the number of minutes, may be negative
+     */
+    public long toMinutes() {
+        return nanos / NANOS_PER_MINUTE;
+    }
+
+    /**
+     * Gets the total number of whole seconds, truncating towards zero.
+     *
+     * @return the number of seconds, may be negative
+     */
+    public long toSeconds() {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Gets the total number of nanoseconds.
+     *
+     * @return the number of nanoseconds, may be negative
+     */
+    public long toNanos() {
+        return nanos;
+    }
+
+    /**
+     * Gets the minute part of this amount, from -59 to 59.
+     * <p>
+     * This is the number of minutes remaining after removing the whole hours,
+     * and has the same sign as the amount.
+     *
+     * @return the minute part
+     */
+    public int toMinutesPart() {
+        return (int) (toMinutes() % 60);
+    }
+
+    /**
+     * Gets the second part of this amount, from -59 to 59.
+     * <p>
+     * This is the number of seconds remaining after removing the whole minutes,
+     * and has the same sign as the amount.
+     *
+     * @return the second part
+     */
+    public int toSecondsPart() {
+        return (int) (toSeconds() % 60);
+    }
+
+    /**
+     * Gets the nanosecond part of this amount, from -999,999,999 to 999,999,999.
+     * <p>
+     * This is the number of nanoseconds remaining after removing the whole seconds,
+     * and has the same sign as the amount.
+     *
+     * @return the nanosecond part
+     */
+    public int toNanosPart() {
+        return (int) (nanos % NANOS_PER_SECOND);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this amount with the specified amount added.
+     *
+     * @param amount  the amount to add, not null
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds plus(HoursMinutesSeconds amount) {
+        return plusNanos(amount.nanos);
+    }
+
+    /**
+     * Returns a copy of this amount with the specified hours added.
+     *
+     * @param hours  the hours to add, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds plusHours(long hours) {
+        return plusNanos(Jdk8Methods.safeMultiply(hours, NANOS_PER_HOUR));
+    }
+
+    /**
+     * Returns a copy of this amount with the specified minutes added.
+     *
+     * @param minutes  the minutes to add, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds plusMinutes(long minutes) {
+        return plusNanos(Jdk8Methods.safeMultiply(minutes, NANOS_PER_MINUTE));
+    }
+
+    /**
+     * Returns a copy of this amount with the specified seconds added.
+     *
+     * @param seconds  the seconds to add, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds plusSeconds(long seconds) {
+        return plusNanos(Jdk8Methods.safeMultiply(seconds, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Returns a copy of this amount with the specified nanoseconds added.
+     *
+     * @param nanosToAdd  the nanoseconds to add, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds plusNanos(long nanosToAdd) {
+        if (nanosToAdd == 0) {
+            return this;
+        }
+        return ofNanos(Jdk8Methods.safeAdd(nanos, nanosToAdd));
+    }
+
+    /**
+     * Returns a copy of this amount with the specified amount subtracted.
+     *
+     * @param amount  the amount to subtract, not null
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds minus(HoursMinutesSeconds amount) {
+        return ofNanos(Jdk8Methods.safeSubtract(nanos, amount.nanos));
+    }
+
+    /**
+     * Returns a copy of this amount multiplied by the scalar.
+     *
+     * @param scalar  the value to multiply by, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds multipliedBy(long scalar) {
+        if (scalar == 1) {
+            return this;
+        }
+        return ofNanos(Jdk8Methods.safeMultiply(nanos, scalar));
+    }
+
+    /**
+     * Returns a copy of this amount divided by the divisor.
+     * The calculation truncates towards zero.
+     *
+     * @param divisor  the value to divide by, may be negative
+     * @return the resulting amount, not null
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public HoursMinutesSeconds dividedBy(long divisor) {
+        if (divisor == 1) {
+            return this;
+        }
+        return ofNanos(nanos / divisor);
+    }
+
+    /**
+     * Returns a copy of this amount with the length negated.
+     *
+     * @return the negated amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds negated() {
+        return multipliedBy(-1);
+    }
+
+    /**
+     * Returns a copy of this amount with a positive length.
+     *
+     * @return the absolute amount, not null
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public HoursMinutesSeconds abs() {
+        return isNegative() ? negated() : this;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds this amount to the specified temporal object.
+     * <p>
+     * {@code LocalTime}, {@code LocalDateTime} and {@code Instant} are adjusted
+     * directly by the nanoseconds, other temporals by seconds and nanoseconds.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to add
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal addTo(Temporal temporal) {
+        if (temporal instanceof LocalTime) {
+            return ((LocalTime) temporal).plusNanos(nanos);
+        }
+        if (temporal instanceof LocalDateTime) {
+            return ((LocalDateTime) temporal).plusNanos(nanos);
+        }
+        if (temporal instanceof Instant) {
+            return ((Instant) temporal).plusNanos(nanos);
+        }
+        long secs = get(SECONDS);
+        long nos = get(NANOS);
+        if (secs != 0) {
+            temporal = temporal.plus(secs, SECONDS);
+        }
+        if (nos != 0) {
+            temporal = temporal.plus(nos, NANOS);
+        }
+        return temporal;
+    }
+
+    /**
+     * Subtracts this amount from the specified temporal object.
+     * <p>
+     * {@code LocalTime}, {@code LocalDateTime} and {@code Instant} are adjusted
+     * directly by the nanoseconds, other temporals by seconds and nanoseconds.
+     *
+     * @param temporal  the temporal object to adjust, not null
+     * @return an object of the same type with the adjustment made, not null
+     * @throws DateTimeException if unable to subtract
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal subtractFrom(Temporal temporal) {
+        if (temporal instanceof LocalTime) {
+            return ((LocalTime) temporal).minusNanos(nanos);
+        }
+        if (temporal instanceof LocalDateTime) {
+            return ((LocalDateTime) temporal).minusNanos(nanos);
+        }
+        if (temporal instanceof Instant) {
+            return ((Instant) temporal).minusNanos(nanos);
+        }
+        long secs = get(SECONDS);
+        long nos = get(NANOS);
+        if (secs != 0) {
+            temporal = temporal.minus(secs, SECONDS);
+        }
+        if (nos != 0) {
+            temporal = temporal.minus(nos, NANOS);
+        }
+        return temporal;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to a {@code Duration}.
+     *
+     * @return the equivalent duration, not null
+     */
+    public Duration toDuration() {
+        return Duration.ofNanos(nanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this amount to another amount.
+     *
+     * @param other  the other amount, not null
+     * @return the comparator value, negative if less, positive if greater
+     * @throws NullPointerException if the other amount is null
+     */
+    @Override
+    public int compareTo(HoursMinutesSeconds other) {
+        Objects.requireNonNull(other, "other");
+        return (nanos < other.nanos ? -1 : (nanos == other.nanos ? 0 : 1));
+    }
+
+    /**
+     * Is this amount equal to that specified.
+     *
+     * @param obj  the other amount, null returns false
+     * @return true if this amount is the same as that specified
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+           return true;
+        }
+        if (obj instanceof HoursMinutesSeconds) {
+            return nanos == ((HoursMinutesSeconds) obj).nanos;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the hash code for this amount.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return (int) (nanos ^ (nanos >>> 32));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string representation of the amount.
+     * This will be in the ISO-8601 format 'PTnHnMnS', omitting zero hours and minutes.
+     * The seconds are output with a fraction if there are nanoseconds.
+     *
+     * @return the amount in ISO-8601 string format, not null
+     */
+    @Override
+    public String toString() {
+        if (nanos == 0) {
+            return "PT0S";
+        }
+        long hours = toHours();
+        int minutes = toMinutesPart();
+        int secs = toSecondsPart();
+        int nanoPart = toNanosPart();
+        StringBuilder buf = new StringBuilder(24);
+        buf.append("PT");
+        if (hours != 0) {
+            buf.append(hours).append('H');
+        }
+        if (minutes != 0) {
+            buf.append(minutes).append('M');
+        }
+        if (secs == 0 && nanoPart == 0) {
+            return buf.toString();
+        }
+        if (secs == 0 && nanoPart < 0) {
+            buf.append('-');
+        }
+        buf.append(secs);
+        if (nanoPart != 0) {
+            int pos = buf.length();
+            buf.append(Math.abs(nanoPart) + NANOS_PER_SECOND);
+            while (buf.charAt(buf.length() - 1) == '0') {
+                buf.setLength(buf.length() - 1);
+            }
+            buf.setCharAt(pos, '.');
+        }
+        return buf.append('S').toString();
+    }
+
+}
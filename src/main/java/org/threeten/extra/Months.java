@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +56,10 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
      * A constant for zero months.
      */
     public static final Months ZERO = new Months(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Months[] CACHE = fillCache(ZERO, new Months[CACHE_MAX - CACHE_MIN + 1]);
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +77,103 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
      * @return the {@code Months} instance, not null
      */
     public static Months of(int months) {
-        if (months == 0) {
-            return ZERO;
+        if (months >= CACHE_MIN && months <= CACHE_MAX) {
+            return CACHE[months - CACHE_MIN];
         }
         return new Months(months);
     }
 
+    /**
+     * Obtains an instance of {@code Months} consisting of the number of months between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDate} and {@code YearMonth} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of months between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Months between(Temporal startInclusive, Temporal endExclusive) {
+        return of(monthsBetween(startInclusive, endExclusive, MONTHS, 1));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Months} that is the total of an array of months.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param months  the numbers of months to sum, not null
+     * @return the total number of months, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Months sum(int[] months) {
+        return of(sumOf(months));
+    }
+
+    /**
+     * Obtains an instance of {@code Months} that is the smallest of an array of months.
+     *
+     * @param months  the numbers of months to search, not null
+     * @return the smallest number of months, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Months min(int[] months) {
+        return of(minOf(months));
+    }
+
+    /**
+     * Obtains an instance of {@code Months} that is the largest of an array of months.
+     *
+     * @param months  the numbers of months to search, not null
+     * @return the largest number of months, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Months max(int[] months) {
+        return of(maxOf(months));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Months} from a text string such as 'P5M'.
+     * <p>
+     * This parses the format 'PnM'.
+     * The 'P' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Months parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Months} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Months parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, false, 'M', "Months"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of months.
@@ -86,7 +186,17 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +226,11 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
         return Months.of(amount);
     }
 
+    @Override
+    Months create(int amount) {
+        return new Months(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +269,18 @@ public final class Months extends AbstractSimpleAmount<Months> implements Serial
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to a {@code Period}.
+     * <p>
+     * The period has the same number of months.
+     *
+     * @return the equivalent period, not null
+     */
+    public Period toPeriod() {
+        return Period.ofMonths(months);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of months.
@@ -38,10 +38,13 @@ import java.util.Locale;
 import java.util.Objects;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.IsoChronology;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.IsoFields;
@@ -52,6 +55,7 @@ import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalQuery;
 import org.threeten.bp.temporal.ValueRange;
+import org.threeten.extra.internal.DisplayNames;
 
 /**
  * A quarter-of-year, such as 'Q2'.
@@ -96,6 +100,10 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * This has the numeric value of {@code 4}.
      */
     Q4;
+    /**
+     * Private cache of all the constants.
+     */
+    private static final QuarterOfYear[] ENUMS = QuarterOfYear.values();
 
     //-----------------------------------------------------------------------
     /**
@@ -144,6 +152,8 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * This factory converts the arbitrary temporal object to an instance of {@code DayOfWeek}.
      * <p>
      * The conversion extracts the {@link IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} field.
+     * {@code LocalDate}, {@code LocalDateTime}, {@code OffsetDateTime} and {@code ZonedDateTime}
+     * are handled directly from the month-of-year.
      * <p>
      * This method matches the signature of the functional interface {@link TemporalQuery}
      * allowing it to be used as a query via method reference, {@code QuarterOfYear::from}.
@@ -156,6 +166,18 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
         if (temporal instanceof QuarterOfYear) {
             return (QuarterOfYear) temporal;
         }
+        if (temporal instanceof LocalDate) {
+            return ENUMS[(((LocalDate) temporal).getMonthValue() - 1) / 3];
+        }
+        if (temporal instanceof LocalDateTime) {
+            return ENUMS[(((LocalDateTime) temporal).getMonthValue() - 1) / 3];
+        }
+        if (temporal instanceof ZonedDateTime) {
+            return ENUMS[(((ZonedDateTime) temporal).getMonthValue() - 1) / 3];
+        }
+        if (temporal instanceof OffsetDateTime) {
+            return ENUMS[(((OffsetDateTime) temporal).getMonthValue() - 1) / 3];
+        }
         return of(temporal.get(QUARTER_OF_YEAR));
     }
 
@@ -186,7 +208,7 @@ public enum QuarterOfYear implements TemporalAccessor, TemporalAdjuster {
      * @return the text value of the quarter-of-year, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(QUARTER_OF_YEAR, style).toFormatter(locale).format(this);
+        return DisplayNames.displayName(this, QUARTER_OF_YEAR, style, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -34,7 +34,12 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +56,10 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
      * A constant for zero seconds.
      */
     public static final Seconds ZERO = new Seconds(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Seconds[] CACHE = fillCache(ZERO, new Seconds[CACHE_MAX - CACHE_MIN + 1]);
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +77,103 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
      * @return the {@code Seconds} instance, not null
      */
     public static Seconds of(int seconds) {
-        if (seconds == 0) {
-            return ZERO;
+        if (seconds >= CACHE_MIN && seconds <= CACHE_MAX) {
+            return CACHE[seconds - CACHE_MIN];
         }
         return new Seconds(seconds);
     }
 
+    /**
+     * Obtains an instance of {@code Seconds} consisting of the number of seconds between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDateTime} and {@code Instant} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of seconds between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Seconds between(Temporal startInclusive, Temporal endExclusive) {
+        return of(secondsBetween(startInclusive, endExclusive, SECONDS, 1));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Seconds} that is the total of an array of seconds.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param seconds  the numbers of seconds to sum, not null
+     * @return the total number of seconds, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Seconds sum(int[] seconds) {
+        return of(sumOf(seconds));
+    }
+
+    /**
+     * Obtains an instance of {@code Seconds} that is the smallest of an array of seconds.
+     *
+     * @param seconds  the numbers of seconds to search, not null
+     * @return the smallest number of seconds, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Seconds min(int[] seconds) {
+        return of(minOf(seconds));
+    }
+
+    /**
+     * Obtains an instance of {@code Seconds} that is the largest of an array of seconds.
+     *
+     * @param seconds  the numbers of seconds to search, not null
+     * @return the largest number of seconds, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Seconds max(int[] seconds) {
+        return of(maxOf(seconds));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Seconds} from a text string such as 'PT5S'.
+     * <p>
+     * This parses the format 'PTnS'.
+     * The 'P', 'T' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Seconds parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Seconds} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Seconds parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, true, 'S', "Seconds"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of seconds.
@@ -86,7 +186,17 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +226,11 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
         return Seconds.of(amount);
     }
 
+    @Override
+    Seconds create(int amount) {
+        return new Seconds(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +269,16 @@ public final class Seconds extends AbstractSimpleAmount<Seconds> implements Seri
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to a {@code Duration}.
+     *
+     * @return the equivalent duration, not null
+     */
+    public Duration toDuration() {
+        return Duration.ofSeconds(seconds);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of seconds.
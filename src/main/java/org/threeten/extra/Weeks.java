@@ -34,7 +34,13 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +57,14 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
      * A constant for zero weeks.
      */
     public static final Weeks ZERO = new Weeks(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Weeks[] CACHE = fillCache(ZERO, new Weeks[CACHE_MAX - CACHE_MIN + 1]);
+    /**
+     * The number of seconds in a week.
+     */
+    private static final long SECONDS_PER_WEEK = 604800;
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +82,103 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
      * @return the {@code Weeks} instance, not null
      */
     public static Weeks of(int weeks) {
-        if (weeks == 0) {
-            return ZERO;
+        if (weeks >= CACHE_MIN && weeks <= CACHE_MAX) {
+            return CACHE[weeks - CACHE_MIN];
         }
         return new Weeks(weeks);
     }
 
+    /**
+     * Obtains an instance of {@code Weeks} consisting of the number of weeks between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDate}, {@code LocalDateTime} and {@code Instant} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of weeks between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Weeks between(Temporal startInclusive, Temporal endExclusive) {
+        return of(secondsBetween(startInclusive, endExclusive, WEEKS, SECONDS_PER_WEEK));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Weeks} that is the total of an array of weeks.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param weeks  the numbers of weeks to sum, not null
+     * @return the total number of weeks, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Weeks sum(int[] weeks) {
+        return of(sumOf(weeks));
+    }
+
+    /**
+     * Obtains an instance of {@code Weeks} that is the smallest of an array of weeks.
+     *
+     * @param weeks  the numbers of weeks to search, not null
+     * @return the smallest number of weeks, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Weeks min(int[] weeks) {
+        return of(minOf(weeks));
+    }
+
+    /**
+     * Obtains an instance of {@code Weeks} that is the largest of an array of weeks.
+     *
+     * @param weeks  the numbers of weeks to search, not null
+     * @return the largest number of weeks, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Weeks max(int[] weeks) {
+        return of(maxOf(weeks));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Weeks} from a text string such as 'P5W'.
+     * <p>
+     * This parses the format 'PnW'.
+     * The 'P' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Weeks parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Weeks} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Weeks parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, false, 'W', "Weeks"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of weeks.
@@ -86,7 +191,17 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +231,11 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
         return Weeks.of(amount);
     }
 
+    @Override
+    Weeks create(int amount) {
+        return new Weeks(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +274,31 @@ public final class Weeks extends AbstractSimpleAmount<Weeks> implements Serializ
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to the equivalent number of days.
+     * <p>
+     * Each week is exactly 7 days.
+     *
+     * @return the equivalent number of days, not null
+     * @throws ArithmeticException if the result exceeds an {@code int}
+     */
+    public Days toDays() {
+        return Days.of(Jdk8Methods.safeMultiply(weeks, 7));
+    }
+
+    /**
+     * Converts this amount to a {@code Period}.
+     * <p>
+     * The period has seven days for each week.
+     *
+     * @return the equivalent period, not null
+     * @throws ArithmeticException if the number of days exceeds an {@code int}
+     */
+    public Period toPeriod() {
+        return Period.ofDays(Jdk8Methods.safeMultiply(weeks, 7));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of weeks.
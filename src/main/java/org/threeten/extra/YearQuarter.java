@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoField.EPOCH_MONTH;
+import static org.threeten.bp.temporal.ChronoField.ERA;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_YEARS;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * A year-quarter in the ISO-8601 calendar system, such as {@code 2012-Q2}.
+ * <p>
+ * {@code YearQuarter} is an immutable date-time object that represents the combination
+ * of a year and quarter-of-year. Any field that can be derived from a year and quarter
+ * can be obtained. The quarters are as defined by {@link QuarterOfYear}.
+ * <p>
+ * The year and quarter are packed into a single {@code int}, the number of quarters
+ * since year zero, making the type cheap to compare, hash and step.
+ * As a consequence the supported years are limited to the range
+ * -536,870,912 to 536,870,911.
+ * Instances for the years 1900 to 2100 are cached.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class YearQuarter
+        implements Comparable<YearQuarter>, TemporalAccessor, TemporalAdjuster, Serializable {
+
+    /**
+     * A serialization identifier for this instance.
+     */
+    private static final long serialVersionUID = 4183400860270640070L;
+    /**
+     * The minimum supported year.
+     */
+    private static final int MIN_YEAR = Integer.MIN_VALUE >> 2;
+    /**
+     * The maximum supported year.
+     */
+    private static final int MAX_YEAR = Integer.MAX_VALUE >> 2;
+    /**
+     * The first year that is cached.
+     */
+    private static final int CACHE_MIN_YEAR = 1900;
+    /**
+     * The last year that is cached.
+     */
+    private static final int CACHE_MAX_YEAR = 2100;
+    /**
+     * Cache of instances, indexed by packed value less that of the first cached year.
+     */
+    private static final YearQuarter[] CACHE = new YearQuarter[(CACHE_MAX_YEAR - CACHE_MIN_YEAR + 1) * 4];
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new YearQuarter(CACHE_MIN_YEAR * 4 + i);
+        }
+    }
+
+    /**
+     * The year and quarter, packed as {@code year * 4 + quarter - 1}.
+     */
+    private final int packed;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code YearQuarter} from a year and quarter.
+     *
+     * @param year  the year to represent, from -536,870,912 to 536,870,911
+     * @param quarter  the quarter-of-year to represent, not null
+     * @return the year-quarter, not null
+     * @throws DateTimeException if the year value is invalid
+     */
+    public static YearQuarter of(int year, QuarterOfYear quarter) {
+        Objects.requireNonNull(quarter, "quarter");
+        return of(year, quarter.getValue());
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a year and quarter.
+     *
+     * @param year  the year to represent, from -536,870,912 to 536,870,911
+     * @param quarter  the quarter-of-year to represent, from 1 (Q1) to 4 (Q4)
+     * @return the year-quarter, not null
+     * @throws DateTimeException if either field value is invalid
+     */
+    public static YearQuarter of(int year, int quarter) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException("Invalid year for YearQuarter: " + year);
+        }
+        if (quarter < 1 || quarter > 4) {
+            throw new DateTimeException("Invalid value for QuarterOfYear: " + quarter);
+        }
+        return ofPacked(year * 4 + quarter - 1);
+    }
+
+    /**
+     * Obtains an instance of {@code YearQuarter} from a temporal object.
+     * <p>
+     * A {@code TemporalAccessor} represents some form of date and time information.
+     * This factory converts the arbitrary temporal object to an instance of {@code YearQuarter}.
+     * <p>
+     * The conversion extracts the {@link ChronoField#YEAR YEAR} and
+     * {@link org.threeten.bp.temporal.IsoFields#QUARTER_OF_YEAR QUARTER_OF_YEAR} fields.
+     * The extraction is only permitted if the temporal object has an ISO
+     * chronology, or can be converted to a {@code LocalDate}.
+     * {@code LocalDate} and {@code LocalDateTime} are read directly.
+     * <p>
+     * This method matches the signature of the functional interface {@link TemporalQuery}
+     * allowing it to be used as a query via method reference, {@code YearQuarter::from}.
+     *
+     * @param temporal  the temporal object to convert, not null
+     * @return the year-quarter, not null
+     * @throws DateTimeException if unable to convert to a {@code YearQuarter}
+     */
+    public static YearQuarter from(TemporalAccessor temporal) {
+        if (temporal instanceof YearQuarter) {
+            return (YearQuarter) temporal;
+        }
+        if (temporal instanceof LocalDate) {
+            LocalDate date = (LocalDate) temporal;
+            return of(date.getYear(), (date.getMonthValue() + 2) / 3);
+        }
+        if (temporal instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporal;
+            return of(dateTime.getYear(), (dateTime.getMonthValue() + 2) / 3);
+        }
+        try {
+            if (IsoChronology.INSTANCE.equals(Chronology.from(temporal)) == false) {
+                temporal = LocalDate.from(temporal);
+            }
+            return of(temporal.get(YEAR), temporal.get(QUARTER_OF_YEAR));
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain YearQuarter from TemporalAccessor: " + temporal.getClass(), ex);
+        }
+    }
+
+    /**
+     * Obtains an instance from the packed value, using the cache where possible.
+     *
+     * @param packed  the packed year and quarter
+     * @return the year-quarter, not null
+     */
+    private static YearQuarter ofPacked(int packed) {
+        int index = packed - CACHE_MIN_YEAR * 4;
+        if (index >= 0 && index < CACHE.length) {
+            return CACHE[index];
+        }
+        return new YearQuarter(packed);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param packed  the packed year and quarter
+     */
+    private YearQuarter(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Resolves the cached instance where possible.
+     *
+     * @return the year-quarter, not null
+     */
+    private Object readResolve() {
+        return ofPacked(packed);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the year field.
+     *
+     * @return the year, from -536,870,912 to 536,870,911
+     */
+    public int getYear() {
+        return packed >> 2;
+    }
+
+    /**
+     * Gets the quarter-of-year field as an {@code int}.
+     *
+     * @return the quarter-of-year, from 1 (Q1) to 4 (Q4)
+     */
+    public int getQuarterValue() {
+        return (packed & 3) + 1;
+    }
+
+    /**
+     * Gets the quarter-of-year field using the {@code QuarterOfYear} enum.
+     *
+     * @return the quarter-of-year, not null
+     */
+    public QuarterOfYear getQuarter() {
+        return QuarterOfYear.of(getQuarterValue());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified field is supported.
+     * <p>
+     * This checks if this year-quarter can be queried for the specified field.
+     * If false, then calling the {@link #range(TemporalField) range} and
+     * {@link #get(TemporalField) get} methods will throw an exception.
+     * <p>
+     * The supported fields are {@code QUARTER_OF_YEAR}, {@code YEAR_OF_ERA},
+     * {@code YEAR} and {@code ERA}.
+     * All other {@code ChronoField} instances will return false.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.isSupportedBy(TemporalAccessor)}
+     * passing {@code this} as the argument.
+     * Whether the field is supported is determined by the field.
+     *
+     * @param field  the field to check, null returns false
+     * @return true if the field is supported on this year-quarter, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field == QUARTER_OF_YEAR) {
+            return true;
+        } else if (field instanceof ChronoField) {
+            return field == YEAR || field == YEAR_OF_ERA || field == ERA;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Gets the range of valid values for the specified field.
+     * <p>
+     * The range object expresses the minimum and maximum valid values for a field.
+     * This year-quarter is used to enhance the accuracy of the returned range.
+     * If it is not possible to return the range, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to query the range for, not null
+     * @return the range of valid values for the field, not null
+     * @throws DateTimeException if the range for the field cannot be obtained
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field == QUARTER_OF_YEAR) {
+            return QUARTER_OF_YEAR.range();
+        } else if (field == YEAR) {
+            return ValueRange.of(MIN_YEAR, MAX_YEAR);
+        } else if (field == YEAR_OF_ERA) {
+            return (getYear() <= 0 ? ValueRange.of(1, 1L - MIN_YEAR) : ValueRange.of(1, MAX_YEAR));
+        } else if (field == ERA) {
+            return field.range();
+        } else if (field instanceof ChronoField) {
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    /**
+     * Gets the value of the specified field from this year-quarter as an {@code int}.
+     * <p>
+     * This queries this year-quarter for the value for the specified field.
+     * The returned value will always be within the valid range of values for the field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field, within the valid range of values
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public int get(TemporalField field) {
+        if (field == QUARTER_OF_YEAR) {
+            return getQuarterValue();
+        } else if (field == YEAR) {
+            return getYear();
+        }
+        return range(field).checkValidIntValue(getLong(field), field);
+    }
+
+    /**
+     * Gets the value of the specified field from this year-quarter as a {@code long}.
+     * <p>
+     * This queries this year-quarter for the value for the specified field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public long getLong(TemporalField field) {
+        if (field == QUARTER_OF_YEAR) {
+            return getQuarterValue();
+        } else if (field instanceof ChronoField) {
+            int year = getYear();
+            switch ((ChronoField) field) {
+                case YEAR: return year;
+                case YEAR_OF_ERA: return (year < 1 ? 1 - year : year);
+                case ERA: return (year < 1 ? 0 : 1);
+                default: throw new DateTimeException("Unsupported field: " + field.getName());
+            }
+        }
+        return field.getFrom(this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the year is a leap year, according to the ISO proleptic
+     * calendar system rules.
+     *
+     * @return true if the year is leap, false otherwise
+     */
+    public boolean isLeapYear() {
+        return Year.isLeap(getYear());
+    }
+
+    /**
+     * Returns the length of the quarter in days, taking account of the year.
+     * <p>
+     * The first quarter has 90 days, or 91 in a leap year.
+     * The second quarter has 91 days and the third and fourth have 92.
+     *
+     * @return the length of the quarter in days, from 90 to 92
+     */
+    public int lengthInDays() {
+        switch (packed & 3) {
+            case 0: return (isLeapYear() ? 91 : 90);
+            case 1: return 91;
+            default: return 92;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this year-quarter with the specified number of quarters added.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param quarters  the quarters to add, may be negative
+     * @return a year-quarter based on this one with the quarters added, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearQuarter plusQuarters(long quarters) {
+        if (quarters == 0) {
+            return this;
+        }
+        long newPacked = packed + quarters;
+        if (quarters > Integer.MAX_VALUE || quarters < Integer.MIN_VALUE || newPacked != (int) newPacked) {
+            throw new DateTimeException("Resulting YearQuarter exceeds the supported range");
+        }
+        return ofPacked((int) newPacked);
+    }
+
+    /**
+     * Returns a copy of this year-quarter with the specified number of quarters subtracted.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param quarters  the quarters to subtract, may be negative
+     * @return a year-quarter based on this one with the quarters subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public YearQuarter minusQuarters(long quarters) {
+        return (quarters == Long.MIN_VALUE ? plusQuarters(Long.MAX_VALUE).plusQuarters(1) : plusQuarters(-quarters));
+    }
+
+    /**
+     * Returns a copy of this year-quarter with the specified number of years added.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param years  the years to add, may be negative
+     * @return a year-quarter based on this one with the years added, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public YearQuarter plusYears(long years) {
+        return plusQuarters(Jdk8Methods.safeMultiply(years, 4));
+    }
+
+    /**
+     * Calculates the number of quarters from this year-quarter to the specified one.
+     * <p>
+     * The result is negative if the end is before this year-quarter.
+     *
+     * @param end  the end year-quarter, exclusive, not null
+     * @return the number of quarters between this year-quarter and the end
+     */
+    public long quartersUntil(YearQuarter end) {
+        return (long) end.packed - packed;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Combines this year-quarter with a day-of-quarter to create a {@code LocalDate}.
+     * <p>
+     * The day-of-quarter runs from 1 to {@link #lengthInDays()}.
+     *
+     * @param dayOfQuarter  the day-of-quarter to use, from 1 to 92
+     * @return the date formed from this year-quarter and the specified day, not null
+     * @throws DateTimeException if the day is invalid for the year-quarter
+     */
+    public LocalDate atDay(int dayOfQuarter) {
+        if (dayOfQuarter < 1 || dayOfQuarter > lengthInDays()) {
+            throw new DateTimeException("Invalid day-of-quarter for " + this + ": " + dayOfQuarter);
+        }
+        int month = (packed & 3) * 3 + 1;
+        int day = dayOfQuarter;
+        int length = monthLength(month);
+        while (day > length) {
+            day -= length;
+            month++;
+            length = monthLength(month);
+        }
+        return LocalDate.of(getYear(), month, day);
+    }
+
+    /**
+     * Returns a {@code LocalDate} at the end of the quarter.
+     *
+     * @return the last valid date of this year-quarter, not null
+     */
+    public LocalDate atEndOfQuarter() {
+        int month = (packed & 3) * 3 + 3;
+        return LocalDate.of(getYear(), month, monthLength(month));
+    }
+
+    /**
+     * Gets the length of the month in this year.
+     *
+     * @param month  the month, from 1 to 12
+     * @return the length of the month in days
+     */
+    private int monthLength(int month) {
+        switch (month) {
+            case 2: return (isLeapYear() ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Queries this year-quarter using the specified query.
+     * <p>
+     * This queries this year-quarter using the specified query strategy object.
+     * The {@code TemporalQuery} object defines the logic to be used to
+     * obtain the result. Read the documentation of the query to understand
+     * what the result of this method will be.
+     *
+     * @param <R> the type of the result
+     * @param query  the query to invoke, not null
+     * @return the query result, null may be returned (defined by the query)
+     * @throws DateTimeException if unable to query (defined by the query)
+     * @throws ArithmeticException if numeric overflow occurs (defined by the query)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(TemporalQuery<R> query) {
+        if (query == TemporalQueries.chronology()) {
+            return (R) IsoChronology.INSTANCE;
+        } else if (query == TemporalQueries.precision()) {
+            return (R) QUARTER_YEARS;
+        } else if (query == TemporalQueries.zoneId()) {
+            return null;
+        }
+        return query.queryFrom(this);
+    }
+
+    /**
+     * Adjusts the specified temporal object to have this year-quarter.
+     * <p>
+     * This returns a temporal object of the same observable type as the input
+     * with the year and quarter changed to be the same as this.
+     * The month-within-quarter is retained and the day-of-month is
+     * adjusted if it would be invalid in the new month.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the target object to be adjusted, not null
+     * @return the adjusted object, not null
+     * @throws DateTimeException if unable to make the adjustment
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal adjustInto(Temporal temporal) {
+        if (Chronology.from(temporal).equals(IsoChronology.INSTANCE) == false) {
+            throw new DateTimeException("Adjustment only supported on ISO date-time");
+        }
+        int monthInQuarter = (temporal.get(MONTH_OF_YEAR) - 1) % 3;
+        long epochMonth = (getYear() - 1970L) * 12 + (packed & 3) * 3 + monthInQuarter;
+        return temporal.with(EPOCH_MONTH, epochMonth);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this year-quarter to another.
+     * <p>
+     * The comparison is based first on the value of the year, then on the value of the quarter.
+     *
+     * @param other  the other year-quarter to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(YearQuarter other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    /**
+     * Is this year-quarter after the specified year-quarter.
+     *
+     * @param other  the other year-quarter to compare to, not null
+     * @return true if this is after the specified year-quarter
+     */
+    public boolean isAfter(YearQuarter other) {
+        return packed > other.packed;
+    }
+
+    /**
+     * Is this year-quarter before the specified year-quarter.
+     *
+     * @param other  the other year-quarter to compare to, not null
+     * @return true if this point is before the specified year-quarter
+     */
+    public boolean isBefore(YearQuarter other) {
+        return packed < other.packed;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this year-quarter is equal to another year-quarter.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other year-quarter
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof YearQuarter) {
+            return packed == ((YearQuarter) obj).packed;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this year-quarter.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    /**
+     * Outputs this year-quarter as a {@code String}, such as {@code 2012-Q2}.
+     * <p>
+     * Years outside the range 0000 to 9999 are output with a sign, as for {@code LocalDate}.
+     *
+     * @return a string representation of this year-quarter, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = ExtraFormatters.appendYear(new StringBuilder(12), getYear());
+        return buf.append("-Q").append(getQuarterValue()).toString();
+    }
+
+}
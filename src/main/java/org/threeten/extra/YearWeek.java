@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.IsoFields.WEEK_BASED_YEAR;
+import static org.threeten.bp.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * A year-week in the ISO-8601 week-based calendar system, such as {@code 2012-W05}.
+ * <p>
+ * {@code YearWeek} is an immutable date-time object that represents the combination
+ * of a week-based-year and week-of-week-based-year, as defined by
+ * {@link org.threeten.bp.temporal.IsoFields IsoFields}.
+ * Weeks start on Monday and the first week of the week-based-year is the
+ * week containing the first Thursday of the standard year.
+ * As such, the week-based-year can differ from the standard year near year boundaries.
+ * <p>
+ * The year and week are packed into a single {@code int}, making the type cheap
+ * to compare, hash and use as a sort key. As a consequence the supported years
+ * are limited to the range -33,554,432 to 33,554,431.
+ * Conversion from a {@code LocalDate} is performed arithmetically, without
+ * field resolution.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class YearWeek
+        implements Comparable<YearWeek>, TemporalAccessor, TemporalAdjuster, Serializable {
+
+    /**
+     * A serialization identifier for this instance.
+     */
+    private static final long serialVersionUID = 3381384054271883921L;
+    /**
+     * The minimum supported week-based-year.
+     */
+    private static final int MIN_YEAR = Integer.MIN_VALUE >> 6;
+    /**
+     * The maximum supported week-based-year.
+     */
+    private static final int MAX_YEAR = Integer.MAX_VALUE >> 6;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    /**
+     * The week-based-year and week, packed as {@code (year << 6) | week}.
+     */
+    private final int packed;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code YearWeek} from a week-based-year and week.
+     *
+     * @param weekBasedYear  the week-based-year to represent, from -33,554,432 to 33,554,431
+     * @param week  the week-of-week-based-year to represent, from 1 to 53
+     * @return the year-week, not null
+     * @throws DateTimeException if either field value is invalid
+     */
+    public static YearWeek of(int weekBasedYear, int week) {
+        if (weekBasedYear < MIN_YEAR || weekBasedYear > MAX_YEAR) {
+            throw new DateTimeException("Invalid week-based-year for YearWeek: " + weekBasedYear);
+        }
+        if (week < 1 || week > weeksInYear(weekBasedYear)) {
+            throw new DateTimeException("Invalid week for week-based-year " + weekBasedYear + ": " + week);
+        }
+        return new YearWeek((weekBasedYear << 6) | week);
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a date.
+     * <p>
+     * The week-based-year and week are calculated from the day-of-year and
+     * day-of-week of the date, adjusting across the year boundary as necessary.
+     *
+     * @param date  the date to convert, not null
+     * @return the year-week, not null
+     * @throws DateTimeException if the week-based-year is outside the supported range
+     */
+    public static YearWeek from(LocalDate date) {
+        int year = date.getYear();
+        int dow0 = Jdk8Methods.floorMod(date.toEpochDay() + 3, 7);
+        int thursdayDoy = date.getDayOfYear() - dow0 + 3;
+        if (thursdayDoy < 1) {
+            year--;
+            thursdayDoy += (Year.isLeap(year) ? 366 : 365);
+        } else {
+            int length = (Year.isLeap(year) ? 366 : 365);
+            if (thursdayDoy > length) {
+                year++;
+                thursdayDoy -= length;
+            }
+        }
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new DateTimeException("Invalid week-based-year for YearWeek: " + year);
+        }
+        return new YearWeek((year << 6) | ((thursdayDoy - 1) / 7 + 1));
+    }
+
+    /**
+     * Obtains an instance of {@code YearWeek} from a temporal object.
+     * <p>
+     * A {@code TemporalAccessor} represents some form of date and time information.
+     * This factory converts the arbitrary temporal object to an instance of {@code YearWeek}.
+     * <p>
+     * {@code LocalDate} and {@code LocalDateTime} are converted arithmetically.
+     * Other objects have the {@link org.threeten.bp.temporal.IsoFields#WEEK_BASED_YEAR WEEK_BASED_YEAR}
+     * and {@link org.threeten.bp.temporal.IsoFields#WEEK_OF_WEEK_BASED_YEAR WEEK_OF_WEEK_BASED_YEAR}
+     * fields extracted, which is only permitted if the object has an ISO chronology,
+     * or can be converted to a {@code LocalDate}.
+     * <p>
+     * This method matches the signature of the functional interface {@link TemporalQuery}
+     * allowing it to be used as a query via method reference, {@code YearWeek::from}.
+     *
+     * @param temporal  the temporal object to convert, not null
+     * @return the year-week, not null
+     * @throws DateTimeException if unable to convert to a {@code YearWeek}
+     */
+    public static YearWeek from(TemporalAccessor temporal) {
+        if (temporal instanceof YearWeek) {
+            return (YearWeek) temporal;
+        }
+        if (temporal instanceof LocalDate) {
+            return from((LocalDate) temporal);
+        }
+        if (temporal instanceof LocalDateTime) {
+            return from(((LocalDateTime) temporal).toLocalDate());
+        }
+        try {
+            if (IsoChronology.INSTANCE.equals(Chronology.from(temporal)) == false) {
+                return from(LocalDate.from(temporal));
+            }
+            return of(temporal.get(WEEK_BASED_YEAR), temporal.get(WEEK_OF_WEEK_BASED_YEAR));
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain YearWeek from TemporalAccessor: " + temporal.getClass(), ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the epoch-day of the Monday of the first week of the week-based-year.
+     *
+     * @param weekBasedYear  the week-based-year
+     * @return the epoch-day of the Monday starting week 1
+     */
+    private static long week1MondayEpochDay(long weekBasedYear) {
+        long jan1 = jan1EpochDay(weekBasedYear);
+        int dow0 = Jdk8Methods.floorMod(jan1 + 3, 7);
+        return (dow0 <= 3 ? jan1 - dow0 : jan1 - dow0 + 7);
+    }
+
+    /**
+     * Gets the epoch-day of the first of January of the year.
+     *
+     * @param year  the proleptic year
+     * @return the epoch-day of the first day of the year
+     */
+    private static long jan1EpochDay(long year) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Gets the number of weeks in the week-based-year.
+     * <p>
+     * A year has 53 weeks if it starts on a Thursday, or is a leap year
+     * starting on a Wednesday. All other years have 52 weeks.
+     *
+     * @param weekBasedYear  the week-based-year
+     * @return the number of weeks, 52 or 53
+     */
+    private static int weeksInYear(int weekBasedYear) {
+        int dow0 = Jdk8Methods.floorMod(jan1EpochDay(weekBasedYear) + 3, 7);
+        return (dow0 == 3 || (dow0 == 2 && Year.isLeap(weekBasedYear)) ? 53 : 52);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param packed  the packed week-based-year and week
+     */
+    private YearWeek(int packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Validates the deserialized state.
+     *
+     * @return the year-week, not null
+     */
+    private Object readResolve() {
+        return of(getYear(), getWeek());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the week-based-year field.
+     * <p>
+     * This may differ from the standard year for dates near the start or end of the year.
+     *
+     * @return the week-based-year, from -33,554,432 to 33,554,431
+     */
+    public int getYear() {
+        return packed >> 6;
+    }
+
+    /**
+     * Gets the week-of-week-based-year field.
+     *
+     * @return the week, from 1 to 53
+     */
+    public int getWeek() {
+        return packed & 63;
+    }
+
+    /**
+     * Checks if the week-based-year has 53 weeks.
+     *
+     * @return true if the week-based-year has 53 weeks, false if it has 52
+     */
+    public boolean is53WeekYear() {
+        return weeksInYear(getYear()) == 53;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified field is supported.
+     * <p>
+     * This checks if this year-week can be queried for the specified field.
+     * If false, then calling the {@link #range(TemporalField) range} and
+     * {@link #get(TemporalField) get} methods will throw an exception.
+     * <p>
+     * The supported fields are {@code WEEK_BASED_YEAR} and {@code WEEK_OF_WEEK_BASED_YEAR}.
+     * All {@code ChronoField} instances will return false.
+     * <p>
+     * If the field is not a {@code ChronoField}, then the result of this method
+     * is obtained by invoking {@code TemporalField.isSupportedBy(TemporalAccessor)}
+     * passing {@code this} as the argument.
+     * Whether the field is supported is determined by the field.
+     *
+     * @param field  the field to check, null returns false
+     * @return true if the field is supported on this year-week, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field == WEEK_BASED_YEAR || field == WEEK_OF_WEEK_BASED_YEAR) {
+            return true;
+        } else if (field instanceof ChronoField) {
+            return false;
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Gets the range of valid values for the specified field.
+     * <p>
+     * The range object expresses the minimum and maximum valid values for a field.
+     * This year-week is used to enhance the accuracy of the returned range.
+     * If it is not possible to return the range, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to query the range for, not null
+     * @return the range of valid values for the field, not null
+     * @throws DateTimeException if the range for the field cannot be obtained
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field == WEEK_BASED_YEAR) {
+            return ValueRange.of(MIN_YEAR, MAX_YEAR);
+        } else if (field == WEEK_OF_WEEK_BASED_YEAR) {
+            return ValueRange.of(1, weeksInYear(getYear()));
+        } else if (field instanceof ChronoField) {
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    /**
+     * Gets the value of the specified field from this year-week as an {@code int}.
+     * <p>
+     * This queries this year-week for the value for the specified field.
+     * The returned value will always be within the valid range of values for the field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field, within the valid range of values
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public int get(TemporalField field) {
+        if (field == WEEK_BASED_YEAR) {
+            return getYear();
+        } else if (field == WEEK_OF_WEEK_BASED_YEAR) {
+            return getWeek();
+        }
+        return range(field).checkValidIntValue(getLong(field), field);
+    }
+
+    /**
+     * Gets the value of the specified field from this year-week as a {@code long}.
+     * <p>
+     * This queries this year-week for the value for the specified field.
+     * If it is not possible to return the value, because the field is not supported
+     * or for some other reason, an exception is thrown.
+     *
+     * @param field  the field to get, not null
+     * @return the value for the field
+     * @throws DateTimeException if a value for the field cannot be obtained
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public long getLong(TemporalField field) {
+        if (field == WEEK_BASED_YEAR) {
+            return getYear();
+        } else if (field == WEEK_OF_WEEK_BASED_YEAR) {
+            return getWeek();
+        } else if (field instanceof ChronoField) {
+            throw new DateTimeException("Unsupported field: " + field.getName());
+        }
+        return field.getFrom(this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this year-week with the specified number of weeks added.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param weeks  the weeks to add, may be negative
+     * @return a year-week based on this one with the weeks added, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public YearWeek plusWeeks(long weeks) {
+        if (weeks == 0) {
+            return this;
+        }
+        int week = getWeek();
+        if (weeks > -week && weeks <= 52 - week) {
+            return new YearWeek(packed + (int) weeks);
+        }
+        long monday = Jdk8Methods.safeAdd(mondayEpochDay(), Jdk8Methods.safeMultiply(weeks, 7));
+        return from(LocalDate.ofEpochDay(monday));
+    }
+
+    /**
+     * Returns a copy of this year-week with the specified number of weeks subtracted.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param weeks  the weeks to subtract, may be negative
+     * @return a year-week based on this one with the weeks subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public YearWeek minusWeeks(long weeks) {
+        return (weeks == Long.MIN_VALUE ? plusWeeks(Long.MAX_VALUE).plusWeeks(1) : plusWeeks(-weeks));
+    }
+
+    /**
+     * Calculates the number of weeks from this year-week to the specified one.
+     * <p>
+     * The result is negative if the end is before this year-week.
+     *
+     * @param end  the end year-week, exclusive, not null
+     * @return the number of weeks between this year-week and the end
+     */
+    public long weeksUntil(YearWeek end) {
+        if (end.getYear() == getYear()) {
+            return end.getWeek() - getWeek();
+        }
+        return (end.mondayEpochDay() - mondayEpochDay()) / 7;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Combines this year-week with a day-of-week to create a {@code LocalDate}.
+     * <p>
+     * This returns the date of the specified day within this week.
+     * The date may be in the standard year before or after the week-based-year.
+     *
+     * @param dayOfWeek  the day-of-week to use, not null
+     * @return the date formed from this year-week and the specified day, not null
+     */
+    public LocalDate atDay(DayOfWeek dayOfWeek) {
+        Objects.requireNonNull(dayOfWeek, "dayOfWeek");
+        return LocalDate.ofEpochDay(mondayEpochDay() + dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * Gets the epoch-day of the Monday of this week.
+     *
+     * @return the epoch-day of the Monday
+     */
+    private long mondayEpochDay() {
+        return week1MondayEpochDay(getYear()) + (getWeek() - 1) * 7L;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Queries this year-week using the specified query.
+     * <p>
+     * This queries this year-week using the specified query strategy object.
+     * The {@code TemporalQuery} object defines the logic to be used to
+     * obtain the result. Read the documentation of the query to understand
+     * what the result of this method will be.
+     *
+     * @param <R> the type of the result
+     * @param query  the query to invoke, not null
+     * @return the query result, null may be returned (defined by the query)
+     * @throws DateTimeException if unable to query (defined by the query)
+     * @throws ArithmeticException if numeric overflow occurs (defined by the query)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> R query(TemporalQuery<R> query) {
+        if (query == TemporalQueries.chronology()) {
+            return (R) IsoChronology.INSTANCE;
+        } else if (query == TemporalQueries.precision()) {
+            return (R) WEEKS;
+        } else if (query == TemporalQueries.zoneId()) {
+            return null;
+        }
+        return query.queryFrom(this);
+    }
+
+    /**
+     * Adjusts the specified temporal object to have this year-week.
+     * <p>
+     * This returns a temporal object of the same observable type as the input
+     * with the week-based-year and week changed to be the same as this.
+     * The day-of-week is retained.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param temporal  the target object to be adjusted, not null
+     * @return the adjusted object, not null
+     * @throws DateTimeException if unable to make the adjustment
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public Temporal adjustInto(Temporal temporal) {
+        if (Chronology.from(temporal).equals(IsoChronology.INSTANCE) == false) {
+            throw new DateTimeException("Adjustment only supported on ISO date-time");
+        }
+        return temporal.with(EPOCH_DAY, mondayEpochDay() + temporal.get(DAY_OF_WEEK) - 1);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this year-week to another.
+     * <p>
+     * The comparison is based first on the week-based-year, then on the week.
+     *
+     * @param other  the other year-week to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(YearWeek other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    /**
+     * Is this year-week after the specified year-week.
+     *
+     * @param other  the other year-week to compare to, not null
+     * @return true if this is after the specified year-week
+     */
+    public boolean isAfter(YearWeek other) {
+        return packed > other.packed;
+    }
+
+    /**
+     * Is this year-week before the specified year-week.
+     *
+     * @param other  the other year-week to compare to, not null
+     * @return true if this point is before the specified year-week
+     */
+    public boolean isBefore(YearWeek other) {
+        return packed < other.packed;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this year-week is equal to another year-week.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other year-week
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof YearWeek) {
+            return packed == ((YearWeek) obj).packed;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this year-week.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    /**
+     * Outputs this year-week as a {@code String}, such as {@code 2012-W05}.
+     * <p>
+     * Years outside the range 0000 to 9999 are output with a sign, as for {@code LocalDate}.
+     *
+     * @return a string representation of this year-week, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = ExtraFormatters.appendYear(new StringBuilder(12), getYear());
+        int week = getWeek();
+        return buf.append(week < 10 ? "-W0" : "-W").append(week).toString();
+    }
+
+}
@@ -34,7 +34,13 @@ package org.threeten.extra;
 import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
 import java.io.Serializable;
+import java.util.Objects;
 
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Period;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -51,6 +57,10 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
      * A constant for zero years.
      */
     public static final Years ZERO = new Years(0);
+    /**
+     * Cache of commonly used amounts, from {@code CACHE_MIN} to {@code CACHE_MAX}.
+     */
+    private static final Years[] CACHE = fillCache(ZERO, new Years[CACHE_MAX - CACHE_MIN + 1]);
     /**
      * A serialization identifier for this class.
      */
@@ -68,12 +78,103 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
      * @return the {@code Years} instance, not null
      */
     public static Years of(int years) {
-        if (years == 0) {
-            return ZERO;
+        if (years >= CACHE_MIN && years <= CACHE_MAX) {
+            return CACHE[years - CACHE_MIN];
         }
         return new Years(years);
     }
 
+    /**
+     * Obtains an instance of {@code Years} consisting of the number of years between two temporals.
+     * <p>
+     * The start temporal is included, but the end temporal is not.
+     * The result is negative if the end is before the start.
+     * Pairs of {@code LocalDate} and {@code YearMonth} are calculated directly,
+     * other temporals use {@link Temporal#periodUntil(Temporal, TemporalUnit)}.
+     *
+     * @param startInclusive  the start temporal, inclusive, not null
+     * @param endExclusive  the end temporal, exclusive, not null
+     * @return the number of years between the temporals, not null
+     * @throws DateTimeException if the amount cannot be calculated
+     * @throws ArithmeticException if the amount exceeds an {@code int}
+     */
+    public static Years between(Temporal startInclusive, Temporal endExclusive) {
+        return of(monthsBetween(startInclusive, endExclusive, YEARS, 12));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Years} that is the total of an array of years.
+     * <p>
+     * The array is summed without creating an instance per element.
+     * Intermediate totals may exceed an {@code int} as only the final total is checked.
+     *
+     * @param years  the numbers of years to sum, not null
+     * @return the total number of years, not null
+     * @throws ArithmeticException if the total exceeds an {@code int}
+     */
+    public static Years sum(int[] years) {
+        return of(sumOf(years));
+    }
+
+    /**
+     * Obtains an instance of {@code Years} that is the smallest of an array of years.
+     *
+     * @param years  the numbers of years to search, not null
+     * @return the smallest number of years, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Years min(int[] years) {
+        return of(minOf(years));
+    }
+
+    /**
+     * Obtains an instance of {@code Years} that is the largest of an array of years.
+     *
+     * @param years  the numbers of years to search, not null
+     * @return the largest number of years, not null
+     * @throws IllegalArgumentException if the array is empty
+     */
+    public static Years max(int[] years) {
+        return of(maxOf(years));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Years} from a text string such as 'P5Y'.
+     * <p>
+     * This parses the format 'PnY'.
+     * The 'P' and unit letters are case insensitive.
+     * A leading plus or minus sign is permitted before the 'P' and before the number,
+     * with a minus negating the amount.
+     * The format produced by {@link #toString()} is always accepted.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed amount, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Years parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Obtains an instance of {@code Years} from a region of a text string.
+     * <p>
+     * This parses the same format as {@link #parse(CharSequence)}.
+     * The text is scanned directly, without regular expressions or intermediate strings.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @return the parsed amount, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Years parse(CharSequence text, int offset, int length) {
+        return of(parseAmount(text, offset, length, false, 'Y', "Years"));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance using a specific number of years.
@@ -86,7 +187,17 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
     }
 
     /**
-     * Resolves singletons.
+     * Writes the object using the shared compact
+     * <a href="../../../serialized-form.html#org.threeten.extra.Ser">dedicated serialized form</a>.
+     *
+     * @return the serialization delegate, not null
+     */
+    private Object writeReplace() {
+        return new Ser(this);
+    }
+
+    /**
+     * Resolves singletons, used when reading the original serialized form.
      *
      * @return the singleton instance
      */
@@ -116,6 +227,11 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
         return Years.of(amount);
     }
 
+    @Override
+    Years create(int amount) {
+        return new Years(amount);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the unit defining the amount of time.
@@ -154,6 +270,30 @@ public final class Years extends AbstractSimpleAmount<Years> implements Serializ
         return minus(amount.getAmount());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this amount to the equivalent number of months.
+     * <p>
+     * Each year is exactly 12 months.
+     *
+     * @return the equivalent number of months, not null
+     * @throws ArithmeticException if the result exceeds an {@code int}
+     */
+    public Months toMonths() {
+        return Months.of(Jdk8Methods.safeMultiply(years, 12));
+    }
+
+    /**
+     * Converts this amount to a {@code Period}.
+     * <p>
+     * The period has the same number of years.
+     *
+     * @return the equivalent period, not null
+     */
+    public Period toPeriod() {
+        return Period.ofYears(years);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string representation of the number of years.
@@ -37,7 +37,6 @@ import java.util.Locale;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.chrono.Era;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
@@ -45,6 +44,7 @@ import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalQuery;
 import org.threeten.bp.temporal.ValueRange;
+import org.threeten.extra.internal.DisplayNames;
 
 /**
  * An era in the Coptic calendar system.
@@ -178,7 +178,7 @@ public enum CopticEra implements Era  {
     //-----------------------------------------------------------------------
     @Override
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale).format(this);
+        return DisplayNames.displayName(this, ERA, style, locale);
     }
 
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.internal;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Cache of the localized text of the enums in this project.
+ * <p>
+ * This class is not part of the public API and may change without notice.
+ * It is public only so that it can be shared between packages.
+ * <p>
+ * The text is cached by enum type then locale, so enums representing
+ * the same field, such as two eras, do not share an entry.
+ * Each enum type must always be looked up with the same field.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ */
+public final class DisplayNames {
+
+    /**
+     * Cache of the localized text, keyed by enum type then locale.
+     */
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Locale, LocalizedText>> CACHE =
+            new ConcurrentHashMap<Class<?>, ConcurrentMap<Locale, LocalizedText>>();
+
+    /**
+     * Restricted constructor.
+     */
+    private DisplayNames() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the localized display name of an enum value.
+     * <p>
+     * This is equivalent to formatting the value using the field appended as text,
+     * however the names are only built once for each enum type and locale.
+     *
+     * @param <E>  the enum type
+     * @param value  the value to get the name of, not null
+     * @param field  the field that the enum represents, not null
+     * @param style  the text style, not null
+     * @param locale  the locale, not null
+     * @return the display name, not null
+     */
+    public static <E extends Enum<E> & TemporalAccessor> String displayName(
+            E value, TemporalField field, TextStyle style, Locale locale) {
+        Objects.requireNonNull(value, "value");
+        Objects.requireNonNull(style, "style");
+        return localizedText(value.getDeclaringClass(), field, locale).names[style.ordinal()][value.ordinal()];
+    }
+
+    /**
+     * Gets a formatter for the localized text of the field of an enum type.
+     * <p>
+     * This is equivalent to appending the field as text,
+     * however the formatter is only built once for each enum type, style and locale.
+     *
+     * @param <E>  the enum type
+     * @param type  the enum type, not null
+     * @param field  the field that the enum represents, not null
+     * @param style  the text style, not null
+     * @param locale  the locale, not null
+     * @return the formatter, not null
+     */
+    public static <E extends Enum<E> & TemporalAccessor> DateTimeFormatter formatter(
+            Class<E> type, TemporalField field, TextStyle style, Locale locale) {
+        Objects.requireNonNull(style, "style");
+        return localizedText(type, field, locale).formatters[style.ordinal()];
+    }
+
+    /**
+     * Gets the localized text of an enum type, building and caching it on first use.
+     * <p>
+     * All styles and values for the locale are formatted in one pass,
+     * as building the formatters is far more expensive than the lookup.
+     *
+     * @param <E>  the enum type
+     * @param type  the enum type, not null
+     * @param field  the field that the enum represents, not null
+     * @param locale  the locale, not null
+     * @return the localized text, not null
+     */
+    private static <E extends Enum<E> & TemporalAccessor> LocalizedText localizedText(
+            Class<E> type, TemporalField field, Locale locale) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(field, "field");
+        Objects.requireNonNull(locale, "locale");
+        ConcurrentMap<Locale, LocalizedText> byLocale = CACHE.get(type);
+        if (byLocale == null) {
+            CACHE.putIfAbsent(type, new ConcurrentHashMap<Locale, LocalizedText>());
+            byLocale = CACHE.get(type);
+        }
+        LocalizedText text = byLocale.get(locale);
+        if (text == null) {
+            TextStyle[] styles = TextStyle.values();
+            E[] values = type.getEnumConstants();
+            DateTimeFormatter[] formatters = new DateTimeFormatter[styles.length];
+            String[][] names = new String[styles.length][values.length];
+            for (TextStyle style : styles) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(field, style).toFormatter(locale);
+                formatters[style.ordinal()] = formatter;
+                for (E value : values) {
+                    names[style.ordinal()][value.ordinal()] = formatter.format(value);
+                }
+            }
+            text = new LocalizedText(formatters, names);
+            LocalizedText existing = byLocale.putIfAbsent(locale, text);
+            if (existing != null) {
+                text = existing;
+            }
+        }
+        return text;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The localized text of an enum type for one locale.
+     */
+    private static final class LocalizedText {
+        /**
+         * The formatters, indexed by text style.
+         */
+        private final DateTimeFormatter[] formatters;
+        /**
+         * The display names, indexed by text style then ordinal.
+         */
+        private final String[][] names;
+
+        /**
+         * Restricted constructor.
+         *
+         * @param formatters  the formatters, not null
+         * @param names  the display names, not null
+         */
+        private LocalizedText(DateTimeFormatter[] formatters, String[][] names) {
+            this.formatters = formatters;
+            this.names = names;
+        }
+    }
+
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An instantaneous point on the time-line measured in the GPS time-scale.
+ * <p>
+ * GPS time is the time-scale broadcast by the Global Positioning System.
+ * Like TAI, it is a single incrementing count of SI seconds without leap seconds.
+ * GPS time is a fixed 19 seconds behind TAI, thus conversion between this class
+ * and {@link TAIInstant} is a simple constant offset.
+ * <p>
+ * The epoch of the GPS time-scale is {@code 1980-01-06T00:00:00(GPS)},
+ * which is the same instant as {@code 1980-01-06T00:00:00(UTC)}.
+ * <p>
+ * Conversion to {@link UTCInstant} requires leap second rules, and is performed
+ * by converting to TAI and then using the rules once.
+ * <p>
+ * The duration between two points on the GPS time-scale is calculated solely using this class.
+ * Do not use the {@code between} method on {@code Duration} as that will lose information.
+ * Instead use {@link #durationUntil(GPSInstant)} on this class.
+ *
+ * <h4>Time-scale</h4>
+ * <p>
+ * This class may be used for instants in the far past and far future.
+ * Since some instants will be prior to 1980, it is not strictly an implementation of GPS time.
+ * Instead, it is a proleptic time-scale based on GPS and equivalent to it since 1980.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class GPSInstant
+        implements Comparable<GPSInstant>, Serializable {
+    // does not implement InstantProvider as that would enable methods like
+    // Duration.between which gives the wrong answer due to lossy conversion
+
+    /**
+     * The number of seconds from the TAI epoch of 1958-01-01T00:00:00(TAI)
+     * to the GPS epoch of 1980-01-06T00:00:00(GPS), which is 1980-01-06T00:00:19(TAI).
+     */
+    static final long TAI_SECONDS_AT_GPS_EPOCH = (44244L - 36204L) * 86400L + 19L;
+    /**
+     * Constant for nanos per second.
+     */
+    private static final int NANOS_PER_SECOND = 1000000000;
+    /**
+     * Parse regex.
+     */
+    private static final Pattern PARSER = Pattern.compile("([-]?[0-9]+)\\.([0-9]{9})s[(]GPS[)]");
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -6314526374529186371L;
+
+    /**
+     * The number of seconds from the epoch of 1980-01-06T00:00:00(GPS).
+     */
+    private final long seconds;
+    /**
+     * The number of nanoseconds, later along the time-line, from the seconds field.
+     * This is always positive, and never exceeds 999,999,999.
+     */
+    private final int nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code GPSInstant} from the number of seconds from
+     * the GPS epoch of 1980-01-06T00:00:00(GPS) with a nanosecond fraction of second.
+     * <p>
+     * This method allows an arbitrary number of nanoseconds to be passed in.
+     * The factory will alter the values of the second and nanosecond in order
+     * to ensure that the stored nanosecond is in the range 0 to 999,999,999.
+     *
+     * @param gpsSeconds  the number of seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     * @param nanoAdjustment  the nanosecond adjustment to the number of seconds, positive or negative
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant ofGPSSeconds(long gpsSeconds, long nanoAdjustment) {
+        long secs = Jdk8Methods.safeAdd(gpsSeconds, Jdk8Methods.floorDiv(nanoAdjustment, NANOS_PER_SECOND));
+        int nos = Jdk8Methods.floorMod(nanoAdjustment, NANOS_PER_SECOND);
+        return new GPSInstant(secs, nos);
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a {@code TAIInstant}.
+     * <p>
+     * The conversion subtracts the fixed offset of 19 seconds and does not lose information.
+     *
+     * @param instant  the TAI instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(TAIInstant instant) {
+        return new GPSInstant(Jdk8Methods.safeSubtract(instant.getTAISeconds(), TAI_SECONDS_AT_GPS_EPOCH), instant.getNano());
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a {@code UTCInstant}.
+     * <p>
+     * Converting a UTC instant to a GPS instant requires leap second rules.
+     * This method uses the rules held in within the UTC instant.
+     *
+     * @param instant  the UTC instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(UTCInstant instant) {
+        return of(instant.toTAIInstant());
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from an {@code Instant}
+     * using the system default leap second rules.
+     * <p>
+     * Conversion from an {@code Instant} will not be completely accurate near
+     * a leap second in accordance with UTC-SLS.
+     *
+     * @param instant  the instant to convert, not null
+     * @return the GPS instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public static GPSInstant of(Instant instant) {
+        return of(TAIInstant.of(instant));
+    }
+
+    /**
+     * Obtains an instance of {@code GPSInstant} from a text string.
+     * <p>
+     * The following format is accepted:
+     * <p><ul>
+     * <li>{@code {seconds}.{nanosOfSecond}s(GPS)}
+     * </ul><p>
+     * The accepted format is strict.
+     * The seconds part must contain only numbers and a possible leading negative sign.
+     * The nanoseconds part must contain exactly nine digits.
+     * The trailing literal must be exactly specified.
+     * This format parses the {@code toString} format.
+     *
+     * @param text  the text to parse such as "12345.123456789s(GPS)", not null
+     * @return the parsed instant, not null
+     * @throws DateTimeException if the text cannot be parsed
+     */
+    public static GPSInstant parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        Matcher matcher = PARSER.matcher(text);
+        if (matcher.matches()) {
+            try {
+                long seconds = Long.parseLong(matcher.group(1));
+                long nanos = Long.parseLong(matcher.group(2));
+                return GPSInstant.ofGPSSeconds(seconds, nanos);
+            } catch (NumberFormatException ex) {
+                throw new DateTimeParseException("The text could not be parsed", text, 0, ex);
+            }
+        }
+        throw new DateTimeParseException("The text could not be parsed", text, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param gpsSeconds  the number of GPS seconds from the epoch
+     * @param nanoOfSecond  the nanoseconds within the second, from 0 to 999,999,999
+     */
+    private GPSInstant(long gpsSeconds, int nanoOfSecond) {
+        super();
+        this.seconds = gpsSeconds;
+        this.nanos = nanoOfSecond;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of seconds from the GPS epoch of 1980-01-06T00:00:00(GPS).
+     * <p>
+     * The GPS second count is a simple incrementing count of seconds where
+     * second 0 is 1980-01-06T00:00:00(GPS).
+     * The nanosecond part of the day is returned by {@code getNano}.
+     *
+     * @return the seconds from the epoch of 1980-01-06T00:00:00(GPS)
+     */
+    public long getGPSSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Gets the number of nanoseconds, later along the time-line, from the start
+     * of the second.
+     *
+     * @return the nanoseconds within the second, from 0 to 999,999,999
+     */
+    public int getNano() {
+        return nanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this instant with the specified duration added.
+     * <p>
+     * The duration is treated as being measured in SI seconds.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to add, not null
+     * @return a {@code GPSInstant} based on this instant with the duration added, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public GPSInstant plus(Duration duration) {
+        long secsToAdd = duration.getSeconds();
+        int nanosToAdd = duration.getNano();
+        if ((secsToAdd | nanosToAdd) == 0) {
+            return this;
+        }
+        long secs = Jdk8Methods.safeAdd(seconds, secsToAdd);
+        long nanoAdjustment = ((long) nanos) + nanosToAdd;  // safe int+int
+        return ofGPSSeconds(secs, nanoAdjustment);
+    }
+
+    /**
+     * Returns a copy of this instant with the specified duration subtracted.
+     * <p>
+     * The duration is treated as being measured in SI seconds.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param duration  the duration to subtract, not null
+     * @return a {@code GPSInstant} based on this instant with the duration subtracted, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public GPSInstant minus(Duration duration) {
+        long secsToSubtract = duration.getSeconds();
+        int nanosToSubtract = duration.getNano();
+        if ((secsToSubtract | nanosToSubtract) == 0) {
+            return this;
+        }
+        long secs = Jdk8Methods.safeSubtract(seconds, secsToSubtract);
+        long nanoAdjustment = ((long) nanos) - nanosToSubtract;  // safe int+int
+        return ofGPSSeconds(secs, nanoAdjustment);
+    }
+
+    /**
+     * Returns the duration between this instant and the specified instant.
+     *
+     * @param gpsInstant  the instant to calculate the duration until, not null
+     * @return the duration until the specified instant, may be negative, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public Duration durationUntil(GPSInstant gpsInstant) {
+        long durSecs = Jdk8Methods.safeSubtract(gpsInstant.seconds, seconds);
+        long durNanos = gpsInstant.nanos - nanos;
+        return Duration.ofSeconds(durSecs, durNanos);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts this instant to a {@code TAIInstant}.
+     * <p>
+     * The conversion adds the fixed offset of 19 seconds and does not lose information.
+     *
+     * @return a {@code TAIInstant} representing the same instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public TAIInstant toTAIInstant() {
+        return TAIInstant.ofTAISeconds(Jdk8Methods.safeAdd(seconds, TAI_SECONDS_AT_GPS_EPOCH), nanos);
+    }
+
+    /**
+     * Converts this instant to a {@code UTCInstant} using the system default
+     * leap second rules.
+     *
+     * @return a {@code UTCInstant} representing the same instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public UTCInstant toUTCInstant() {
+        return toUTCInstant(UTCRules.system());
+    }
+
+    /**
+     * Converts this instant to a {@code UTCInstant} using the specified
+     * leap second rules.
+     * <p>
+     * This conversion does not lose information and the UTC instant may safely
+     * be converted back to a {@code GPSInstant}.
+     *
+     * @param rules  the leap second rules, not null
+     * @return a {@code UTCInstant} representing the same instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public UTCInstant toUTCInstant(UTCRules rules) {
+        return UTCInstant.of(toTAIInstant(), rules);
+    }
+
+    /**
+     * Converts this instant to an {@code Instant} using the system default
+     * leap second rules.
+     * <p>
+     * This conversion will lose information around a leap second in accordance with UTC-SLS.
+     *
+     * @return an {@code Instant} representing the best approximation of this instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public Instant toInstant() {
+        return toUTCInstant().toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares this instant to another based on the time-line.
+     *
+     * @param otherInstant  the other instant to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    public int compareTo(GPSInstant otherInstant) {
+        int cmp = Long.compare(seconds, otherInstant.seconds);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return nanos - otherInstant.nanos;
+    }
+
+    /**
+     * Checks if this instant is equal to the specified {@code GPSInstant}.
+     *
+     * @param otherInstant  the other instant, null returns false
+     * @return true if the other instant is equal to this one
+     */
+    @Override
+    public boolean equals(Object otherInstant) {
+        if (this == otherInstant) {
+            return true;
+        }
+        if (otherInstant instanceof GPSInstant) {
+            GPSInstant other = (GPSInstant) otherInstant;
+            return this.seconds == other.seconds &&
+                   this.nanos == other.nanos;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a hash code for this instant.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((int) (seconds ^ (seconds >>> 32))) + 51 * nanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A string representation of this instant.
+     * <p>
+     * The string is formatted as {@code {seconds).(nanosOfSecond}s(GPS)}.
+     * At least one second digit will be present.
+     * The nanoseconds will always be nine digits.
+     *
+     * @return a representation of this instant, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        buf.append(seconds);
+        int pos = buf.length();
+        buf.append(nanos + NANOS_PER_SECOND);
+        buf.setCharAt(pos, '.');
+        buf.append("s(GPS)");
+        return buf.toString();
+    }
+
+}
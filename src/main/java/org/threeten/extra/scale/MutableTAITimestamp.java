@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+/**
+ * A mutable holder for a point on the TAI time-scale.
+ * <p>
+ * This class holds the same state as {@link TAIInstant}, the number of seconds from
+ * the epoch of 1958-01-01T00:00:00(TAI) and the nanosecond-of-second.
+ * It exists to allow conversions using {@link UTCRules} to be performed in a loop
+ * without creating a new object for every result.
+ * <p>
+ * The setters of this class do not validate or normalize the state.
+ * {@code TAIInstant} should be used in preference unless the allocation is known to matter.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ */
+public final class MutableTAITimestamp {
+
+    /**
+     * The number of seconds from the epoch of 1958-01-01T00:00:00(TAI).
+     */
+    private long seconds;
+    /**
+     * The number of nanoseconds, later along the time-line, from the seconds field.
+     */
+    private int nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a holder initialized to the TAI epoch.
+     */
+    public MutableTAITimestamp() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of seconds from the TAI epoch of 1958-01-01T00:00:00(TAI).
+     *
+     * @return the seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     */
+    public long getTAISeconds() {
+        return seconds;
+    }
+
+    /**
+     * Gets the number of nanoseconds, later along the time-line, from the start of the second.
+     *
+     * @return the nanoseconds within the second, from 0 to 999,999,999 if valid
+     */
+    public int getNano() {
+        return nanos;
+    }
+
+    /**
+     * Sets the state of this holder.
+     *
+     * @param taiSeconds  the number of seconds from the epoch of 1958-01-01T00:00:00(TAI)
+     * @param nanoOfSecond  the nanoseconds within the second, from 0 to 999,999,999
+     * @return this, for chaining, not null
+     */
+    public MutableTAITimestamp set(long taiSeconds, int nanoOfSecond) {
+        this.seconds = taiSeconds;
+        this.nanos = nanoOfSecond;
+        return this;
+    }
+
+    /**
+     * Sets the state of this holder from a {@code TAIInstant}.
+     *
+     * @param instant  the instant to copy, not null
+     * @return this, for chaining, not null
+     */
+    public MutableTAITimestamp set(TAIInstant instant) {
+        return set(instant.getTAISeconds(), instant.getNano());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the state of this holder to an immutable {@code TAIInstant}.
+     *
+     * @return the TAI instant, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public TAIInstant toTAIInstant() {
+        return TAIInstant.ofTAISeconds(seconds, nanos);
+    }
+
+    /**
+     * A string representation of this holder, using the format of {@code TAIInstant}.
+     *
+     * @return a representation of this holder, not null
+     */
+    @Override
+    public String toString() {
+        return toTAIInstant().toString();
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+/**
+ * A mutable holder for a point on the UTC time-scale.
+ * <p>
+ * This class holds the Modified Julian Day and the nanosecond-of-day, which may
+ * include a leap second. This is the same state as {@link UTCInstant}, except
+ * that no leap second rules are held.
+ * It exists to allow conversions using {@link UTCRules} to be performed in a loop
+ * without creating a new object for every result.
+ * <p>
+ * The setters of this class do not validate the state.
+ * {@code UTCInstant} should be used in preference unless the allocation is known to matter.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ */
+public final class MutableUTCTimestamp {
+
+    /**
+     * The Modified Julian Day, from the epoch of 1858-11-17.
+     */
+    private long mjDay;
+    /**
+     * The number of nanoseconds, later along the time-line, from the MJD field.
+     */
+    private long nanoOfDay;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a holder initialized to the start of Modified Julian Day zero.
+     */
+    public MutableUTCTimestamp() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the Modified Julian Day (MJD).
+     *
+     * @return the Modified Julian Day based on the epoch 1858-11-17
+     */
+    public long getModifiedJulianDay() {
+        return mjDay;
+    }
+
+    /**
+     * Gets the number of nanoseconds, later along the time-line, from the start
+     * of the Modified Julian Day.
+     *
+     * @return the nanoseconds within the day, including leap seconds
+     */
+    public long getNanoOfDay() {
+        return nanoOfDay;
+    }
+
+    /**
+     * Sets the state of this holder.
+     *
+     * @param mjDay  the date as a Modified Julian Day (number of days from the epoch of 1858-11-17)
+     * @param nanoOfDay  the nanoseconds within the day, including leap seconds
+     * @return this, for chaining, not null
+     */
+    public MutableUTCTimestamp set(long mjDay, long nanoOfDay) {
+        this.mjDay = mjDay;
+        this.nanoOfDay = nanoOfDay;
+        return this;
+    }
+
+    /**
+     * Sets the state of this holder from a {@code UTCInstant}.
+     *
+     * @param instant  the instant to copy, not null
+     * @return this, for chaining, not null
+     */
+    public MutableUTCTimestamp set(UTCInstant instant) {
+        return set(instant.getModifiedJulianDay(), instant.getNanoOfDay());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts the state of this holder to an immutable {@code UTCInstant}.
+     *
+     * @param rules  the leap second rules, not null
+     * @return the UTC instant, not null
+     * @throws IllegalArgumentException if the nano-of-day is invalid for the rules
+     */
+    public UTCInstant toUTCInstant(UTCRules rules) {
+        return UTCInstant.ofModifiedJulianDay(mjDay, nanoOfDay, rules);
+    }
+
+    /**
+     * A string representation of this holder.
+     *
+     * @return a representation of this holder, not null
+     */
+    @Override
+    public String toString() {
+        return "MJD" + mjDay + "+" + nanoOfDay + "ns(UTC)";
+    }
+
+}
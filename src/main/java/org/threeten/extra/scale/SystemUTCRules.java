@@ -40,6 +40,9 @@ import java.net.URL;
 import java.util.Arrays;
 import java.util.ConcurrentModificationException;
 import java.util.Enumeration;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -52,6 +55,25 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  */
 final class SystemUTCRules extends UTCRules implements Serializable {
 
+    /**
+     * The leap second dates known when this class was written, as a modified Julian day.
+     * The TAI offset after the first leap second was 11 and increases by one each time.
+     */
+    private static final long[] EMBEDDED_DATES = {
+        41498L, 41682L, 42047L, 42412L, 42777L, 43143L, 43508L, 43873L, 44238L,  // 1972-06-30 to 1979-12-31
+        44785L, 45150L, 45515L, 46246L, 47160L, 47891L, 48256L,  // 1981-06-30 to 1990-12-31
+        48803L, 49168L, 49533L, 50082L, 50629L, 51178L,  // 1992-06-30 to 1998-12-31
+        53735L, 54831L, 56108L, 57203L, 57753L,  // 2005-12-31 to 2016-12-31
+    };
+    /**
+     * The last leap second date in the embedded table, as a modified Julian day.
+     * Files on the class path can only change the rules after this date.
+     */
+    private static final long EMBEDDED_END_MJD = EMBEDDED_DATES[EMBEDDED_DATES.length - 1];
+    /**
+     * The TAI second at the start of the day after the last embedded leap second.
+     */
+    private static final long EMBEDDED_END_TAI = tai(EMBEDDED_END_MJD, 10 + EMBEDDED_DATES.length);
     /**
      * Singleton.
      */
@@ -63,8 +85,15 @@ final class SystemUTCRules extends UTCRules implements Serializable {
 
     /**
      * The table of leap second dates.
+     * This starts with the embedded table, avoiding class path scanning on startup.
+     * Files on the class path are read the first time a date after the embedded table
+     * is looked up, or when {@link #refresh(ClassLoader)} is called.
+     */
+    private AtomicReference<Data> dataRef = new AtomicReference<Data>(embeddedLeapSeconds());
+    /**
+     * Whether the class path has been searched for leap second files on first use.
      */
-    private AtomicReference<Data> dataRef = new AtomicReference<Data>(loadLeapSeconds());
+    private final AtomicBoolean discovered = new AtomicBoolean();
 
     /** Data holder. */
     private static final class Data implements Serializable {
@@ -96,7 +125,7 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     /**
      * Restricted constructor.
      */
-    private SystemUTCRules() {
+    SystemUTCRules() {
     }
 
     /**
@@ -153,14 +182,14 @@ final class SystemUTCRules extends UTCRules implements Serializable {
 
     @Override
     public int getLeapSecondAdjustment(long mjDay) {
-        Data data = dataRef.get();
+        Data data = dataForDay(mjDay);
         int pos = Arrays.binarySearch(data.dates, mjDay);
         return pos > 0 ? data.offsets[pos] - data.offsets[pos - 1] : 0;
     }
 
     @Override
     public int getTAIOffset(long mjDay) {
-        Data data = dataRef.get();
+        Data data = dataForDay(mjDay);
         int pos = Arrays.binarySearch(data.dates, mjDay);
         pos = (pos < 0 ? ~pos : pos);
         return pos > 0 ? data.offsets[pos - 1] : 10;
@@ -168,6 +197,7 @@ final class SystemUTCRules extends UTCRules implements Serializable {
 
     @Override
     public long[] getLeapSecondDates() {
+        discover();
         Data data = dataRef.get();
         return data.dates.clone();
     }
@@ -175,35 +205,205 @@ final class SystemUTCRules extends UTCRules implements Serializable {
     //-----------------------------------------------------------------------
     @Override
     protected UTCInstant convertToUTC(TAIInstant taiInstant) {
-        Data data = dataRef.get();
+        long taiSeconds = taiInstant.getTAISeconds();
+        MutableUTCTimestamp result = new MutableUTCTimestamp();
+        convertToUTC(dataForTAI(taiSeconds), taiSeconds, taiInstant.getNano(), result);
+        return result.toUTCInstant(this);
+    }
+
+    @Override
+    public void convertToUTC(MutableTAITimestamp tai, MutableUTCTimestamp result) {
+        long taiSeconds = tai.getTAISeconds();
+        convertToUTC(dataForTAI(taiSeconds), taiSeconds, tai.getNano(), result);
+    }
+
+    /**
+     * Converts a TAI second and nanosecond to a UTC modified Julian day and nano-of-day.
+     * <p>
+     * This is shared by both forms of {@code convertToUTC}, thus the allocation-free
+     * conversion always matches the conversion to {@code UTCInstant}.
+     *
+     * @param data  the leap second data, not null
+     * @param taiSeconds  the TAI seconds
+     * @param nanoOfSecond  the nano-of-second, from 0 to 999,999,999
+     * @param result  the timestamp to store the result in, not null
+     */
+    private static void convertToUTC(Data data, long taiSeconds, int nanoOfSecond, MutableUTCTimestamp result) {
         long[] mjds = data.dates;
-        long[] tais = data.taiSeconds;
-        int pos = Arrays.binarySearch(tais, taiInstant.getTAISeconds());
-        pos = (pos >= 0 ? pos : ~pos - 1);
+        int pos = findRegion(data.taiSeconds, taiSeconds);
         int taiOffset = (pos >= 0 ? data.offsets[pos] : 10);
-        long adjustedTaiSecs = taiInstant.getTAISeconds() - taiOffset;
+        long adjustedTaiSecs = taiSeconds - taiOffset;
         long mjd = Jdk8Methods.floorDiv(adjustedTaiSecs, SECS_PER_DAY) + OFFSET_MJD_TAI;
-        long nod = Jdk8Methods.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + taiInstant.getNano();
+        long nod = Jdk8Methods.floorMod(adjustedTaiSecs, SECS_PER_DAY) * NANOS_PER_SECOND + nanoOfSecond;
         long mjdNextRegionStart = (pos + 1 < mjds.length ? mjds[pos + 1] + 1 : Long.MAX_VALUE);
         if (mjd == mjdNextRegionStart) {  // in leap second
             mjd--;
             nod = SECS_PER_DAY * NANOS_PER_SECOND + (nod / NANOS_PER_SECOND) * NANOS_PER_SECOND + nod % NANOS_PER_SECOND;
         }
-        return UTCInstant.ofModifiedJulianDay(mjd, nod, this);
+        result.set(mjd, nod);
+    }
+
+    /**
+     * Gets the data to use for a date, searching the class path first if the date
+     * is after the embedded table.
+     *
+     * @param mjDay  the modified Julian day being looked up
+     * @return the data, not null
+     */
+    private Data dataForDay(long mjDay) {
+        if (mjDay > EMBEDDED_END_MJD) {
+            discover();
+        }
+        return dataRef.get();
+    }
+
+    /**
+     * Gets the data to use for a TAI second, searching the class path first if the
+     * second is after the embedded table.
+     *
+     * @param taiSeconds  the TAI second being looked up
+     * @return the data, not null
+     */
+    private Data dataForTAI(long taiSeconds) {
+        if (taiSeconds >= EMBEDDED_END_TAI) {
+            discover();
+        }
+        return dataRef.get();
+    }
+
+    /**
+     * Searches the class path for leap second files, once only.
+     * <p>
+     * The context class loader of the current thread is searched, falling back to
+     * the class loader of this class. The search is only attempted once, even if
+     * it fails. Other threads use the rules known so far while it is in progress.
+     *
+     * @throws RuntimeException if an error occurs reading a file
+     */
+    private void discover() {
+        if (discovered.get() == false && discovered.compareAndSet(false, true)) {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            refresh(loader != null ? loader : SystemUTCRules.class.getClassLoader());
+        }
+    }
+
+    /**
+     * Finds the index of the TAI offset in effect at the specified TAI second.
+     *
+     * @param taiSeconds  the table of TAI seconds when each offset starts, not null
+     * @param tai  the TAI second to find
+     * @return the index of the offset, -1 if before the first entry in the table
+     */
+    private static int findRegion(long[] taiSeconds, long tai) {
+        int pos = Arrays.binarySearch(taiSeconds, tai);
+        return (pos >= 0 ? pos : ~pos - 1);
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Creates the data from the embedded table of leap seconds.
+     *
+     * @return the embedded rules, not null
+     */
+    private static Data embeddedLeapSeconds() {
+        int size = EMBEDDED_DATES.length + 1;
+        long[] dates = new long[size];
+        int[] offsets = new int[size];
+        long[] taiSeconds = new long[size];
+        // MJD 1972-01-01 is 41317L, where offset was 10
+        dates[0] = 41317L;
+        offsets[0] = 10;
+        taiSeconds[0] = tai(41317L, 10);
+        for (int i = 1; i < size; i++) {
+            dates[i] = EMBEDDED_DATES[i - 1];
+            offsets[i] = 10 + i;
+            taiSeconds[i] = tai(dates[i], offsets[i]);
+        }
+        return new Data(dates, offsets, taiSeconds);
+    }
+
+    /**
+     * Loads leap second files from the class loader, merging any leap seconds
+     * not already known into these rules.
+     * <p>
+     * Leap seconds already known, including those registered using
+     * {@link #registerLeapSecond(long, int)}, take precedence over the files.
+     *
+     * @param loader  the class loader to search, null ignored
+     * @throws RuntimeException if an error occurs reading a file
+     */
+    void refresh(ClassLoader loader) {
+        if (loader == null) {
+            return;
+        }
+        Data loaded = loadLeapSeconds(loader);
+        if (loaded == null) {
+            return;
+        }
+        while (true) {
+            Data data = dataRef.get();
+            Data merged = merge(data, loaded);
+            if (merged == data || dataRef.compareAndSet(data, merged)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Merges the leap seconds of two sets of data.
+     * <p>
+     * The leap adjustment of each date is taken from the current data where
+     * known, and from the loaded data otherwise. The offsets are then rebuilt
+     * from the start of the current data.
+     *
+     * @param data  the current data, not null
+     * @param loaded  the data loaded from a file, not null
+     * @return the merged data, the current data if there are no new leap seconds, not null
+     */
+    private static Data merge(Data data, Data loaded) {
+        TreeMap<Long, Integer> adjustments = new TreeMap<Long, Integer>();
+        for (int i = 1; i < data.dates.length; i++) {
+            adjustments.put(data.dates[i], data.offsets[i] - data.offsets[i - 1]);
+        }
+        int known = adjustments.size();
+        for (int i = 1; i < loaded.dates.length; i++) {
+            Long date = loaded.dates[i];
+            if (date > data.dates[0] && adjustments.containsKey(date) == false) {
+                adjustments.put(date, loaded.offsets[i] - loaded.offsets[i - 1]);
+            }
+        }
+        if (adjustments.size() == known) {
+            return data;
+        }
+        int size = adjustments.size() + 1;
+        long[] dates = new long[size];
+        int[] offsets = new int[size];
+        long[] taiSeconds = new long[size];
+        dates[0] = data.dates[0];
+        offsets[0] = data.offsets[0];
+        taiSeconds[0] = data.taiSeconds[0];
+        int i = 1;
+        for (Entry<Long, Integer> entry : adjustments.entrySet()) {
+            dates[i] = entry.getKey();
+            offsets[i] = offsets[i - 1] + entry.getValue();
+            taiSeconds[i] = tai(dates[i], offsets[i]);
+            i++;
+        }
+        return new Data(dates, offsets, taiSeconds);
+    }
+
     /**
      * Loads the rules from files in the class loader, often jar files.
      *
-     * @return the list of loaded rules, not null
-     * @throws Exception if an error occurs
+     * @param loader  the class loader to search, not null
+     * @return the newest loaded rules, null if none found
+     * @throws RuntimeException if an error occurs
      */
-    private static Data loadLeapSeconds() {
+    private static Data loadLeapSeconds(ClassLoader loader) {
         Data bestData = null;
         URL url = null;
         try {
-            Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources("javax/time/LeapSecondRules.dat");
+            Enumeration<URL> en = loader.getResources("javax/time/LeapSecondRules.dat");
             while (en.hasMoreElements()) {
                 url = en.nextElement();
                 Data candidate = loadLeapSeconds(url);
@@ -214,11 +414,6 @@ final class SystemUTCRules extends UTCRules implements Serializable {
         } catch (Exception ex) {
             throw new RuntimeException("Unable to load time-zone rule data: " + url, ex);
         }
-        if (bestData == null) {
-            // no data on classpath, but we allow manual registration of leap seconds
-            // setup basic known data - MJD 1972-01-01 is 41317L, where offset was 10
-            bestData = new Data(new long[] {41317L}, new int[] {10}, new long[] {tai(41317L, 10)});
-        }
         return bestData;
     }
 
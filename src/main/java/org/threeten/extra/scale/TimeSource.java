@@ -44,7 +44,8 @@ import org.threeten.bp.Instant;
  * <h3>Specification for implementors</h3>
  * This abstract class must be implemented with care to ensure other classes in
  * the framework operate correctly.
- * All implementations that can be instantiated must be final, immutable and thread-safe.
+ * All implementations that can be instantiated must be final, immutable and thread-safe,
+ * except as noted below.
  * <p>
  * The principal methods are defined to allow the throwing of an exception.
  * In normal use, no exceptions will be thrown, however one possible implementation would be to
@@ -54,6 +55,11 @@ import org.threeten.bp.Instant;
  * Subclass implementations should implement {@code Serializable} wherever possible.
  * They should also be immutable and thread-safe, implementing {@code equals()},
  * {@code hashCode()} and {@code toString()} based on their state.
+ * <p>
+ * The one exception is a time-source whose purpose is to be controlled, such as
+ * {@link VirtualTimeSource}, used for simulations and tests.
+ * Such an implementation must still be final and thread-safe, but it is mutable
+ * and uses identity-based {@code equals()} and {@code hashCode()}.
  */
 public interface TimeSource {
 
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.threeten.bp.Clock;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneId;
+
+/**
+ * Adapters between {@link TimeSource} and {@link Clock}.
+ * <p>
+ * A clock obtained from {@link #clock(TimeSource, ZoneId)} allows code written
+ * against {@code Clock}, such as {@code CopticChronology.dateNow(Clock)},
+ * to read from a UTC or TAI time-source.
+ * A time-source obtained from {@link #of(Clock)} allows an existing clock to be used
+ * where a {@code TimeSource} is expected.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ * All returned classes are immutable and thread-safe.
+ */
+public final class TimeSources {
+
+    /**
+     * Restricted constructor.
+     */
+    private TimeSources() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a clock that reads the TAI instant from the specified time-source
+     * using the system default leap second rules.
+     * <p>
+     * See {@link #clock(TimeSource, ZoneId, UTCRules)} for details.
+     *
+     * @param timeSource  the time-source to read, not null
+     * @param zone  the time-zone of the clock, not null
+     * @return the clock, not null
+     */
+    public static Clock clock(TimeSource timeSource, ZoneId zone) {
+        return clock(timeSource, zone, UTCRules.system());
+    }
+
+    /**
+     * Obtains a clock that reads the TAI instant from the specified time-source
+     * using the specified leap second rules.
+     * <p>
+     * The instant of the clock is obtained by converting the TAI instant of the
+     * time-source to the UTC-SLS time-scale, as per {@link TAIInstant#toInstant()}.
+     * <p>
+     * The clock caches the TAI offset of the most recently seen day, thus most calls
+     * to {@code instant()} convert the TAI instant using a single subtraction.
+     * The full conversion using the rules is only performed when the day changes
+     * and during the UTC-SLS adjustment period at the end of a leap second day.
+     * A leap second registered for a day after that day has been cached will not be
+     * seen by the clock until the next day.
+     *
+     * @param timeSource  the time-source to read, not null
+     * @param zone  the time-zone of the clock, not null
+     * @param rules  the leap second rules, not null
+     * @return the clock, not null
+     */
+    public static Clock clock(TimeSource timeSource, ZoneId zone, UTCRules rules) {
+        Objects.requireNonNull(timeSource, "timeSource");
+        Objects.requireNonNull(zone, "zone");
+        Objects.requireNonNull(rules, "rules");
+        return new TimeSourceClock(timeSource, zone, rules);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a time-source that reads the instant from the specified clock
+     * using the system default leap second rules.
+     * <p>
+     * See {@link #of(Clock, UTCRules)} for details.
+     *
+     * @param clock  the clock to read, not null
+     * @return the time-source, not null
+     */
+    public static TimeSource of(Clock clock) {
+        return of(clock, UTCRules.system());
+    }
+
+    /**
+     * Obtains a time-source that reads the instant from the specified clock
+     * using the specified leap second rules.
+     * <p>
+     * The instant of the clock is treated as being in the UTC-SLS time-scale.
+     * The UTC and TAI instants are obtained by conversion using the rules,
+     * and are thus no more accurate than the clock itself.
+     *
+     * @param clock  the clock to read, not null
+     * @param rules  the leap second rules, not null
+     * @return the time-source, not null
+     */
+    public static TimeSource of(Clock clock, UTCRules rules) {
+        Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(rules, "rules");
+        return new ClockTimeSource(clock, rules);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Clock that reads a time-source.
+     */
+    static final class TimeSourceClock extends Clock implements Serializable {
+        /** Serialization version. */
+        private static final long serialVersionUID = -2381497442542117530L;
+        /** The time-source. */
+        private final TimeSource timeSource;
+        /** The time-zone. */
+        private final ZoneId zone;
+        /** The leap second rules. */
+        private final UTCRules rules;
+        /** The conversion data for the most recently seen day. */
+        private transient volatile DayOffset cached;
+
+        /** Constructor. */
+        TimeSourceClock(TimeSource timeSource, ZoneId zone, UTCRules rules) {
+            this.timeSource = timeSource;
+            this.zone = zone;
+            this.rules = rules;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {
+                return this;
+            }
+            return new TimeSourceClock(timeSource, zone, rules);
+        }
+
+        @Override
+        public Instant instant() {
+            TAIInstant tai = timeSource.taiInstant();
+            long taiSecs = tai.getTAISeconds();
+            DayOffset day = cached;
+            if (day == null || taiSecs < day.startTAISeconds || taiSecs >= day.endTAISeconds) {
+                UTCInstant utc = rules.convertToUTC(tai);
+                day = new DayOffset(utc.getModifiedJulianDay(), rules);
+                cached = day;
+                if (taiSecs < day.startTAISeconds || taiSecs >= day.endTAISeconds) {
+                    return rules.convertToInstant(utc);  // within UTC-SLS adjustment
+                }
+            }
+            return Instant.ofEpochSecond(taiSecs - day.offsetSeconds, tai.getNano());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TimeSourceClock) {
+                TimeSourceClock other = (TimeSourceClock) obj;
+                return timeSource.equals(other.timeSource) && zone.equals(other.zone) && rules.equals(other.rules);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return timeSource.hashCode() ^ zone.hashCode() ^ rules.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TimeSourceClock[" + timeSource + "," + zone + "," + rules + "]";
+        }
+    }
+
+    /**
+     * The offset between TAI and epoch seconds for the part of a day
+     * where no leap second adjustment applies.
+     */
+    static final class DayOffset {
+        /** The first TAI second of the day. */
+        final long startTAISeconds;
+        /** The TAI second that the simple offset no longer applies, exclusive. */
+        final long endTAISeconds;
+        /** The TAI seconds minus the epoch seconds. */
+        final long offsetSeconds;
+
+        /** Constructor. */
+        DayOffset(long mjDay, UTCRules rules) {
+            int leapAdj = rules.getLeapSecondAdjustment(mjDay);
+            long startSecs = (mjDay - UTCRules.OFFSET_MJD_TAI) * UTCRules.SECS_PER_DAY + rules.getTAIOffset(mjDay);
+            this.startTAISeconds = startSecs;
+            this.endTAISeconds = startSecs + UTCRules.SECS_PER_DAY + (leapAdj == 0 ? 0 : leapAdj - 1000);
+            this.offsetSeconds = startSecs - (mjDay - UTCRules.OFFSET_MJD_EPOCH) * UTCRules.SECS_PER_DAY;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Time-source that reads a clock.
+     */
+    static final class ClockTimeSource implements TimeSource, Serializable {
+        /** Serialization version. */
+        private static final long serialVersionUID = 4851237542516429744L;
+        /** The clock. */
+        private final Clock clock;
+        /** The leap second rules. */
+        private final UTCRules rules;
+
+        /** Constructor. */
+        ClockTimeSource(Clock clock, UTCRules rules) {
+            this.clock = clock;
+            this.rules = rules;
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+
+        @Override
+        public UTCInstant utcInstant() {
+            return rules.convertToUTC(clock.instant());
+        }
+
+        @Override
+        public TAIInstant taiInstant() {
+            return rules.convertToTAI(utcInstant());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof ClockTimeSource) {
+                ClockTimeSource other = (ClockTimeSource) obj;
+                return clock.equals(other.clock) && rules.equals(other.rules);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return clock.hashCode() ^ rules.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ClockTimeSource[" + clock + "," + rules + "]";
+        }
+    }
+
+}
@@ -32,10 +32,13 @@
 package org.threeten.extra.scale;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.JulianFields;
 
 /**
@@ -112,6 +115,10 @@ public final class UTCInstant
      * Constant for nanos per second.
      */
     private static final long NANOS_PER_SECOND = 1000000000;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (146097L * 5L) - (30L * 365L + 7L);
     /**
      * Serialization version.
      */
@@ -245,6 +252,320 @@ public final class UTCInstant
         return rules.convertToUTC(taiInstant);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code UTCInstant} from a text string
+     * using the system default leap second rules.
+     * <p>
+     * See {@link #parse(CharSequence, int, int, UTCRules)} for the accepted formats.
+     *
+     * @param text  the text to parse such as "1972-12-31T23:59:60.000000000(UTC)", not null
+     * @return the parsed instant, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static UTCInstant parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length(), UTCRules.system());
+    }
+
+    /**
+     * Obtains an instance of {@code UTCInstant} from a text string
+     * using the specified leap second rules.
+     * <p>
+     * See {@link #parse(CharSequence, int, int, UTCRules)} for the accepted formats.
+     *
+     * @param text  the text to parse such as "1972-12-31T23:59:60.000000000(UTC)", not null
+     * @param rules  the leap second rules, not null
+     * @return the parsed instant, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static UTCInstant parse(CharSequence text, UTCRules rules) {
+        Objects.requireNonNull(text, "text");
+        return parse(text, 0, text.length(), rules);
+    }
+
+    /**
+     * Obtains an instance of {@code UTCInstant} from a region of a text string
+     * using the specified leap second rules.
+     * <p>
+     * The following formats are accepted:
+     * <p><ul>
+     * <li>{@code {date}T{hour}:{minute}:{second}.{nanosOfSecond}(UTC)}
+     * <li>{@code {date}T{hour}:{minute}:{second}.{nanosOfSecond}Z}
+     * </ul><p>
+     * The date is an ISO-8601 date, such as {@code 1972-12-31}.
+     * Years outside the range 0000 to 9999 must have a sign prefix.
+     * The fraction of second is optional, and if present must have from one to nine digits.
+     * The second-of-minute may be 60 at {@code 23:59} on a date that has a positive leap second
+     * and may not be 59 at {@code 23:59} on a date that has a negative leap second.
+     * This format parses the {@code toString} format.
+     * <p>
+     * The text is scanned directly, without regular expressions or intermediate strings,
+     * and the Modified Julian Day is calculated arithmetically from the date.
+     * The leap second rules are only consulted for the last minute of the day.
+     * Any {@code CharSequence} may be parsed, including a {@code CharBuffer}
+     * wrapping a {@code char[]}.
+     *
+     * @param text  the text to parse, not null
+     * @param offset  the index of the first character to parse
+     * @param length  the number of characters to parse
+     * @param rules  the leap second rules, not null
+     * @return the parsed instant, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static UTCInstant parse(CharSequence text, int offset, int length, UTCRules rules) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(rules, "rules");
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length: " + offset + ", " + length);
+        }
+        return parseText(text, offset, offset + length, rules);
+    }
+
+    /**
+     * Obtains an instance of {@code UTCInstant} from a region of an array of
+     * ASCII bytes using the specified leap second rules.
+     * <p>
+     * This parses the same formats as {@link #parse(CharSequence, int, int, UTCRules)}.
+     * It is intended for parsing directly from network or file buffers.
+     *
+     * @param bytes  the ASCII bytes to parse, not null
+     * @param offset  the index of the first byte to parse
+     * @param length  the number of bytes to parse
+     * @param rules  the leap second rules, not null
+     * @return the parsed instant, not null
+     * @throws IndexOutOfBoundsException if the offset or length is invalid
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static UTCInstant parse(byte[] bytes, int offset, int length, UTCRules rules) {
+        Objects.requireNonNull(bytes, "bytes");
+        Objects.requireNonNull(rules, "rules");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("Invalid offset or length: " + offset + ", " + length);
+        }
+        return parseText(new AsciiSequence(bytes, offset, length), 0, length, rules);
+    }
+
+    /**
+     * Parses the text between the specified indices.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param rules  the leap second rules, not null
+     * @return the parsed instant, not null
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    private static UTCInstant parseText(CharSequence text, int start, int end, UTCRules rules) {
+        int pos = start;
+        boolean signed = false;
+        boolean negative = false;
+        if (pos < end && (text.charAt(pos) == '+' || text.charAt(pos) == '-')) {
+            signed = true;
+            negative = (text.charAt(pos) == '-');
+            pos++;
+        }
+        int yearStart = pos;
+        long year = 0;
+        while (pos < end && pos - yearStart < 10) {
+            int digit = text.charAt(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            year = year * 10 + digit;
+            pos++;
+        }
+        int yearLength = pos - yearStart;
+        if (yearLength < 4 || yearLength > 9 || (signed == false && yearLength > 4)) {
+            throw parseError(text, start, end, yearStart);
+        }
+        year = (negative ? -year : year);
+        int month = parseField(text, start, end, pos, '-');
+        int day = parseField(text, start, end, pos + 3, '-');
+        int hour = parseField(text, start, end, pos + 6, 'T');
+        int minute = parseField(text, start, end, pos + 9, ':');
+        int second = parseField(text, start, end, pos + 12, ':');
+        pos += 15;
+        long nanos = 0;
+        if (pos < end && text.charAt(pos) == '.') {
+            int fractionStart = ++pos;
+            long scale = NANOS_PER_SECOND;
+            while (pos < end && pos - fractionStart < 9) {
+                int digit = text.charAt(pos) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                scale /= 10;
+                nanos += digit * scale;
+                pos++;
+            }
+            if (pos == fractionStart) {
+                throw parseError(text, start, end, pos);
+            }
+        }
+        if (matchesSuffix(text, pos, end) == false) {
+            throw parseError(text, start, end, pos);
+        }
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new DateTimeParseException("Invalid date", text.subSequence(start, end), yearStart - start);
+        }
+        if (hour > 23 || minute > 59 || second > 60) {
+            throw new DateTimeParseException("Invalid time", text.subSequence(start, end), yearStart - start);
+        }
+        long mjDay = epochDay(year, month, day) + UTCRules.OFFSET_MJD_EPOCH;
+        if (hour == 23 && minute == 59 && second >= 59) {
+            int leapSecs = rules.getLeapSecondAdjustment(mjDay);
+            if (second - 59 > leapSecs) {
+                throw new DateTimeParseException("Invalid leap second", text.subSequence(start, end), yearStart - start);
+            }
+        } else if (second == 60) {
+            throw new DateTimeParseException("Invalid leap second", text.subSequence(start, end), yearStart - start);
+        }
+        long nanoOfDay = ((hour * 60 + minute) * 60 + second) * NANOS_PER_SECOND + nanos;
+        return new UTCInstant(mjDay, nanoOfDay, rules);
+    }
+
+    /**
+     * Parses a two digit field preceded by a single separator character.
+     *
+     * @param text  the text to parse, not null
+     * @param start  the start index of the whole text, used for errors
+     * @param end  the end index, exclusive
+     * @param pos  the index of the separator
+     * @param separator  the expected separator
+     * @return the value of the field, from 0 to 99
+     * @throws DateTimeParseException if the text does not match
+     */
+    private static int parseField(CharSequence text, int start, int end, int pos, char separator) {
+        if (pos + 3 > end || text.charAt(pos) != separator) {
+            throw parseError(text, start, end, pos);
+        }
+        int tens = text.charAt(pos + 1) - '0';
+        int units = text.charAt(pos + 2) - '0';
+        if (tens < 0 || tens > 9 || units < 0 || units > 9) {
+            throw parseError(text, start, end, pos + 1);
+        }
+        return tens * 10 + units;
+    }
+
+    /**
+     * Checks if the remaining text is exactly one of the accepted suffixes.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the index of the suffix
+     * @param end  the end index, exclusive
+     * @return true if the suffix is 'Z' or '(UTC)'
+     */
+    private static boolean matchesSuffix(CharSequence text, int pos, int end) {
+        int remaining = end - pos;
+        if (remaining == 1) {
+            return text.charAt(pos) == 'Z';
+        }
+        return remaining == 5 &&
+                text.charAt(pos) == '(' &&
+                text.charAt(pos + 1) == 'U' &&
+                text.charAt(pos + 2) == 'T' &&
+                text.charAt(pos + 3) == 'C' &&
+                text.charAt(pos + 4) == ')';
+    }
+
+    /**
+     * Creates a parse exception, only copying the text when an error occurs.
+     *
+     * @param text  the text being parsed, not null
+     * @param start  the start index, inclusive
+     * @param end  the end index, exclusive
+     * @param pos  the index of the error
+     * @return the exception, not null
+     */
+    private static DateTimeParseException parseError(CharSequence text, int start, int end, int pos) {
+        return new DateTimeParseException("The text could not be parsed", text.subSequence(start, end), pos - start);
+    }
+
+    /**
+     * Gets the length of the month in the proleptic ISO calendar.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @return the length of the month in days
+     */
+    private static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Calculates the epoch-day of a valid date in the proleptic ISO calendar.
+     * <p>
+     * This is the same algorithm as {@code LocalDate.toEpochDay()}.
+     *
+     * @param year  the proleptic year
+     * @param month  the month-of-year, from 1 to 12
+     * @param day  the day-of-month, from 1 to 31
+     * @return the number of days from 1970-01-01
+     */
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (lengthOfMonth(year, 2) == 28) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Read-only view of a region of an ASCII byte array.
+     */
+    private static final class AsciiSequence implements CharSequence {
+        /** The bytes. */
+        private final byte[] bytes;
+        /** The offset. */
+        private final int offset;
+        /** The length. */
+        private final int length;
+        /** Constructor. */
+        private AsciiSequence(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+        @Override
+        public int length() {
+            return length;
+        }
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructs an instance.
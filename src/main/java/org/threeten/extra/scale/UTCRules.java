@@ -43,7 +43,8 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  * Subclasses obtain the data from a suitable source, such as TZDB or GPS.
  * <p>
  * The static methods on this class provide access to the system leap second rules.
- * These are used by default.
+ * These are used by default. They start with an embedded table of leap seconds,
+ * and search the class path for newer data when first queried past that table.
  *
  * <h3>Specification for implementors</h3>
  * This is an abstract class and must be implemented with care
@@ -74,7 +75,13 @@ public abstract class UTCRules {
      * Gets the system default leap second rules.
      * <p>
      * The system default rules are serializable, immutable and thread-safe.
-     * They will remain up to date as new leap seconds are added.
+     * They start with the leap seconds known when this library was built, which
+     * avoids searching the class path on startup. The first time the rules are
+     * queried for a date after the last of those, the context class loader is
+     * searched once for files named {@code javax/time/LeapSecondRules.dat},
+     * and any newer leap seconds they define are added.
+     * Leap seconds can also be added using {@link #registerSystemLeapSecond(long, int)}
+     * and {@link #refreshSystemLeapSeconds()}.
      *
      * @return the system rules, not null
      */
@@ -107,6 +114,27 @@ public abstract class UTCRules {
         SystemUTCRules.INSTANCE.registerLeapSecond(mjDay, leapAdjustment);
     }
 
+    /**
+     * Reads leap second files on the class path into the system default leap second rules.
+     * <p>
+     * The system rules initially contain the leap seconds known when this library
+     * was built, and search the class path once when first queried for a later date.
+     * Calling this method searches the context class loader of the current thread
+     * again for files named {@code javax/time/LeapSecondRules.dat} and adds any
+     * leap seconds they define that are not already known, for example after
+     * the class path has changed.
+     * Leap seconds previously registered using {@link #registerSystemLeapSecond(long, int)}
+     * are retained.
+     * <p>
+     * Calling this method is thread-safe.
+     * Its effects are immediately visible in all threads.
+     *
+     * @throws RuntimeException if an error occurs reading a file
+     */
+    public static void refreshSystemLeapSeconds() {
+        SystemUTCRules.INSTANCE.refresh(Thread.currentThread().getContextClassLoader());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an instance of the rules.
@@ -194,6 +222,49 @@ public abstract class UTCRules {
      */
     protected abstract UTCInstant convertToUTC(TAIInstant taiInstant);
 
+    /**
+     * Converts a mutable UTC timestamp to a mutable TAI timestamp.
+     * <p>
+     * This method converts from the UTC to the TAI time-scale using the
+     * leap-second rules of the implementation, writing the result into the
+     * specified holder rather than creating a new {@code TAIInstant}.
+     * This allows the conversion to be performed in a loop without allocation.
+     * The input is not validated against the rules.
+     * <p>
+     * The standard implementation uses {@code getTAIOffset}.
+     *
+     * @param utc  the UTC timestamp to convert, not null
+     * @param result  the holder to write the TAI timestamp into, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToTAI(MutableUTCTimestamp utc, MutableTAITimestamp result) {
+        long mjd = utc.getModifiedJulianDay();
+        long nod = utc.getNanoOfDay();
+        long taiUtcDaySeconds = Jdk8Methods.safeMultiply(mjd - OFFSET_MJD_TAI, SECS_PER_DAY);
+        long taiSecs = Jdk8Methods.safeAdd(taiUtcDaySeconds, nod / NANOS_PER_SECOND + getTAIOffset(mjd));
+        result.set(taiSecs, (int) (nod % NANOS_PER_SECOND));
+    }
+
+    /**
+     * Converts a mutable TAI timestamp to a mutable UTC timestamp.
+     * <p>
+     * This method converts from the TAI to the UTC time-scale using the
+     * leap-second rules of the implementation, writing the result into the
+     * specified holder rather than creating a new {@code UTCInstant}.
+     * This allows the conversion to be performed in a loop without allocation.
+     * <p>
+     * The standard implementation delegates to {@link #convertToUTC(TAIInstant)}.
+     * Subclasses should override this to avoid the allocation where possible.
+     *
+     * @param tai  the TAI timestamp to convert, not null
+     * @param result  the holder to write the UTC timestamp into, not null
+     * @throws ArithmeticException if the capacity is exceeded
+     */
+    public void convertToUTC(MutableTAITimestamp tai, MutableUTCTimestamp result) {
+        UTCInstant utc = convertToUTC(tai.toTAIInstant());
+        result.set(utc.getModifiedJulianDay(), utc.getNanoOfDay());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Converts a {@code UTCInstant} to an {@code Instant}.
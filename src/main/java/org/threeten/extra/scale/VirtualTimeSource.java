@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+/**
+ * A time-source that provides a controllable virtual time.
+ * <p>
+ * This time-source never reads the system clock.
+ * Instead, the current TAI instant is held in memory and only changes when
+ * {@link #advance(Duration)} or {@link #setTAI(TAIInstant)} is called, or when it
+ * is read while an auto-advance step is set using {@link #setAutoAdvance(Duration)}.
+ * As such, it is suitable for simulations and tests that must run faster than
+ * real time and be reproducible.
+ * <p>
+ * The UTC and UTC-SLS instants are derived from the TAI instant using the rules
+ * specified when the time-source was created.
+ * Listeners may be registered to be notified when the virtual time moves forward
+ * across the end of a day that has a leap second according to those rules.
+ * The leap seconds are captured when the time-source is created, thus any leap
+ * second registered with the rules later is not notified.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and thread-safe.
+ * The current instant is updated atomically, thus concurrent reads with an
+ * auto-advance step each observe a distinct instant.
+ * Unlike most time-sources, this class is not immutable and uses identity-based
+ * {@code equals()} and {@code hashCode()}, as permitted by {@link TimeSource}.
+ */
+public final class VirtualTimeSource implements TimeSource {
+
+    /**
+     * The current TAI instant.
+     */
+    private final AtomicReference<TAIInstant> current;
+    /**
+     * The leap second rules.
+     */
+    private final UTCRules rules;
+    /**
+     * The leap second dates of the rules, as a Modified Julian Day.
+     */
+    private final long[] leapDates;
+    /**
+     * The TAI second at the end of each leap second day, in the same order.
+     */
+    private final long[] leapEnds;
+    /**
+     * The duration to advance by after each read.
+     */
+    private volatile Duration autoAdvance = Duration.ZERO;
+    /**
+     * The leap second listeners.
+     */
+    private final List<LeapSecondListener> listeners = new CopyOnWriteArrayList<LeapSecondListener>();
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a virtual time-source starting at the specified instant
+     * using the system default leap second rules.
+     *
+     * @param start  the initial TAI instant, not null
+     * @return the time-source, not null
+     */
+    public static VirtualTimeSource of(TAIInstant start) {
+        return of(start, UTCRules.system());
+    }
+
+    /**
+     * Obtains a virtual time-source starting at the specified instant
+     * using the specified leap second rules.
+     *
+     * @param start  the initial TAI instant, not null
+     * @param rules  the leap second rules, not null
+     * @return the time-source, not null
+     */
+    public static VirtualTimeSource of(TAIInstant start, UTCRules rules) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(rules, "rules");
+        return new VirtualTimeSource(start, rules);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructs an instance.
+     *
+     * @param start  the initial TAI instant, not null
+     * @param rules  the leap second rules, not null
+     */
+    private VirtualTimeSource(TAIInstant start, UTCRules rules) {
+        this.current = new AtomicReference<TAIInstant>(start);
+        this.rules = rules;
+        this.leapDates = rules.getLeapSecondDates();
+        this.leapEnds = new long[leapDates.length];
+        for (int i = 0; i < leapDates.length; i++) {
+            long mjDay = leapDates[i];
+            leapEnds[i] = (mjDay + 1 - UTCRules.OFFSET_MJD_TAI) * UTCRules.SECS_PER_DAY + rules.getTAIOffset(mjDay + 1);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the leap second rules used to convert the virtual time.
+     *
+     * @return the leap second rules, not null
+     */
+    public UTCRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the duration that the time-source advances by after each read.
+     *
+     * @return the auto-advance duration, zero if not auto-advancing, not null
+     */
+    public Duration getAutoAdvance() {
+        return autoAdvance;
+    }
+
+    /**
+     * Sets the duration that the time-source advances by after each read.
+     * <p>
+     * Each call to {@code instant()}, {@code utcInstant()} or {@code taiInstant()}
+     * returns the current virtual time and then advances it by this amount.
+     * A zero duration disables auto-advance.
+     *
+     * @param step  the duration to advance by after each read, not negative, not null
+     * @throws IllegalArgumentException if the duration is negative
+     */
+    public void setAutoAdvance(Duration step) {
+        Objects.requireNonNull(step, "step");
+        if (step.isNegative()) {
+            throw new IllegalArgumentException("Auto-advance duration must not be negative");
+        }
+        this.autoAdvance = step;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Advances the virtual time by the specified duration.
+     * <p>
+     * The duration is treated as being measured in TAI seconds.
+     * Any leap second listeners are notified of leap seconds crossed.
+     *
+     * @param duration  the duration to advance by, may be negative, not null
+     * @return the new virtual time, not null
+     * @throws ArithmeticException if the calculation exceeds the supported range
+     */
+    public TAIInstant advance(Duration duration) {
+        Objects.requireNonNull(duration, "duration");
+        while (true) {
+            TAIInstant before = current.get();
+            TAIInstant after = before.plus(duration);
+            if (current.compareAndSet(before, after)) {
+                notifyListeners(before, after);
+                return after;
+            }
+        }
+    }
+
+    /**
+     * Sets the virtual time to the specified TAI instant.
+     * <p>
+     * Any leap second listeners are notified of leap seconds crossed if the
+     * new instant is later than the previous one.
+     *
+     * @param instant  the new virtual time, not null
+     */
+    public void setTAI(TAIInstant instant) {
+        Objects.requireNonNull(instant, "instant");
+        TAIInstant before = current.getAndSet(instant);
+        notifyListeners(before, instant);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Adds a listener to be notified when the virtual time crosses a leap second.
+     *
+     * @param listener  the listener to add, not null
+     */
+    public void addLeapSecondListener(LeapSecondListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously added leap second listener.
+     *
+     * @param listener  the listener to remove, null ignored
+     */
+    public void removeLeapSecondListener(LeapSecondListener listener) {
+        listeners.remove(listener);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the current virtual {@code Instant}, advancing the time if auto-advance is set.
+     *
+     * @return the current {@code Instant} from this time-source, not null
+     */
+    @Override
+    public Instant instant() {
+        return rules.convertToInstant(rules.convertToUTC(read()));
+    }
+
+    /**
+     * Gets the current virtual {@code UTCInstant}, advancing the time if auto-advance is set.
+     *
+     * @return the current {@code UTCInstant} from this time-source, not null
+     */
+    @Override
+    public UTCInstant utcInstant() {
+        return rules.convertToUTC(read());
+    }
+
+    /**
+     * Gets the current virtual {@code TAIInstant}, advancing the time if auto-advance is set.
+     *
+     * @return the current {@code TAIInstant} from this time-source, not null
+     */
+    @Override
+    public TAIInstant taiInstant() {
+        return read();
+    }
+
+    /**
+     * Reads the current instant, applying any auto-advance.
+     *
+     * @return the instant before any auto-advance, not null
+     */
+    private TAIInstant read() {
+        Duration step = autoAdvance;
+        if (step.isZero()) {
+            return current.get();
+        }
+        while (true) {
+            TAIInstant before = current.get();
+            TAIInstant after = before.plus(step);
+            if (current.compareAndSet(before, after)) {
+                notifyListeners(before, after);
+                return before;
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners of any leap second days that end after the first
+     * instant and at or before the second instant.
+     *
+     * @param before  the instant before the change, not null
+     * @param after  the instant after the change, not null
+     */
+    private void notifyListeners(TAIInstant before, TAIInstant after) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        long beforeSecs = before.getTAISeconds();
+        long afterSecs = after.getTAISeconds();
+        if (afterSecs <= beforeSecs) {
+            return;
+        }
+        int pos = Arrays.binarySearch(leapEnds, beforeSecs);
+        pos = (pos >= 0 ? pos + 1 : ~pos);
+        for ( ; pos < leapEnds.length && leapEnds[pos] <= afterSecs; pos++) {
+            long mjDay = leapDates[pos];
+            int leapAdjustment = rules.getLeapSecondAdjustment(mjDay);
+            if (leapAdjustment != 0) {
+                for (LeapSecondListener listener : listeners) {
+                    listener.leapSecondCrossed(this, mjDay, leapAdjustment);
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A string representation of this time-source.
+     *
+     * @return the string representation, not null
+     */
+    @Override
+    public String toString() {
+        return "VirtualTimeSource[" + current.get() + "," + rules + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A listener notified when a virtual time-source crosses a leap second.
+     * <p>
+     * The listener is called on the thread that moved the virtual time forward,
+     * after the time has been updated.
+     */
+    public interface LeapSecondListener {
+        /**
+         * Called when the virtual time moves forward across the end of a
+         * day that has a leap second.
+         *
+         * @param source  the time-source that moved, not null
+         * @param mjDay  the Modified Julian Day that the leap second occurs at the end of
+         * @param leapAdjustment  the leap seconds added or removed, either -1 or 1
+         */
+        void leapSecondCrossed(VirtualTimeSource source, long mjDay, int leapAdjustment);
+    }
+
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.extra.AbstractSimpleAmount.CACHE_MAX;
+import static org.threeten.extra.AbstractSimpleAmount.CACHE_MIN;
+
+import java.util.Collections;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
+
+/**
+ * Test AbstractSimpleAmount, using each of the simple amount classes.
+ */
+@Test
+public class TestAbstractSimpleAmount {
+
+    @DataProvider(name="zeros")
+    Object[][] data_zeros() {
+        return new Object[][] {
+            {Days.ZERO},
+            {Hours.ZERO},
+            {Minutes.ZERO},
+            {Months.ZERO},
+            {Seconds.ZERO},
+            {Weeks.ZERO},
+            {Years.ZERO},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    // cache
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zeros")
+    public void test_cache(AbstractSimpleAmount<?> zero) {
+        assertSame(zero.withAmount(0), zero);
+        assertSame(zero.withAmount(1), zero.withAmount(1));
+        assertSame(zero.withAmount(CACHE_MIN), zero.withAmount(CACHE_MIN));
+        assertSame(zero.withAmount(CACHE_MAX), zero.withAmount(CACHE_MAX));
+        assertSame(zero.withAmount(7).plus(1), zero.withAmount(8));
+        assertNotSame(zero.withAmount(CACHE_MAX + 1), zero.withAmount(CACHE_MAX + 1));
+        assertNotSame(zero.withAmount(CACHE_MIN - 1), zero.withAmount(CACHE_MIN - 1));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_cache_amounts(AbstractSimpleAmount<?> zero) {
+        for (int i = CACHE_MIN - 1; i <= CACHE_MAX + 1; i++) {
+            assertEquals(zero.withAmount(i).getAmount(), i);
+            assertEquals(zero.withAmount(i).getClass(), zero.getClass());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() / hashCode() / compareTo()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zeros")
+    public void test_equals_otherAmountClass(AbstractSimpleAmount<?> zero) {
+        for (Object[] other : data_zeros()) {
+            AbstractSimpleAmount<?> otherZero = (AbstractSimpleAmount<?>) other[0];
+            assertEquals(zero.withAmount(5).equals(otherZero.withAmount(5)), zero == otherZero);
+        }
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_equals_uncached(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(CACHE_MAX + 1).equals(zero.withAmount(CACHE_MAX + 1)), true);
+        assertEquals(zero.withAmount(CACHE_MAX + 1).equals(zero.withAmount(CACHE_MAX + 2)), false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test(dataProvider="zeros")
+    public void test_compareTo_otherAmountClass(AbstractSimpleAmount zero) {
+        for (Object[] other : data_zeros()) {
+            AbstractSimpleAmount otherFive = ((AbstractSimpleAmount) other[0]).withAmount(5);
+            AbstractSimpleAmount five = zero.withAmount(5);
+            assertEquals(five.compareTo(otherFive) == 0, zero == other[0]);
+            assertEquals(Integer.signum(five.compareTo(otherFive)), -Integer.signum(otherFive.compareTo(five)));
+        }
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_hashCode_stable(AbstractSimpleAmount<?> zero) {
+        int unitHash = zero.getClass().getSimpleName().hashCode() << 16;
+        assertEquals(zero.withAmount(5).hashCode(), unitHash ^ 5);
+        assertEquals(zero.withAmount(-5).hashCode(), unitHash ^ -5);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test(dataProvider="zeros")
+    public void test_compareTo_extremes(AbstractSimpleAmount zero) {
+        AbstractSimpleAmount min = zero.withAmount(Integer.MIN_VALUE);
+        AbstractSimpleAmount max = zero.withAmount(Integer.MAX_VALUE);
+        assertEquals(min.compareTo(max), -1);
+        assertEquals(max.compareTo(min), 1);
+        assertEquals(min.compareTo(zero.withAmount(Integer.MIN_VALUE)), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    // secondsBetween() / monthsBetween()
+    //-----------------------------------------------------------------------
+    public void test_secondsBetween_localDate() {
+        LocalDate start = LocalDate.of(2012, 1, 1);
+        assertEquals(AbstractSimpleAmount.secondsBetween(start, LocalDate.of(2012, 1, 14), DAYS, 86400), 13);
+        assertEquals(AbstractSimpleAmount.secondsBetween(start, LocalDate.of(2012, 1, 14), WEEKS, 7 * 86400), 1);
+        assertEquals(AbstractSimpleAmount.secondsBetween(LocalDate.of(2012, 1, 14), start, WEEKS, 7 * 86400), -1);
+    }
+
+    @Test(expectedExceptions = {DateTimeException.class})
+    public void test_secondsBetween_localDate_timeUnit() {
+        AbstractSimpleAmount.secondsBetween(LocalDate.of(2012, 1, 1), LocalDate.of(2012, 1, 2), HOURS, 3600);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_secondsBetween_nullStart() {
+        AbstractSimpleAmount.secondsBetween(null, LocalDateTime.of(2012, 1, 1, 0, 0), DAYS, 86400);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_secondsBetween_nullEnd() {
+        AbstractSimpleAmount.secondsBetween(LocalDateTime.of(2012, 1, 1, 0, 0), null, DAYS, 86400);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_monthsBetween_nullStart() {
+        AbstractSimpleAmount.monthsBetween(null, LocalDate.of(2012, 1, 1), MONTHS, 1);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_monthsBetween_nullEnd() {
+        AbstractSimpleAmount.monthsBetween(LocalDate.of(2012, 1, 1), null, MONTHS, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    // sumOf() / minOf() / maxOf()
+    //-----------------------------------------------------------------------
+    public void test_sumOf() {
+        assertEquals(AbstractSimpleAmount.sumOf(new int[] {1, 2, -4, 10}), 9);
+        assertEquals(AbstractSimpleAmount.sumOf(new int[0]), 0);
+        assertEquals(AbstractSimpleAmount.sumOf(new int[] {Integer.MAX_VALUE, 1, -2}), Integer.MAX_VALUE - 1);
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_sumOf_overflow() {
+        AbstractSimpleAmount.sumOf(new int[] {Integer.MAX_VALUE, 1});
+    }
+
+    public void test_minOf() {
+        assertEquals(AbstractSimpleAmount.minOf(new int[] {3, -2, 7}), -2);
+        assertEquals(AbstractSimpleAmount.minOf(new int[] {Integer.MIN_VALUE}), Integer.MIN_VALUE);
+    }
+
+    public void test_maxOf() {
+        assertEquals(AbstractSimpleAmount.maxOf(new int[] {3, -2, 7}), 7);
+        assertEquals(AbstractSimpleAmount.maxOf(new int[] {Integer.MAX_VALUE}), Integer.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void test_minOf_empty() {
+        AbstractSimpleAmount.minOf(new int[0]);
+    }
+
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void test_maxOf_empty() {
+        AbstractSimpleAmount.maxOf(new int[0]);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_sumOf_null() {
+        AbstractSimpleAmount.sumOf(null);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_minOf_null() {
+        AbstractSimpleAmount.minOf(null);
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_maxOf_null() {
+        AbstractSimpleAmount.maxOf(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zeros")
+    public void test_getUnits(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).getUnits(), Collections.singletonList(zero.getUnit()));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_get(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).get(zero.getUnit()), 5);
+        assertEquals(zero.withAmount(-5).get(zero.getUnit()), -5);
+    }
+
+    @Test(dataProvider="zeros", expectedExceptions = {DateTimeException.class})
+    public void test_get_otherUnit(AbstractSimpleAmount<?> zero) {
+        zero.withAmount(5).get(zero.getUnit() == DAYS ? HOURS : DAYS);
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_addTo_subtractFrom_matchUnitArithmetic(AbstractSimpleAmount<?> zero) {
+        Temporal[] temporals = {
+            LocalDate.of(2012, 1, 31),
+            LocalDateTime.of(2012, 1, 31, 10, 30),
+            LocalTime.of(10, 30),
+            Instant.ofEpochSecond(1000000000L, 5),
+        };
+        for (Temporal temporal : temporals) {
+            for (int amount : new int[] {-5000, -1, 1, 13, 5000}) {
+                AbstractSimpleAmount<?> test = zero.withAmount(amount);
+                Temporal expectedPlus;
+                try {
+                    expectedPlus = temporal.plus(amount, zero.getUnit());
+                } catch (DateTimeException ex) {
+                    expectedPlus = null;
+                }
+                if (expectedPlus == null) {
+                    assertUnsupported(test, temporal);
+                } else {
+                    assertEquals(test.addTo(temporal), expectedPlus, temporal + " plus " + test);
+                    assertEquals(test.subtractFrom(temporal), temporal.minus(amount, zero.getUnit()), temporal + " minus " + test);
+                }
+            }
+        }
+    }
+
+    private void assertUnsupported(AbstractSimpleAmount<?> test, Temporal temporal) {
+        try {
+            test.addTo(temporal);
+            fail(temporal + " plus " + test);
+        } catch (DateTimeException ex) {
+            // expected
+        }
+        try {
+            test.subtractFrom(temporal);
+            fail(temporal + " minus " + test);
+        } catch (DateTimeException ex) {
+            // expected
+        }
+    }
+
+    @Test(expectedExceptions = {DateTimeException.class})
+    public void test_addTo_unsupportedLocalDate() {
+        Hours.of(1).addTo(LocalDate.of(2012, 1, 1));
+    }
+
+    @Test(expectedExceptions = {DateTimeException.class})
+    public void test_addTo_unsupportedLocalTime() {
+        Months.of(1).addTo(LocalTime.of(10, 0));
+    }
+
+    @Test(expectedExceptions = {DateTimeException.class})
+    public void test_subtractFrom_unsupportedInstant() {
+        Months.of(1).subtractFrom(Instant.ofEpochSecond(0));
+    }
+
+    //-----------------------------------------------------------------------
+    // parseAmount()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"P5D", 5},
+            {"p5d", 5},
+            {"P-5D", -5},
+            {"-P5D", -5},
+            {"-P-5D", 5},
+            {"+P+5D", 5},
+            {"P0D", 0},
+            {"P007D", 7},
+            {"P2147483647D", 2147483647},
+            {"P-2147483648D", -2147483648},
+            {"-P2147483648D", -2147483648},
+            {"P2W", 14},
+            {"p2w", 14},
+            {"-P2W", -14},
+            {"P-2W", -14},
+            {"P306783378W", 2147483646},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parseAmount_valid(String text, int expected) {
+        assertEquals(AbstractSimpleAmount.parseAmount(text, 0, text.length(), false, 'D', 'W', 7, "Days"), expected);
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parseAmount_validRegion(String text, int expected) {
+        assertEquals(AbstractSimpleAmount.parseAmount("xx" + text + "yy", 2, text.length(), false, 'D', 'W', 7, "Days"), expected);
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {""},
+            {"P"},
+            {"PD"},
+            {"5D"},
+            {"P5"},
+            {"P5DX"},
+            {"PT5D"},
+            {"P5M"},
+            {"P-D"},
+            {"P2147483648D"},
+            {"P-2147483649D"},
+            {"P99999999999999999999D"},
+            {"P1.5D"},
+            {"--P5D"},
+            {" P5D"},
+            {"P306783379W"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parseAmount_invalid(String text) {
+        AbstractSimpleAmount.parseAmount(text, 0, text.length(), false, 'D', 'W', 7, "Days");
+    }
+
+    public void test_parseAmount_invalidTimeBased() {
+        for (String text : new String[] {"P5H", "PTH", "PT5", "PT5M", "PT-H", "PT5HX"}) {
+            try {
+                AbstractSimpleAmount.parseAmount(text, 0, text.length(), true, 'H', "Hours");
+                throw new AssertionError(text);
+            } catch (DateTimeParseException ex) {
+                assertEquals(ex.getParsedString(), text);
+            }
+        }
+    }
+
+    public void test_parseAmount_errorIndex() {
+        try {
+            AbstractSimpleAmount.parseAmount("xxP5Myy", 2, 3, false, 'D', "Days");
+            throw new AssertionError();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "P5M");
+            assertEquals(ex.getErrorIndex(), 2);
+        }
+    }
+
+    @Test(expectedExceptions = {NullPointerException.class})
+    public void test_parseAmount_null() {
+        AbstractSimpleAmount.parseAmount(null, 0, 0, false, 'D', "Days");
+    }
+
+    @Test(expectedExceptions = {IndexOutOfBoundsException.class})
+    public void test_parseAmount_negativeOffset() {
+        AbstractSimpleAmount.parseAmount("P5D", -1, 3, false, 'D', "Days");
+    }
+
+    @Test(expectedExceptions = {IndexOutOfBoundsException.class})
+    public void test_parseAmount_tooLong() {
+        AbstractSimpleAmount.parseAmount("P5D", 1, 3, false, 'D', "Days");
+    }
+
+    //-----------------------------------------------------------------------
+    // saturating arithmetic
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zeros")
+    public void test_plusSaturated(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).plusSaturated(3), zero.withAmount(8));
+        assertEquals(zero.withAmount(5).plusSaturated(-8), zero.withAmount(-3));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE - 1).plusSaturated(2), zero.withAmount(Integer.MAX_VALUE));
+        assertEquals(zero.withAmount(Integer.MIN_VALUE + 1).plusSaturated(-2), zero.withAmount(Integer.MIN_VALUE));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE).plusSaturated(Integer.MAX_VALUE), zero.withAmount(Integer.MAX_VALUE));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_minusSaturated(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).minusSaturated(3), zero.withAmount(2));
+        assertEquals(zero.withAmount(-1).minusSaturated(Integer.MIN_VALUE), zero.withAmount(Integer.MAX_VALUE));
+        assertEquals(zero.withAmount(Integer.MIN_VALUE + 1).minusSaturated(2), zero.withAmount(Integer.MIN_VALUE));
+        assertEquals(zero.minusSaturated(Integer.MIN_VALUE), zero.withAmount(Integer.MAX_VALUE));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_multipliedBySaturated(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).multipliedBySaturated(-3), zero.withAmount(-15));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE / 2 + 1).multipliedBySaturated(2), zero.withAmount(Integer.MAX_VALUE));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE).multipliedBySaturated(-2), zero.withAmount(Integer.MIN_VALUE));
+        assertEquals(zero.withAmount(Integer.MIN_VALUE).multipliedBySaturated(-1), zero.withAmount(Integer.MAX_VALUE));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_negatedSaturated(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(12).negatedSaturated(), zero.withAmount(-12));
+        assertEquals(zero.withAmount(Integer.MIN_VALUE).negatedSaturated(), zero.withAmount(Integer.MAX_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    // non-throwing arithmetic
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="zeros")
+    public void test_tryPlus(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).tryPlus(3), zero.withAmount(8));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE - 1).tryPlus(1), zero.withAmount(Integer.MAX_VALUE));
+        assertNull(zero.withAmount(Integer.MAX_VALUE).tryPlus(1));
+        assertNull(zero.withAmount(Integer.MIN_VALUE).tryPlus(-1));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_tryMinus(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).tryMinus(3), zero.withAmount(2));
+        assertEquals(zero.withAmount(-1).tryMinus(Integer.MIN_VALUE), zero.withAmount(Integer.MAX_VALUE));
+        assertNull(zero.tryMinus(Integer.MIN_VALUE));
+        assertNull(zero.withAmount(Integer.MIN_VALUE).tryMinus(1));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_tryMultipliedBy(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(5).tryMultipliedBy(-3), zero.withAmount(-15));
+        assertNull(zero.withAmount(Integer.MAX_VALUE / 2 + 1).tryMultipliedBy(2));
+        assertNull(zero.withAmount(Integer.MIN_VALUE).tryMultipliedBy(-1));
+    }
+
+    @Test(dataProvider="zeros")
+    public void test_tryNegated(AbstractSimpleAmount<?> zero) {
+        assertEquals(zero.withAmount(12).tryNegated(), zero.withAmount(-12));
+        assertEquals(zero.withAmount(Integer.MAX_VALUE).tryNegated(), zero.withAmount(-Integer.MAX_VALUE));
+        assertNull(zero.withAmount(Integer.MIN_VALUE).tryNegated());
+    }
+
+}
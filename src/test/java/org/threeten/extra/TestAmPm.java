@@ -41,8 +41,16 @@ import java.util.Locale;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.OffsetTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAccessor;
 
 /**
@@ -96,6 +104,20 @@ public class TestAmPm {
         assertEquals(AmPm.from(LocalTime.of(17, 30)), AmPm.PM);
     }
 
+    @Test(groups={"tck"})
+    public void test_factory_TemporalAccessor_fastPaths() {
+        for (int hour = 0; hour < 24; hour++) {
+            LocalTime time = LocalTime.of(hour, 59);
+            AmPm expected = AmPm.of(time.get(ChronoField.AMPM_OF_DAY));
+            LocalDateTime dateTime = LocalDateTime.of(LocalDate.of(2012, 3, 25), time);
+            assertSame(AmPm.from(time), expected);
+            assertSame(AmPm.from(dateTime), expected);
+            assertSame(AmPm.from(ZonedDateTime.of(dateTime, ZoneOffset.UTC)), expected);
+            assertSame(AmPm.from(OffsetDateTime.of(dateTime, ZoneOffset.ofHours(3))), expected);
+            assertSame(AmPm.from(OffsetTime.of(time, ZoneOffset.ofHours(3))), expected);
+        }
+    }
+
     @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
     public void test_factory_TemporalAccessor_invalid_noDerive() {
         AmPm.from(LocalDate.of(2007, 7, 30));
@@ -124,6 +146,24 @@ public class TestAmPm {
         AmPm.AM.getDisplayName(TextStyle.FULL, null);
     }
 
+    @Test(groups={"tck"})
+    public void test_getDisplayName_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(ChronoField.AMPM_OF_DAY, style).toFormatter(locale);
+                for (AmPm value : AmPm.values()) {
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_getDisplayName_cached() {
+        String first = AmPm.values()[0].getDisplayName(TextStyle.FULL, Locale.UK);
+        assertSame(AmPm.values()[0].getDisplayName(TextStyle.FULL, Locale.UK), first);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
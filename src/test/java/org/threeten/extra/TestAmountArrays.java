@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.DECADES;
+import static org.threeten.bp.temporal.ChronoUnit.FOREVER;
+import static org.threeten.bp.temporal.ChronoUnit.HALF_DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MILLIS;
+import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Period;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAmount;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * Test AmountArrays.
+ */
+@Test
+public class TestAmountArrays {
+
+    //-----------------------------------------------------------------------
+    // histogram()
+    //-----------------------------------------------------------------------
+    public void test_histogram() {
+        int[] amounts = {0, 1, 14, 15, 29, 30, 44, 45, 100, -5};
+        assertEquals(AmountArrays.histogram(amounts, 15, 4), new int[] {4, 2, 2, 2});
+    }
+
+    public void test_histogram_empty() {
+        assertEquals(AmountArrays.histogram(new int[0], 10, 3), new int[] {0, 0, 0});
+    }
+
+    public void test_histogram_extremes() {
+        int[] amounts = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+        assertEquals(AmountArrays.histogram(amounts, 1, 2), new int[] {1, 1});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_histogram_zeroWidth() {
+        AmountArrays.histogram(new int[] {1}, 0, 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_histogram_zeroCount() {
+        AmountArrays.histogram(new int[] {1}, 1, 0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_histogram_null() {
+        AmountArrays.histogram(null, 1, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    // convert()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="convert")
+    Object[][] data_convert() {
+        return new Object[][] {
+            {new int[] {0, 1, -2, 24}, HOURS, MINUTES, new int[] {0, 60, -120, 1440}},
+            {new int[] {0, 59, 60, 90, -90}, MINUTES, HOURS, new int[] {0, 0, 1, 1, -1}},
+            {new int[] {1, 2}, MILLIS, NANOS, new int[] {1000000, 2000000}},
+            {new int[] {0, 1, -3}, WEEKS, DAYS, new int[] {0, 7, -21}},
+            {new int[] {6, 7, 13, 14}, DAYS, WEEKS, new int[] {0, 1, 1, 2}},
+            {new int[] {1, 10}, YEARS, MONTHS, new int[] {12, 120}},
+            {new int[] {11, 12, 240}, MONTHS, YEARS, new int[] {0, 1, 20}},
+            {new int[] {3}, DECADES, YEARS, new int[] {30}},
+            {new int[] {5, -5}, DAYS, DAYS, new int[] {5, -5}},
+        };
+    }
+
+    @Test(dataProvider="convert")
+    public void test_convert(int[] amounts, TemporalUnit fromUnit, TemporalUnit toUnit, int[] expected) {
+        assertEquals(AmountArrays.convert(amounts, fromUnit, toUnit), expected);
+    }
+
+    @Test(dataProvider="convert")
+    public void test_convert_inPlace(int[] amounts, TemporalUnit fromUnit, TemporalUnit toUnit, int[] expected) {
+        int[] array = amounts.clone();
+        AmountArrays.convert(array, fromUnit, toUnit, array);
+        assertEquals(array, expected);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_convert_overflow() {
+        AmountArrays.convert(new int[] {Integer.MAX_VALUE / 60 + 1}, HOURS, MINUTES);
+    }
+
+    public void test_convert_largeMultiplier() {
+        assertEquals(AmountArrays.convert(new int[0], HOURS, NANOS), new int[0]);
+        assertEquals(AmountArrays.convert(new int[] {0, 0}, HALF_DAYS, NANOS), new int[] {0, 0});
+        assertEquals(AmountArrays.convert(new int[] {2}, SECONDS, NANOS), new int[] {2000000000});
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_convert_largeMultiplier_overflow() {
+        AmountArrays.convert(new int[] {0, 1}, HOURS, NANOS);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_daysToHours() {
+        AmountArrays.convert(new int[] {1}, DAYS, HOURS);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_monthsToDays() {
+        AmountArrays.convert(new int[] {1}, MONTHS, DAYS);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_convert_forever() {
+        AmountArrays.convert(new int[] {1}, FOREVER, DAYS);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_convert_resultTooShort() {
+        AmountArrays.convert(new int[] {1, 2}, HOURS, MINUTES, new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // totalDuration()
+    //-----------------------------------------------------------------------
+    public void test_totalDuration() {
+        Duration test = AmountArrays.totalDuration(
+                Hours.of(2), Minutes.of(-30), Seconds.of(15), Duration.ofMillis(1500), Duration.ofNanos(-1));
+        assertEquals(test, Duration.ofSeconds(2 * 3600 - 30 * 60 + 16, 499999999));
+    }
+
+    public void test_totalDuration_empty() {
+        assertEquals(AmountArrays.totalDuration(), Duration.ZERO);
+    }
+
+    public void test_totalDuration_otherExactAmount() {
+        TemporalAmount halfDays = new TemporalAmount() {
+            @Override
+            public List<TemporalUnit> getUnits() {
+                return Collections.<TemporalUnit>singletonList(HALF_DAYS);
+            }
+            @Override
+            public long get(TemporalUnit unit) {
+                return 3;
+            }
+            @Override
+            public Temporal addTo(Temporal temporal) {
+                throw new UnsupportedOperationException();
+            }
+            @Override
+            public Temporal subtractFrom(Temporal temporal) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertEquals(AmountArrays.totalDuration(halfDays, Hours.of(1)), Duration.ofHours(37));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_totalDuration_days() {
+        AmountArrays.totalDuration(Hours.of(1), Days.of(1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_totalDuration_period() {
+        AmountArrays.totalDuration(Period.ofMonths(1));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_totalDuration_overflow() {
+        AmountArrays.totalDuration(Duration.ofSeconds(Long.MAX_VALUE), Seconds.of(1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_totalDuration_nullElement() {
+        AmountArrays.totalDuration(Hours.of(1), null);
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.temporal.TemporalAmount;
+
+/**
+ * Test AmountCodec.
+ */
+@Test
+public class TestAmountCodec {
+
+    @DataProvider(name="amounts")
+    Object[][] data_amounts() {
+        return new Object[][] {
+            {Days.of(0), 2},
+            {Days.of(5), 2},
+            {Hours.of(-1), 2},
+            {Minutes.of(63), 2},
+            {Minutes.of(-64), 2},
+            {Months.of(64), 3},
+            {Months.of(-65), 3},
+            {Seconds.of(8191), 3},
+            {Seconds.of(8192), 4},
+            {Weeks.of(Integer.MAX_VALUE), 6},
+            {Years.of(Integer.MIN_VALUE), 6},
+        };
+    }
+
+    @Test(dataProvider="amounts")
+    public void test_encodedLength(TemporalAmount amount, int length) {
+        assertEquals(AmountCodec.encodedLength(amount), length);
+    }
+
+    @Test(dataProvider="amounts")
+    public void test_dataOutput_roundTrip(TemporalAmount amount, int length) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        AmountCodec.write(amount, new DataOutputStream(baos));
+        byte[] bytes = baos.toByteArray();
+        assertEquals(bytes.length, length);
+        TemporalAmount test = AmountCodec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        assertEquals(test, amount);
+        assertSame(test.getClass(), amount.getClass());
+    }
+
+    @Test(dataProvider="amounts")
+    public void test_byteBuffer_roundTrip(TemporalAmount amount, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(AmountCodec.MAX_ENCODED_LENGTH + 1);
+        buffer.put((byte) 99);
+        AmountCodec.write(amount, buffer);
+        assertEquals(buffer.position(), length + 1);
+        buffer.flip();
+        buffer.get();
+        TemporalAmount test = AmountCodec.read(buffer);
+        assertEquals(test, amount);
+        assertEquals(buffer.remaining(), 0);
+    }
+
+    @Test(dataProvider="amounts")
+    public void test_serialization(TemporalAmount amount, int length) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(amount);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(in.readObject(), amount);
+    }
+
+    public void test_serialization_compact() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(Days.of(5));
+        out.writeObject(Hours.of(5));
+        out.writeObject(Years.of(5));
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertSame(in.readObject(), Days.of(5));
+        assertSame(in.readObject(), Hours.of(5));
+        assertSame(in.readObject(), Years.of(5));
+        // the class descriptor of the shared delegate is written only once
+        assertTrue(baos.size() < 80, "Size: " + baos.size());
+    }
+
+    public void test_encoding() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        AmountCodec.write(Days.of(-3), buffer);
+        AmountCodec.write(Years.of(300), buffer);
+        assertEquals(buffer.position(), 5);
+        assertEquals(buffer.get(0), AmountCodec.DAYS_TYPE);
+        assertEquals(buffer.get(1), 5);
+        assertEquals(buffer.get(2), AmountCodec.YEARS_TYPE);
+        assertEquals(buffer.get(3), (byte) 0xD8);
+        assertEquals(buffer.get(4), 4);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_write_unsupportedAmount() {
+        AmountCodec.write(Duration.ofSeconds(5), ByteBuffer.allocate(8));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_write_null() {
+        AmountCodec.write(null, ByteBuffer.allocate(8));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_byteBuffer_unknownType() {
+        AmountCodec.read(ByteBuffer.wrap(new byte[] {0, 1}));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_byteBuffer_tooLong() {
+        AmountCodec.read(ByteBuffer.wrap(new byte[] {1, -1, -1, -1, -1, -1, 1}));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_dataInput_unknownType() throws Exception {
+        AmountCodec.read(new DataInputStream(new ByteArrayInputStream(new byte[] {8, 1})));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_dataInput_tooLong() throws Exception {
+        AmountCodec.read(new DataInputStream(new ByteArrayInputStream(new byte[] {1, -1, -1, -1, -1, -1, 1})));
+    }
+
+    public void test_read_fifthByteMaximum() throws Exception {
+        byte[] bytes = new byte[] {1, -1, -1, -1, -1, 0x0F};
+        assertEquals(AmountCodec.read(ByteBuffer.wrap(bytes)), Days.of(Integer.MIN_VALUE));
+        assertEquals(AmountCodec.read(new DataInputStream(new ByteArrayInputStream(bytes))), Days.of(Integer.MIN_VALUE));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_byteBuffer_fifthByteOverflow() {
+        AmountCodec.read(ByteBuffer.wrap(new byte[] {1, -1, -1, -1, -1, 0x10}));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_dataInput_fifthByteOverflow() throws Exception {
+        AmountCodec.read(new DataInputStream(new ByteArrayInputStream(new byte[] {1, -1, -1, -1, -1, 0x10})));
+    }
+
+}
@@ -49,7 +49,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.MonthDay;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalAdjuster;
@@ -106,7 +110,7 @@ public class TestDayOfMonth {
         for (int i = 1; i <= MAX_LENGTH; i++) {
             DayOfMonth test = DayOfMonth.of(i);
             assertEquals(test.getValue(), i);
-            assertEquals(DayOfMonth.of(i), test);
+            assertSame(DayOfMonth.of(i), test);
         }
     }
 
@@ -191,6 +195,17 @@ public class TestDayOfMonth {
         }
     }
 
+    public void test_factory_TemporalAccessor_fastPaths() {
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            DayOfMonth expected = DayOfMonth.of(i);
+            assertSame(DayOfMonth.from(LocalDate.of(2012, 1, i)), expected);
+            assertSame(DayOfMonth.from(LocalDateTime.of(2012, 1, i, 12, 30)), expected);
+            assertSame(DayOfMonth.from(MonthDay.of(1, i)), expected);
+            assertSame(DayOfMonth.from(ZonedDateTime.of(LocalDateTime.of(2012, 1, i, 12, 30), ZoneOffset.UTC)), expected);
+            assertSame(DayOfMonth.from(expected), expected);
+        }
+    }
+
     @Test(expectedExceptions=DateTimeException.class)
     public void test_factory_TemporalAccessor_noDerive() {
         DayOfMonth.from(LocalTime.NOON);
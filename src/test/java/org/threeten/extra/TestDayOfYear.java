@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+
+/**
+ * Test DayOfYear.
+ */
+@Test
+public class TestDayOfYear {
+
+    private static final int MAX_LENGTH = 366;
+
+    //-----------------------------------------------------------------------
+    public void test_interfaces() {
+        assertTrue(Serializable.class.isAssignableFrom(DayOfYear.class));
+        assertTrue(Comparable.class.isAssignableFrom(DayOfYear.class));
+        assertTrue(TemporalAccessor.class.isAssignableFrom(DayOfYear.class));
+        assertTrue(TemporalAdjuster.class.isAssignableFrom(DayOfYear.class));
+    }
+
+    public void test_serialization() throws IOException, ClassNotFoundException {
+        DayOfYear test = DayOfYear.of(200);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(
+                baos.toByteArray()));
+        assertSame(ois.readObject(), test);
+    }
+
+    public void test_immutable() {
+        Class<DayOfYear> cls = DayOfYear.class;
+        assertTrue(Modifier.isPublic(cls.getModifiers()));
+        assertTrue(Modifier.isFinal(cls.getModifiers()));
+        Field[] fields = cls.getDeclaredFields();
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            } else {
+                assertTrue(Modifier.isPrivate(field.getModifiers()), "Field:" + field.getName());
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_factory_int_singleton() {
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            DayOfYear test = DayOfYear.of(i);
+            assertEquals(test.getValue(), i);
+            assertSame(DayOfYear.of(i), test);
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_factory_int_tooLow() {
+        DayOfYear.of(0);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_factory_int_tooHigh() {
+        DayOfYear.of(367);
+    }
+
+    //-----------------------------------------------------------------------
+    // from(TemporalAccessor)
+    //-----------------------------------------------------------------------
+    public void test_factory_TemporalAccessor_notLeapYear() {
+        LocalDate date = LocalDate.of(2007, 1, 1);
+        for (int i = 1; i <= 365; i++) {
+            assertSame(DayOfYear.from(date), DayOfYear.of(i));
+            date = date.plusDays(1);
+        }
+        assertSame(DayOfYear.from(date), DayOfYear.of(1));
+    }
+
+    public void test_factory_TemporalAccessor_leapYear() {
+        LocalDate date = LocalDate.of(2008, 1, 1);
+        for (int i = 1; i <= 366; i++) {
+            assertSame(DayOfYear.from(date), DayOfYear.of(i));
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_factory_TemporalAccessor_otherTypes() {
+        LocalDateTime dateTime = LocalDateTime.of(2008, 12, 31, 12, 30);
+        assertSame(DayOfYear.from(dateTime), DayOfYear.of(366));
+        assertSame(DayOfYear.from(ZonedDateTime.of(dateTime, ZoneOffset.UTC)), DayOfYear.of(366));
+        assertSame(DayOfYear.from(DayOfYear.of(12)), DayOfYear.of(12));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_factory_TemporalAccessor_noDerive() {
+        DayOfYear.from(LocalTime.NOON);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_factory_TemporalAccessor_null() {
+        DayOfYear.from((TemporalAccessor) null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_getField() {
+        assertSame(DayOfYear.of(1).getField(), DAY_OF_YEAR);
+    }
+
+    public void test_get() {
+        assertEquals(DayOfYear.of(123).get(DAY_OF_YEAR), 123);
+        assertEquals(DayOfYear.of(123).getLong(DAY_OF_YEAR), 123);
+        assertTrue(DayOfYear.of(123).isSupported(DAY_OF_YEAR));
+    }
+
+    //-----------------------------------------------------------------------
+    // adjustInto()
+    //-----------------------------------------------------------------------
+    public void test_adjustDate() {
+        LocalDate base = LocalDate.of(2008, 6, 1);
+        LocalDate expected = LocalDate.of(2008, 1, 1);
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            Temporal result = DayOfYear.of(i).adjustInto(base);
+            assertEquals(result, expected);
+            expected = expected.plusDays(1);
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_adjustDate_366_notLeapYear() {
+        DayOfYear.of(366).adjustInto(LocalDate.of(2007, 2, 1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_adjustDate_nullLocalDate() {
+        LocalDate date = null;
+        DayOfYear.of(1).adjustInto(date);
+    }
+
+    //-----------------------------------------------------------------------
+    // isValidYear(), atYear()
+    //-----------------------------------------------------------------------
+    public void test_isValidYear() {
+        assertEquals(DayOfYear.of(365).isValidYear(2007), true);
+        assertEquals(DayOfYear.of(366).isValidYear(2007), false);
+        assertEquals(DayOfYear.of(366).isValidYear(2008), true);
+        assertEquals(DayOfYear.of(366).isValidYear(1900), false);
+        assertEquals(DayOfYear.of(366).isValidYear(2000), true);
+    }
+
+    public void test_atYear() {
+        for (int year = 2007; year <= 2008; year++) {
+            LocalDate expected = LocalDate.of(year, 1, 1);
+            for (int i = 1; i <= Year.of(year).length(); i++) {
+                assertEquals(DayOfYear.of(i).atYear(year), expected);
+                assertEquals(DayOfYear.of(i).atYear(Year.of(year)), expected);
+                expected = expected.plusDays(1);
+            }
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_atYear_366_notLeapYear() {
+        DayOfYear.of(366).atYear(2007);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_atYear_nullYear() {
+        DayOfYear.of(1).atYear((Year) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo()
+    //-----------------------------------------------------------------------
+    public void test_compareTo() {
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            DayOfYear a = DayOfYear.of(i);
+            for (int j = 1; j <= MAX_LENGTH; j++) {
+                DayOfYear b = DayOfYear.of(j);
+                assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(i - j));
+            }
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_compareTo_nullDayOfYear() {
+        DayOfYear doy = null;
+        DayOfYear test = DayOfYear.of(1);
+        test.compareTo(doy);
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() / hashCode()
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            DayOfYear a = DayOfYear.of(i);
+            for (int j = 1; j <= MAX_LENGTH; j++) {
+                DayOfYear b = DayOfYear.of(j);
+                assertEquals(a.equals(b), i == j);
+                assertEquals(a.hashCode() == b.hashCode(), i == j);
+            }
+        }
+    }
+
+    public void test_equals_nullDayOfYear() {
+        DayOfYear doy = null;
+        DayOfYear test = DayOfYear.of(1);
+        assertEquals(test.equals(doy), false);
+    }
+
+    public void test_equals_incorrectType() {
+        DayOfYear test = DayOfYear.of(1);
+        assertEquals(test.equals("Incorrect type"), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        for (int i = 1; i <= MAX_LENGTH; i++) {
+            DayOfYear a = DayOfYear.of(i);
+            assertEquals(a.toString(), "DayOfYear=" + i);
+        }
+    }
+
+}
@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.Period;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,140 @@ public class TestDays {
         assertSame(Days.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Days orginal = Days.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Days ser = (Days) in.readObject();
+        assertSame(Days.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 1), 30},
+            {LocalDate.of(2012, 3, 1), LocalDate.of(2012, 1, 31), -30},
+            {LocalDate.of(2011, 2, 28), LocalDate.of(2013, 2, 28), 731},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2011, 2, 28), -731},
+            {LocalDate.of(2012, 2, 29), LocalDate.of(2013, 2, 28), 365},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2012, 2, 29), -365},
+            {LocalDate.of(-1, 6, 15), LocalDate.of(2012, 6, 14), 735233},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(-1, 6, 15), -735233},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(2012, 6, 14), 0},
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), 62},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), -62},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0), 731},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0), -731},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30), 366},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0), -366},
+            {Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), 21},
+            {Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), Instant.ofEpochSecond(0, 500), -21},
+            {Instant.ofEpochSecond(-86400 * 100, 0), Instant.ofEpochSecond(86400 * 100, 1), 200},
+            {Instant.ofEpochSecond(86400 * 100, 1), Instant.ofEpochSecond(-86400 * 100, 0), -200},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Days.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Days.between(start, end).getAmount(), start.periodUntil(end, DAYS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalDate.of(2012, 2, 28), LocalDate.of(2012, 3, 4)},
+            {LocalDateTime.of(2012, 2, 28, 10, 30), LocalDateTime.of(2012, 3, 4, 10, 30)},
+            {OffsetDateTime.of(2012, 2, 28, 10, 30, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 3, 4, 10, 30, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Days.of(5).addTo(base), expected);
+        assertEquals(base.plus(Days.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Days.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Days.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Days.sum(new int[] {1, 2, -4, 10}), Days.of(9));
+        assertEquals(Days.min(new int[] {3, -2, 7}), Days.of(-2));
+        assertEquals(Days.max(new int[] {3, -2, 7}), Days.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"P5D", 5},
+            {"p5d", 5},
+            {"-P5D", -5},
+            {"P2W", 14},
+            {"p2w", 14},
+            {"-P2W", -14},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Days.parse(text), Days.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Days.parse("xx" + text + "yy", 2, text.length()), Days.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Days.parse(Days.of(-123).toString()), Days.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"PT5D"},
+            {"P5M"},
+            {"P306783379W"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Days.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Days test5 = Days.of(5);
@@ -320,6 +463,12 @@ public class TestDays {
         Days.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toPeriod() {
+        assertEquals(Days.of(5).toPeriod(), Period.ofDays(5));
+        assertEquals(Days.of(-5).toPeriod(), Period.ofDays(-5));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Days test5 = Days.of(5);
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
+
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Test EpochBuckets.
+ */
+@Test
+public class TestEpochBuckets {
+
+    private static final TemporalField[] DATE_FIELDS = {DAY_OF_MONTH, MONTH_OF_YEAR, QUARTER_OF_YEAR, WEEK_OF_WEEK_BASED_YEAR};
+    private static final TemporalField[] ALL_FIELDS = {DAY_OF_MONTH, MONTH_OF_YEAR, QUARTER_OF_YEAR, WEEK_OF_WEEK_BASED_YEAR, HOUR_OF_DAY, AMPM_OF_DAY};
+
+    //-----------------------------------------------------------------------
+    // bucketDays()
+    //-----------------------------------------------------------------------
+    public void test_bucketDays_sequential() {
+        long start = LocalDate.of(1595, 12, 1).toEpochDay();
+        long end = LocalDate.of(2405, 2, 1).toEpochDay();
+        long[] days = new long[(int) (end - start)];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = start + i;
+        }
+        for (TemporalField field : DATE_FIELDS) {
+            int[] result = EpochBuckets.bucketDays(days, field);
+            for (int i = 0; i < days.length; i++) {
+                LocalDate date = LocalDate.ofEpochDay(days[i]);
+                assertEquals(result[i], date.get(field), field + " " + date);
+            }
+        }
+    }
+
+    public void test_bucketDays_random() {
+        Random random = new Random(2013);
+        long[] days = new long[10000];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = random.nextInt(2000000000) - 1000000000L;
+        }
+        days[0] = LocalDate.MIN.toEpochDay();
+        days[1] = LocalDate.MAX.toEpochDay();
+        for (TemporalField field : DATE_FIELDS) {
+            int[] result = EpochBuckets.bucketDays(days, field);
+            for (int i = 0; i < days.length; i++) {
+                LocalDate date = LocalDate.ofEpochDay(days[i]);
+                assertEquals(result[i], date.get(field), field + " " + date);
+            }
+        }
+    }
+
+    public void test_bucketDays_matchesValueTypes() {
+        long[] days = {LocalDate.of(2012, 7, 28).toEpochDay()};
+        assertEquals(DayOfMonth.of(EpochBuckets.bucketDays(days, DAY_OF_MONTH)[0]), DayOfMonth.of(28));
+        assertEquals(QuarterOfYear.of(EpochBuckets.bucketDays(days, QUARTER_OF_YEAR)[0]), QuarterOfYear.Q3);
+    }
+
+    public void test_bucketDays_resultArray() {
+        long[] days = {0, 31, 59};
+        int[] result = {-1, -1, -1, -1};
+        EpochBuckets.bucketDays(days, MONTH_OF_YEAR, result);
+        assertEquals(result, new int[] {1, 2, 3, -1});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_bucketDays_resultTooShort() {
+        EpochBuckets.bucketDays(new long[3], MONTH_OF_YEAR, new int[2]);
+    }
+
+    @DataProvider(name="unsupportedForDays")
+    Object[][] data_unsupportedForDays() {
+        return new Object[][] {
+            {HOUR_OF_DAY},
+            {AMPM_OF_DAY},
+            {DAY_OF_WEEK},
+        };
+    }
+
+    @Test(dataProvider = "unsupportedForDays", expectedExceptions = DateTimeException.class)
+    public void test_bucketDays_unsupported(TemporalField field) {
+        EpochBuckets.bucketDays(new long[1], field);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_bucketDays_nullArray() {
+        EpochBuckets.bucketDays(null, MONTH_OF_YEAR);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_bucketDays_nullField() {
+        EpochBuckets.bucketDays(new long[1], null);
+    }
+
+    //-----------------------------------------------------------------------
+    // bucketMillis()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="offsets")
+    Object[][] data_offsets() {
+        return new Object[][] {
+            {ZoneOffset.UTC},
+            {ZoneOffset.ofHours(18)},
+            {ZoneOffset.ofHours(-18)},
+            {ZoneOffset.ofHoursMinutes(5, 30)},
+            {ZoneOffset.ofHoursMinutesSeconds(-3, -25, -7)},
+        };
+    }
+
+    @Test(dataProvider = "offsets")
+    public void test_bucketMillis_random(ZoneOffset offset) {
+        Random random = new Random(offset.getTotalSeconds());
+        long[] millis = new long[5000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = (random.nextLong() % 20000000000000L);
+        }
+        millis[0] = 0;
+        millis[1] = -1;
+        millis[2] = 86400000L - 1;
+        for (TemporalField field : ALL_FIELDS) {
+            int[] result = EpochBuckets.bucketMillis(millis, field, offset);
+            for (int i = 0; i < millis.length; i++) {
+                LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis[i]), offset);
+                assertEquals(result[i], dateTime.get(field), field + " " + dateTime);
+            }
+        }
+    }
+
+    public void test_bucketMillis_utcDefault() {
+        long[] millis = {LocalDateTime.of(2012, 12, 31, 23, 59).toInstant(ZoneOffset.UTC).toEpochMilli()};
+        assertEquals(EpochBuckets.bucketMillis(millis, HOUR_OF_DAY), new int[] {23});
+        assertEquals(EpochBuckets.bucketMillis(millis, AMPM_OF_DAY), new int[] {AmPm.PM.getValue()});
+        assertEquals(EpochBuckets.bucketMillis(millis, MONTH_OF_YEAR, ZoneOffset.ofHours(1)), new int[] {1});
+        assertEquals(EpochBuckets.bucketMillis(millis, HOUR_OF_DAY, ZoneOffset.ofHours(1)), new int[] {0});
+    }
+
+    public void test_bucketMillis_extremes() {
+        long[] millis = {Long.MIN_VALUE, Long.MAX_VALUE};
+        for (TemporalField field : ALL_FIELDS) {
+            int[] result = EpochBuckets.bucketMillis(millis, field, ZoneOffset.ofHours(-18));
+            for (int i = 0; i < millis.length; i++) {
+                LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis[i]), ZoneOffset.ofHours(-18));
+                assertEquals(result[i], dateTime.get(field), field + " " + dateTime);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_bucketMillis_resultTooShort() {
+        EpochBuckets.bucketMillis(new long[3], HOUR_OF_DAY, ZoneOffset.UTC, new int[2]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_bucketMillis_unsupported() {
+        EpochBuckets.bucketMillis(new long[1], DAY_OF_WEEK);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_bucketMillis_nullOffset() {
+        EpochBuckets.bucketMillis(new long[1], HOUR_OF_DAY, null);
+    }
+
+}
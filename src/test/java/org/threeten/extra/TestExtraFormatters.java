@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+import org.threeten.extra.internal.DisplayNames;
+
+/**
+ * Test ExtraFormatters.
+ */
+@Test
+public class TestExtraFormatters {
+
+    //-----------------------------------------------------------------------
+    // quarterCode()
+    //-----------------------------------------------------------------------
+    public void test_quarterCode() {
+        for (QuarterOfYear quarter : QuarterOfYear.values()) {
+            String text = ExtraFormatters.quarterCode().format(quarter);
+            assertEquals(text, "Q" + quarter.getValue());
+            assertSame(QuarterOfYear.from(ExtraFormatters.quarterCode().parse(text)), quarter);
+        }
+        assertEquals(ExtraFormatters.quarterCode().format(LocalDate.of(2012, 8, 1)), "Q3");
+    }
+
+    @Test(expectedExceptions = DateTimeParseException.class)
+    public void test_quarterCode_parseInvalid() {
+        ExtraFormatters.quarterCode().parse("Q5");
+    }
+
+    //-----------------------------------------------------------------------
+    // quarterOrdinal()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="quarterOrdinal")
+    Object[][] data_quarterOrdinal() {
+        return new Object[][] {
+            {QuarterOfYear.Q1, "1st quarter"},
+            {QuarterOfYear.Q2, "2nd quarter"},
+            {QuarterOfYear.Q3, "3rd quarter"},
+            {QuarterOfYear.Q4, "4th quarter"},
+        };
+    }
+
+    @Test(dataProvider = "quarterOrdinal")
+    public void test_quarterOrdinal(QuarterOfYear quarter, String expected) {
+        assertEquals(ExtraFormatters.quarterOrdinal().format(quarter), expected);
+        assertSame(QuarterOfYear.from(ExtraFormatters.quarterOrdinal().parse(expected)), quarter);
+        assertSame(QuarterOfYear.from(ExtraFormatters.quarterOrdinal().parse(expected.toUpperCase(Locale.ENGLISH))), quarter);
+    }
+
+    //-----------------------------------------------------------------------
+    // dayOfMonthOrdinal()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="dayOfMonthOrdinal")
+    Object[][] data_dayOfMonthOrdinal() {
+        return new Object[][] {
+            {1, "1st"}, {2, "2nd"}, {3, "3rd"}, {4, "4th"},
+            {11, "11th"}, {12, "12th"}, {13, "13th"},
+            {21, "21st"}, {22, "22nd"}, {23, "23rd"}, {24, "24th"},
+            {30, "30th"}, {31, "31st"},
+        };
+    }
+
+    @Test(dataProvider = "dayOfMonthOrdinal")
+    public void test_dayOfMonthOrdinal(int day, String expected) {
+        DayOfMonth dom = DayOfMonth.of(day);
+        assertEquals(ExtraFormatters.dayOfMonthOrdinal().format(dom), expected);
+        assertSame(DayOfMonth.from(ExtraFormatters.dayOfMonthOrdinal().parse(expected)), dom);
+    }
+
+    public void test_appendDayOfMonthOrdinal_inBuilder() {
+        DateTimeFormatter formatter = ExtraFormatters.appendDayOfMonthOrdinal(
+                new DateTimeFormatterBuilder().appendPattern("MMMM ")).appendPattern(", yyyy").toFormatter(Locale.ENGLISH);
+        LocalDate date = LocalDate.of(2012, 3, 22);
+        assertEquals(formatter.format(date), "March 22nd, 2012");
+        assertEquals(formatter.parse("March 22nd, 2012", LocalDate.class), date);
+    }
+
+    //-----------------------------------------------------------------------
+    // yearQuarter()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="yearQuarter")
+    Object[][] data_yearQuarter() {
+        return new Object[][] {
+            {YearQuarter.of(2012, 3), "2012-Q3"},
+            {YearQuarter.of(12, 1), "0012-Q1"},
+            {YearQuarter.of(-12, 4), "-0012-Q4"},
+            {YearQuarter.of(12345, 2), "+12345-Q2"},
+        };
+    }
+
+    @Test(dataProvider = "yearQuarter")
+    public void test_yearQuarter(YearQuarter yearQuarter, String expected) {
+        assertEquals(ExtraFormatters.yearQuarter().format(yearQuarter), expected);
+        assertEquals(YearQuarter.from(ExtraFormatters.yearQuarter().parse(expected)), yearQuarter);
+    }
+
+    //-----------------------------------------------------------------------
+    // quarterText(), amPmText()
+    //-----------------------------------------------------------------------
+    public void test_quarterText() {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(QUARTER_OF_YEAR, style).toFormatter(Locale.FRANCE);
+            DateTimeFormatter test = ExtraFormatters.quarterText(style, Locale.FRANCE);
+            assertSame(ExtraFormatters.quarterText(style, Locale.FRANCE), test);
+            for (QuarterOfYear quarter : QuarterOfYear.values()) {
+                assertEquals(test.format(quarter), expected.format(quarter));
+                assertEquals(quarter.getDisplayName(style, Locale.FRANCE), expected.format(quarter));
+            }
+        }
+    }
+
+    public void test_amPmText() {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(AMPM_OF_DAY, style).toFormatter(Locale.US);
+            DateTimeFormatter test = ExtraFormatters.amPmText(style, Locale.US);
+            assertSame(ExtraFormatters.amPmText(style, Locale.US), test);
+            for (AmPm amPm : AmPm.values()) {
+                assertEquals(test.format(amPm), expected.format(amPm));
+                assertSame(AmPm.from(test.parse(test.format(amPm))), amPm);
+            }
+        }
+    }
+
+    public void test_amPmText_sharedFieldFormatterFirst() {
+        assertAmPmText(Locale.GERMANY);
+        assertOtherAmPmNames(Locale.GERMANY);
+    }
+
+    public void test_amPmText_sharedFieldOtherEnumFirst() {
+        assertOtherAmPmNames(Locale.ITALY);
+        assertAmPmText(Locale.ITALY);
+    }
+
+    private void assertAmPmText(Locale locale) {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(AMPM_OF_DAY, style).toFormatter(locale);
+            for (AmPm amPm : AmPm.values()) {
+                assertEquals(ExtraFormatters.amPmText(style, locale).format(amPm), expected.format(amPm));
+                assertEquals(amPm.getDisplayName(style, locale), expected.format(amPm));
+            }
+        }
+    }
+
+    private void assertOtherAmPmNames(Locale locale) {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(AMPM_OF_DAY, style).toFormatter(locale);
+            for (OtherAmPm value : OtherAmPm.values()) {
+                assertEquals(DisplayNames.displayName(value, AMPM_OF_DAY, style, locale), expected.format(value));
+            }
+        }
+    }
+
+    /**
+     * An enum with more values than AmPm, sharing the AMPM_OF_DAY field.
+     */
+    static enum OtherAmPm implements TemporalAccessor {
+        MORNING, AFTERNOON, NIGHT;
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return field == AMPM_OF_DAY;
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            if (field == AMPM_OF_DAY) {
+                return ordinal();
+            }
+            throw new DateTimeException("Unsupported field: " + field);
+        }
+
+        @Override
+        public int get(TemporalField field) {
+            return (int) getLong(field);
+        }
+
+        @Override
+        public ValueRange range(TemporalField field) {
+            return ValueRange.of(0, 2);
+        }
+
+        @Override
+        public <R> R query(TemporalQuery<R> query) {
+            if (query == TemporalQueries.zoneId() || query == TemporalQueries.chronology() ||
+                    query == TemporalQueries.precision()) {
+                return null;
+            }
+            return query.queryFrom(this);
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_quarterText_nullStyle() {
+        ExtraFormatters.quarterText(null, Locale.US);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_amPmText_nullLocale() {
+        ExtraFormatters.amPmText(TextStyle.FULL, null);
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Month;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.extra.FiscalCalendar.WeekPattern;
+
+/**
+ * Test FiscalCalendar.
+ */
+@Test
+public class TestFiscalCalendar {
+
+    private static final FiscalCalendar APRIL = FiscalCalendar.ofMonths(Month.APRIL);
+    private static final FiscalCalendar LAST_SAT_JAN_445 =
+            FiscalCalendar.ofWeeksEndingLast(Month.JANUARY, DayOfWeek.SATURDAY, WeekPattern.FOUR_FOUR_FIVE);
+    private static final FiscalCalendar NEAREST_SAT_JAN_454 =
+            FiscalCalendar.ofWeeksEndingNearest(Month.JANUARY, DayOfWeek.SATURDAY, WeekPattern.FOUR_FIVE_FOUR);
+
+    //-----------------------------------------------------------------------
+    // ofMonths()
+    //-----------------------------------------------------------------------
+    public void test_ofMonths_january_matchesCalendar() {
+        FiscalCalendar test = FiscalCalendar.ofMonths(Month.JANUARY);
+        LocalDate date = LocalDate.of(2011, 12, 1);
+        LocalDate end = LocalDate.of(2013, 2, 1);
+        while (date.isBefore(end)) {
+            assertEquals(test.getFiscalYear(date), date.getYear());
+            assertEquals(test.getQuarter(date), date.get(IsoFields.QUARTER_OF_YEAR));
+            assertEquals(test.getPeriod(date), date.getMonthValue());
+            assertEquals(test.getDayOfYear(date), date.getDayOfYear());
+            assertEquals(test.getWeek(date), (date.getDayOfYear() - 1) / 7 + 1);
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_ofMonths_april() {
+        assertEquals(APRIL.yearStart(2013), LocalDate.of(2012, 4, 1));
+        assertEquals(APRIL.yearEnd(2013), LocalDate.of(2013, 3, 31));
+        assertEquals(APRIL.periodStart(2013, 10), LocalDate.of(2013, 1, 1));
+        assertEquals(APRIL.lengthInDays(2013), 365);
+        assertEquals(APRIL.lengthInDays(2012), 366);
+        LocalDate date = LocalDate.of(2012, 4, 1);
+        assertEquals(APRIL.getFiscalYear(date), 2013);
+        assertEquals(APRIL.getQuarter(date), 1);
+        assertEquals(APRIL.getPeriod(date), 1);
+        assertEquals(APRIL.getWeek(date), 1);
+        date = LocalDate.of(2013, 3, 31);
+        assertEquals(APRIL.getFiscalYear(date), 2013);
+        assertEquals(APRIL.getQuarter(date), 4);
+        assertEquals(APRIL.getPeriod(date), 12);
+        assertEquals(APRIL.getDayOfYear(date), 365);
+        assertEquals(APRIL.getWeek(date), 53);
+        date = LocalDate.of(2012, 10, 15);
+        assertEquals(APRIL.getQuarter(date), 3);
+        assertEquals(APRIL.getPeriod(date), 7);
+    }
+
+    //-----------------------------------------------------------------------
+    // week-based
+    //-----------------------------------------------------------------------
+    public void test_ofWeeksEndingLast() {
+        assertEquals(LAST_SAT_JAN_445.yearEnd(2023), LocalDate.of(2023, 1, 28));
+        assertEquals(LAST_SAT_JAN_445.yearStart(2024), LocalDate.of(2023, 1, 29));
+        assertEquals(LAST_SAT_JAN_445.yearEnd(2024), LocalDate.of(2024, 1, 27));
+        assertEquals(LAST_SAT_JAN_445.lengthInDays(2024), 364);
+        assertEquals(LAST_SAT_JAN_445.yearEnd(2025), LocalDate.of(2025, 1, 25));
+        assertEquals(LAST_SAT_JAN_445.yearEnd(2026), LocalDate.of(2026, 1, 31));
+        assertEquals(LAST_SAT_JAN_445.lengthInDays(2026), 371);
+    }
+
+    public void test_ofWeeksEndingNearest() {
+        assertEquals(NEAREST_SAT_JAN_454.yearEnd(2023), LocalDate.of(2023, 1, 28));
+        assertEquals(NEAREST_SAT_JAN_454.yearEnd(2024), LocalDate.of(2024, 2, 3));
+        assertEquals(NEAREST_SAT_JAN_454.lengthInDays(2024), 371);
+        assertEquals(NEAREST_SAT_JAN_454.yearEnd(2025), LocalDate.of(2025, 2, 1));
+        assertEquals(NEAREST_SAT_JAN_454.lengthInDays(2025), 364);
+        LocalDate date = LocalDate.of(2024, 2, 3);
+        assertEquals(NEAREST_SAT_JAN_454.getFiscalYear(date), 2024);
+        assertEquals(NEAREST_SAT_JAN_454.getPeriod(date), 12);
+        assertEquals(NEAREST_SAT_JAN_454.getWeek(date), 53);
+        assertEquals(NEAREST_SAT_JAN_454.getFiscalYear(date.plusDays(1)), 2025);
+        assertEquals(NEAREST_SAT_JAN_454.getWeek(date.plusDays(1)), 1);
+    }
+
+    @DataProvider(name="patterns")
+    Object[][] data_patterns() {
+        return new Object[][] {
+            {WeekPattern.FOUR_FOUR_FIVE},
+            {WeekPattern.FOUR_FIVE_FOUR},
+            {WeekPattern.FIVE_FOUR_FOUR},
+        };
+    }
+
+    @Test(dataProvider="patterns")
+    public void test_weekPattern_periodLengths(WeekPattern pattern) {
+        FiscalCalendar test = FiscalCalendar.ofWeeksEndingNearest(Month.AUGUST, DayOfWeek.SUNDAY, pattern);
+        for (int year = 2000; year <= 2030; year++) {
+            LocalDate start = test.yearStart(year);
+            assertEquals(start.minusDays(1).getDayOfWeek(), DayOfWeek.SUNDAY);
+            for (int period = 1; period <= 12; period++) {
+                LocalDate periodStart = test.periodStart(year, period);
+                LocalDate next = (period == 12 ? test.yearEnd(year).plusDays(1) : test.periodStart(year, period + 1));
+                int weeks = pattern.getWeeks((period - 1) % 3 + 1);
+                if (period == 12 && test.lengthInDays(year) == 371) {
+                    weeks++;
+                }
+                assertEquals(next.toEpochDay() - periodStart.toEpochDay(), weeks * 7L);
+            }
+        }
+    }
+
+    public void test_sequential_daysAdvanceConsistently() {
+        FiscalCalendar[] calendars = {APRIL, LAST_SAT_JAN_445, NEAREST_SAT_JAN_454};
+        for (FiscalCalendar test : calendars) {
+            LocalDate date = LocalDate.of(1898, 1, 1);
+            int year = test.getFiscalYear(date);
+            int period = test.getPeriod(date);
+            int day = test.getDayOfYear(date);
+            LocalDate end = LocalDate.of(2103, 1, 1);
+            while (date.isBefore(end)) {
+                date = date.plusDays(1);
+                int newYear = test.getFiscalYear(date);
+                int newPeriod = test.getPeriod(date);
+                int newDay = test.getDayOfYear(date);
+                if (newYear == year) {
+                    assertEquals(newDay, day + 1, date.toString());
+                    assertTrue(newPeriod == period || newPeriod == period + 1, date.toString());
+                } else {
+                    assertEquals(newYear, year + 1, date.toString());
+                    assertEquals(day, test.lengthInDays(year), date.toString());
+                    assertEquals(newDay, 1, date.toString());
+                    assertEquals(newPeriod, 1, date.toString());
+                    assertEquals(test.yearStart(newYear), date);
+                }
+                assertEquals(test.getQuarter(date), (newPeriod - 1) / 3 + 1);
+                assertEquals(test.getWeek(date), (newDay - 1) / 7 + 1);
+                year = newYear;
+                period = newPeriod;
+                day = newDay;
+            }
+        }
+    }
+
+    public void test_getFields_matchesGetters() {
+        FiscalCalendar[] calendars = {APRIL, LAST_SAT_JAN_445, NEAREST_SAT_JAN_454};
+        LocalDate[] dates = {LocalDate.of(1500, 6, 1), LocalDate.of(2012, 4, 1), LocalDate.of(2013, 2, 2), LocalDate.of(3000, 12, 31)};
+        for (FiscalCalendar test : calendars) {
+            for (LocalDate date : dates) {
+                FiscalCalendar.Fields fields = test.getFields(date);
+                assertEquals(fields.getFiscalYear(), test.getFiscalYear(date), date.toString());
+                assertEquals(fields.getQuarter(), test.getQuarter(date), date.toString());
+                assertEquals(fields.getPeriod(), test.getPeriod(date), date.toString());
+                assertEquals(fields.getWeek(), test.getWeek(date), date.toString());
+                assertEquals(fields.getDayOfYear(), test.getDayOfYear(date), date.toString());
+            }
+        }
+        FiscalCalendar.Fields fields = APRIL.getFields(LocalDate.of(2012, 7, 9));
+        assertEquals(fields.getFiscalYear(), 2013);
+        assertEquals(fields.getQuarter(), 2);
+        assertEquals(fields.getPeriod(), 4);
+        assertEquals(fields.getWeek(), 15);
+        assertEquals(fields.getDayOfYear(), 100);
+    }
+
+    public void test_getFields_equals_hashCode_toString() {
+        FiscalCalendar.Fields fields = APRIL.getFields(LocalDate.of(2012, 7, 9));
+        FiscalCalendar.Fields same = APRIL.getFields(LocalDate.of(2012, 7, 9));
+        FiscalCalendar.Fields nextDay = APRIL.getFields(LocalDate.of(2012, 7, 10));
+        FiscalCalendar.Fields nextYear = APRIL.getFields(LocalDate.of(2013, 7, 9));
+        assertEquals(fields.equals(fields), true);
+        assertEquals(fields.equals(same), true);
+        assertEquals(fields.hashCode(), same.hashCode());
+        assertEquals(fields.equals(nextDay), false);
+        assertEquals(fields.equals(nextYear), false);
+        assertEquals(fields.equals(null), false);
+        assertEquals(fields.equals(""), false);
+        assertEquals(fields.toString(), "Fields[fiscalYear=2013,quarter=2,period=4,week=15,dayOfYear=100]");
+    }
+
+    public void test_nearest_yearEndingInNextCalendarYear() {
+        FiscalCalendar test = FiscalCalendar.ofWeeksEndingNearest(Month.DECEMBER, DayOfWeek.SATURDAY, WeekPattern.FOUR_FOUR_FIVE);
+        assertEquals(test.yearEnd(2015), LocalDate.of(2016, 1, 2));
+        assertEquals(test.getFiscalYear(LocalDate.of(2016, 1, 2)), 2015);
+        assertEquals(test.getFiscalYear(LocalDate.of(2016, 1, 3)), 2016);
+    }
+
+    public void test_outsideTable() {
+        assertEquals(LAST_SAT_JAN_445.getFiscalYear(LocalDate.of(1500, 6, 1)), 1501);
+        assertEquals(LAST_SAT_JAN_445.getFiscalYear(LAST_SAT_JAN_445.yearStart(3000)), 3000);
+        assertEquals(LAST_SAT_JAN_445.getFiscalYear(LAST_SAT_JAN_445.yearEnd(3000)), 3000);
+        assertEquals(LAST_SAT_JAN_445.getPeriod(LAST_SAT_JAN_445.periodStart(3000, 5)), 5);
+        assertEquals(LAST_SAT_JAN_445.getPeriod(LAST_SAT_JAN_445.periodStart(3000, 5).minusDays(1)), 4);
+        assertEquals(APRIL.getFiscalYear(LocalDate.of(-50, 3, 31)), -50);
+        assertEquals(APRIL.getFiscalYear(LocalDate.of(-50, 4, 1)), -49);
+        assertEquals(APRIL.getPeriod(LocalDate.of(-50, 4, 1)), 1);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_periodStart_invalidPeriod() {
+        APRIL.periodStart(2013, 13);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofMonths_null() {
+        FiscalCalendar.ofMonths(null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_ofWeeksEndingLast_nullPattern() {
+        FiscalCalendar.ofWeeksEndingLast(Month.JANUARY, DayOfWeek.SATURDAY, null);
+    }
+
+    //-----------------------------------------------------------------------
+    // serialization, equals(), hashCode(), toString()
+    //-----------------------------------------------------------------------
+    public void test_serialization() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(NEAREST_SAT_JAN_454);
+        oos.close();
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(
+                baos.toByteArray()));
+        FiscalCalendar result = (FiscalCalendar) ois.readObject();
+        assertEquals(result, NEAREST_SAT_JAN_454);
+        assertEquals(result.yearEnd(2024), LocalDate.of(2024, 2, 3));
+    }
+
+    public void test_equals_hashCode() {
+        FiscalCalendar other = FiscalCalendar.ofWeeksEndingNearest(Month.JANUARY, DayOfWeek.SATURDAY, WeekPattern.FOUR_FIVE_FOUR);
+        assertEquals(other, NEAREST_SAT_JAN_454);
+        assertEquals(other.hashCode(), NEAREST_SAT_JAN_454.hashCode());
+        assertFalse(LAST_SAT_JAN_445.equals(NEAREST_SAT_JAN_454));
+        assertFalse(APRIL.equals(FiscalCalendar.ofMonths(Month.MAY)));
+        assertFalse(APRIL.equals(null));
+        assertFalse(APRIL.equals("April"));
+    }
+
+    public void test_toString() {
+        assertEquals(APRIL.toString(), "FiscalCalendar[start=APRIL]");
+        assertEquals(LAST_SAT_JAN_445.toString(), "FiscalCalendar[end=last SATURDAY JANUARY,FOUR_FOUR_FIVE]");
+    }
+
+}
@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,128 @@ public class TestHours {
         assertSame(Hours.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Hours orginal = Hours.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Hours ser = (Hours) in.readObject();
+        assertSame(Hours.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), 1511},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), -1511},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0), 17544},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0), -17544},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30), 8786},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0), -8786},
+            {Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), 505},
+            {Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), Instant.ofEpochSecond(0, 500), -505},
+            {Instant.ofEpochSecond(-86400 * 100, 0), Instant.ofEpochSecond(86400 * 100, 1), 4800},
+            {Instant.ofEpochSecond(86400 * 100, 1), Instant.ofEpochSecond(-86400 * 100, 0), -4800},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Hours.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Hours.between(start, end).getAmount(), start.periodUntil(end, HOURS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalTime.of(22, 30), LocalTime.of(3, 30)},
+            {LocalDateTime.of(2012, 2, 28, 22, 30), LocalDateTime.of(2012, 2, 29, 3, 30)},
+            {OffsetDateTime.of(2012, 2, 28, 22, 30, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 2, 29, 3, 30, 0, 0, ZoneOffset.UTC)},
+            {Instant.ofEpochSecond(1000), Instant.ofEpochSecond(1000 + 5 * 3600)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Hours.of(5).addTo(base), expected);
+        assertEquals(base.plus(Hours.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Hours.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Hours.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Hours.sum(new int[] {1, 2, -4, 10}), Hours.of(9));
+        assertEquals(Hours.min(new int[] {3, -2, 7}), Hours.of(-2));
+        assertEquals(Hours.max(new int[] {3, -2, 7}), Hours.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"PT5H", 5},
+            {"pt5h", 5},
+            {"-PT5H", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Hours.parse(text), Hours.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Hours.parse("xx" + text + "yy", 2, text.length()), Hours.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Hours.parse(Hours.of(-123).toString()), Hours.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"P5H"},
+            {"PT5M"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Hours.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Hours test5 = Hours.of(5);
@@ -320,6 +451,32 @@ public class TestHours {
         Hours.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toMinutes() {
+        assertEquals(Hours.of(3).toMinutes(), Minutes.of(180));
+        assertEquals(Hours.of(-3).toMinutes(), Minutes.of(-180));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toMinutes_overflow() {
+        Hours.of(Integer.MAX_VALUE / 60 + 1).toMinutes();
+    }
+
+    public void test_toSeconds() {
+        assertEquals(Hours.of(3).toSeconds(), Seconds.of(10800));
+        assertEquals(Hours.of(-3).toSeconds(), Seconds.of(-10800));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toSeconds_overflow() {
+        Hours.of(Integer.MIN_VALUE / 3600 - 1).toSeconds();
+    }
+
+    public void test_toDuration() {
+        assertEquals(Hours.of(3).toDuration(), Duration.ofHours(3));
+        assertEquals(Hours.of(Integer.MIN_VALUE).toDuration(), Duration.ofHours(Integer.MIN_VALUE));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Hours test5 = Hours.of(5);
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.NANOS;
+import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.Temporal;
+
+/**
+ * Test HoursMinutesSeconds.
+ */
+@Test
+public class TestHoursMinutesSeconds {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws Exception {
+        assertTrue(Serializable.class.isAssignableFrom(HoursMinutesSeconds.class));
+        HoursMinutesSeconds original = HoursMinutesSeconds.of(1, 2, 3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(original);
+        out.writeObject(HoursMinutesSeconds.ZERO);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(in.readObject(), original);
+        assertSame(in.readObject(), HoursMinutesSeconds.ZERO);
+    }
+
+    //-----------------------------------------------------------------------
+    // factories
+    //-----------------------------------------------------------------------
+    public void test_of_hoursMinutesSeconds() {
+        HoursMinutesSeconds test = HoursMinutesSeconds.of(1, 2, 3);
+        assertEquals(test.toNanos(), 3723 * NANOS_PER_SECOND);
+        assertEquals(HoursMinutesSeconds.of(1, -30, 0), HoursMinutesSeconds.of(0, 30, 0));
+        assertSame(HoursMinutesSeconds.of(0, 0, 0), HoursMinutesSeconds.ZERO);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_of_hoursMinutesSeconds_overflow() {
+        HoursMinutesSeconds.of(Long.MAX_VALUE / 3600000000000L + 1, 0, 0);
+    }
+
+    public void test_ofNanos() {
+        assertEquals(HoursMinutesSeconds.ofNanos(-5).toNanos(), -5);
+        assertSame(HoursMinutesSeconds.ofNanos(0), HoursMinutesSeconds.ZERO);
+    }
+
+    public void test_of_amounts() {
+        assertEquals(HoursMinutesSeconds.of(Hours.of(2)), HoursMinutesSeconds.of(2, 0, 0));
+        assertEquals(HoursMinutesSeconds.of(Minutes.of(-2)), HoursMinutesSeconds.of(0, -2, 0));
+        assertEquals(HoursMinutesSeconds.of(Seconds.of(Integer.MAX_VALUE)), HoursMinutesSeconds.of(0, 0, Integer.MAX_VALUE));
+        assertEquals(HoursMinutesSeconds.of(Duration.ofSeconds(5, 7)), HoursMinutesSeconds.ofNanos(5 * NANOS_PER_SECOND + 7));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_of_hours_overflow() {
+        HoursMinutesSeconds.of(Hours.of(Integer.MAX_VALUE));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_of_minutes_overflow() {
+        HoursMinutesSeconds.of(Minutes.of(Integer.MIN_VALUE));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    public void test_getUnits() {
+        assertEquals(HoursMinutesSeconds.ZERO.getUnits(), Arrays.asList(SECONDS, NANOS));
+    }
+
+    public void test_get() {
+        HoursMinutesSeconds test = HoursMinutesSeconds.ofNanos(-NANOS_PER_SECOND / 2);
+        assertEquals(test.get(SECONDS), -1);
+        assertEquals(test.get(NANOS), NANOS_PER_SECOND / 2);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_get_unsupported() {
+        HoursMinutesSeconds.ZERO.get(HOURS);
+    }
+
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalTime.of(23, 0), LocalTime.of(1, 30, 5)},
+            {LocalDateTime.of(2012, 1, 1, 23, 0), LocalDateTime.of(2012, 1, 2, 1, 30, 5)},
+            {Instant.ofEpochSecond(0), Instant.ofEpochSecond(9005)},
+            {OffsetDateTime.of(2012, 1, 1, 23, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 2, 1, 30, 5, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        HoursMinutesSeconds amount = HoursMinutesSeconds.of(2, 30, 5);
+        assertEquals(amount.addTo(base), expected);
+        assertEquals(base.plus(amount), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        HoursMinutesSeconds amount = HoursMinutesSeconds.of(2, 30, 5);
+        assertEquals(amount.subtractFrom(base), expected);
+        assertEquals(base.minus(amount), expected);
+    }
+
+    public void test_addTo_fraction() {
+        HoursMinutesSeconds amount = HoursMinutesSeconds.ofNanos(-NANOS_PER_SECOND / 2);
+        OffsetDateTime base = OffsetDateTime.of(2012, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(amount.addTo(base), OffsetDateTime.of(2011, 12, 31, 23, 59, 59, 500000000, ZoneOffset.UTC));
+        assertEquals(amount.subtractFrom(base), OffsetDateTime.of(2012, 1, 1, 0, 0, 0, 500000000, ZoneOffset.UTC));
+    }
+
+    //-----------------------------------------------------------------------
+    // queries
+    //-----------------------------------------------------------------------
+    public void test_parts() {
+        HoursMinutesSeconds test = HoursMinutesSeconds.of(-25, -61, -61).plusNanos(-7);
+        assertEquals(test.toHours(), -26);
+        assertEquals(test.toMinutes(), -26 * 60 - 2);
+        assertEquals(test.toSeconds(), (-26 * 60 - 2) * 60 - 1);
+        assertEquals(test.toMinutesPart(), -2);
+        assertEquals(test.toSecondsPart(), -1);
+        assertEquals(test.toNanosPart(), -7);
+        assertEquals(test.isNegative(), true);
+        assertEquals(test.isZero(), false);
+        assertEquals(HoursMinutesSeconds.ZERO.isZero(), true);
+    }
+
+    //-----------------------------------------------------------------------
+    // arithmetic
+    //-----------------------------------------------------------------------
+    public void test_plus() {
+        HoursMinutesSeconds base = HoursMinutesSeconds.of(1, 0, 0);
+        assertEquals(base.plus(HoursMinutesSeconds.of(0, 30, 0)), HoursMinutesSeconds.of(1, 30, 0));
+        assertEquals(base.plusHours(-2), HoursMinutesSeconds.of(-1, 0, 0));
+        assertEquals(base.plusMinutes(90), HoursMinutesSeconds.of(2, 30, 0));
+        assertEquals(base.plusSeconds(1), HoursMinutesSeconds.of(1, 0, 1));
+        assertEquals(base.plusNanos(1).toNanos(), 3600 * NANOS_PER_SECOND + 1);
+        assertSame(base.plusNanos(0), base);
+        assertEquals(base.minus(HoursMinutesSeconds.of(0, 30, 0)), HoursMinutesSeconds.of(0, 30, 0));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_plus_overflow() {
+        HoursMinutesSeconds.ofNanos(Long.MAX_VALUE).plusNanos(1);
+    }
+
+    public void test_multipliedBy_dividedBy() {
+        HoursMinutesSeconds base = HoursMinutesSeconds.of(1, 30, 0);
+        assertEquals(base.multipliedBy(3), HoursMinutesSeconds.of(4, 30, 0));
+        assertEquals(base.dividedBy(-4), HoursMinutesSeconds.of(0, -22, -30));
+        assertEquals(base.negated(), HoursMinutesSeconds.of(-1, -30, 0));
+        assertEquals(base.negated().abs(), base);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_negated_overflow() {
+        HoursMinutesSeconds.ofNanos(Long.MIN_VALUE).negated();
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_dividedBy_zero() {
+        HoursMinutesSeconds.of(1, 0, 0).dividedBy(0);
+    }
+
+    public void test_toDuration() {
+        assertEquals(HoursMinutesSeconds.of(1, 2, 3).plusNanos(4).toDuration(), Duration.ofSeconds(3723, 4));
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo(), equals(), hashCode()
+    //-----------------------------------------------------------------------
+    public void test_compareTo() {
+        HoursMinutesSeconds a = HoursMinutesSeconds.of(0, 59, 0);
+        HoursMinutesSeconds b = HoursMinutesSeconds.of(1, 0, 0);
+        assertEquals(a.compareTo(b), -1);
+        assertEquals(b.compareTo(a), 1);
+        assertEquals(a.compareTo(a), 0);
+    }
+
+    public void test_equals_hashCode() {
+        HoursMinutesSeconds a = HoursMinutesSeconds.of(1, 0, 0);
+        HoursMinutesSeconds b = HoursMinutesSeconds.of(0, 60, 0);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(HoursMinutesSeconds.of(1, 0, 1)), false);
+        assertEquals(a.equals(Hours.of(1)), false);
+        assertEquals(a.equals(null), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="toString")
+    Object[][] data_toString() {
+        return new Object[][] {
+            {0, "PT0S"},
+            {3600 * NANOS_PER_SECOND, "PT1H"},
+            {3723 * NANOS_PER_SECOND, "PT1H2M3S"},
+            {120 * NANOS_PER_SECOND, "PT2M"},
+            {NANOS_PER_SECOND / 2, "PT0.5S"},
+            {-NANOS_PER_SECOND / 2, "PT-0.5S"},
+            {-3 * NANOS_PER_SECOND / 2, "PT-1.5S"},
+            {-3723 * NANOS_PER_SECOND - 1, "PT-1H-2M-3.000000001S"},
+            {25 * 3600 * NANOS_PER_SECOND + 5, "PT25H0.000000005S"},
+        };
+    }
+
+    @Test(dataProvider="toString")
+    public void test_toString(long nanos, String expected) {
+        assertEquals(HoursMinutesSeconds.ofNanos(nanos).toString(), expected);
+    }
+
+}
@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,128 @@ public class TestMinutes {
         assertSame(Minutes.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Minutes orginal = Minutes.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Minutes ser = (Minutes) in.readObject();
+        assertSame(Minutes.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), 90719},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), -90719},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0), 1052640},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0), -1052640},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30), 527190},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0), -527190},
+            {Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), 30300},
+            {Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), Instant.ofEpochSecond(0, 500), -30300},
+            {Instant.ofEpochSecond(-86400 * 100, 0), Instant.ofEpochSecond(86400 * 100, 1), 288000},
+            {Instant.ofEpochSecond(86400 * 100, 1), Instant.ofEpochSecond(-86400 * 100, 0), -288000},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Minutes.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Minutes.between(start, end).getAmount(), start.periodUntil(end, MINUTES));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalTime.of(23, 58), LocalTime.of(0, 3)},
+            {LocalDateTime.of(2012, 2, 28, 23, 58), LocalDateTime.of(2012, 2, 29, 0, 3)},
+            {OffsetDateTime.of(2012, 2, 28, 23, 58, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 2, 29, 0, 3, 0, 0, ZoneOffset.UTC)},
+            {Instant.ofEpochSecond(1000), Instant.ofEpochSecond(1000 + 5 * 60)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Minutes.of(5).addTo(base), expected);
+        assertEquals(base.plus(Minutes.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Minutes.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Minutes.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Minutes.sum(new int[] {1, 2, -4, 10}), Minutes.of(9));
+        assertEquals(Minutes.min(new int[] {3, -2, 7}), Minutes.of(-2));
+        assertEquals(Minutes.max(new int[] {3, -2, 7}), Minutes.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"PT5M", 5},
+            {"pt5m", 5},
+            {"-PT5M", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Minutes.parse(text), Minutes.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Minutes.parse("xx" + text + "yy", 2, text.length()), Minutes.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Minutes.parse(Minutes.of(-123).toString()), Minutes.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"P5M"},
+            {"PT5S"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Minutes.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Minutes test5 = Minutes.of(5);
@@ -320,6 +451,22 @@ public class TestMinutes {
         Minutes.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toSeconds() {
+        assertEquals(Minutes.of(3).toSeconds(), Seconds.of(180));
+        assertEquals(Minutes.of(-3).toSeconds(), Seconds.of(-180));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toSeconds_overflow() {
+        Minutes.of(Integer.MAX_VALUE / 60 + 1).toSeconds();
+    }
+
+    public void test_toDuration() {
+        assertEquals(Minutes.of(3).toDuration(), Duration.ofMinutes(3));
+        assertEquals(Minutes.of(Integer.MAX_VALUE).toDuration(), Duration.ofMinutes(Integer.MAX_VALUE));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Minutes test5 = Minutes.of(5);
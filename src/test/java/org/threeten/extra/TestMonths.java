@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.Period;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,137 @@ public class TestMonths {
         assertSame(Months.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Months orginal = Months.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Months ser = (Months) in.readObject();
+        assertSame(Months.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 1), 1},
+            {LocalDate.of(2012, 3, 1), LocalDate.of(2012, 1, 31), -1},
+            {LocalDate.of(2011, 2, 28), LocalDate.of(2013, 2, 28), 24},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2011, 2, 28), -24},
+            {LocalDate.of(2012, 2, 29), LocalDate.of(2013, 2, 28), 11},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2012, 2, 29), -11},
+            {LocalDate.of(-1, 6, 15), LocalDate.of(2012, 6, 14), 24155},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(-1, 6, 15), -24155},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(2012, 6, 14), 0},
+            {YearMonth.of(2012, 1), YearMonth.of(2014, 7), 30},
+            {YearMonth.of(2014, 7), YearMonth.of(2012, 1), -30},
+            {YearMonth.of(-1, 12), YearMonth.of(1, 1), 13},
+            {YearMonth.of(1, 1), YearMonth.of(-1, 12), -13},
+            {YearMonth.of(2012, 6), YearMonth.of(2012, 6), 0},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Months.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499)},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500)},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0)},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0)},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30)},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0)},
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Months.between(start, end).getAmount(), start.periodUntil(end, MONTHS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 15), LocalDate.of(2012, 6, 15)},
+            {LocalDateTime.of(2012, 1, 15, 10, 30), LocalDateTime.of(2012, 6, 15, 10, 30)},
+            {OffsetDateTime.of(2012, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 6, 15, 10, 30, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Months.of(5).addTo(base), expected);
+        assertEquals(base.plus(Months.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Months.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Months.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Months.sum(new int[] {1, 2, -4, 10}), Months.of(9));
+        assertEquals(Months.min(new int[] {3, -2, 7}), Months.of(-2));
+        assertEquals(Months.max(new int[] {3, -2, 7}), Months.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"P5M", 5},
+            {"p5m", 5},
+            {"-P5M", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Months.parse(text), Months.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Months.parse("xx" + text + "yy", 2, text.length()), Months.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Months.parse(Months.of(-123).toString()), Months.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"PT5M"},
+            {"P5Y"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Months.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Months test5 = Months.of(5);
@@ -320,6 +460,12 @@ public class TestMonths {
         Months.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toPeriod() {
+        assertEquals(Months.of(5).toPeriod(), Period.ofMonths(5));
+        assertEquals(Months.of(-5).toPeriod(), Period.ofMonths(-5));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Months test5 = Months.of(5);
@@ -46,6 +46,13 @@ import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.IsoFields;
@@ -120,6 +127,21 @@ public class TestQuarterOfYear {
         assertEquals(QuarterOfYear.from(LocalDateTime.of(2012, 2, 3, 12, 30)), QuarterOfYear.Q1);
     }
 
+    @Test(groups={"tck"})
+    public void test_from_TemporalAccessor_fastPaths() {
+        LocalDate date = LocalDate.of(2011, 1, 1);
+        while (date.getYear() == 2011) {
+            QuarterOfYear expected = QuarterOfYear.of(date.get(IsoFields.QUARTER_OF_YEAR));
+            LocalDateTime dateTime = date.atTime(23, 59);
+            assertSame(QuarterOfYear.from(date), expected);
+            assertSame(QuarterOfYear.from(dateTime), expected);
+            assertSame(QuarterOfYear.from(ZonedDateTime.of(dateTime, ZoneId.of("Europe/Paris"))), expected);
+            assertSame(QuarterOfYear.from(OffsetDateTime.of(dateTime, ZoneOffset.ofHours(-5))), expected);
+            assertSame(QuarterOfYear.from(YearMonth.from(date)), expected);
+            date = date.plusDays(1);
+        }
+    }
+
     @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
     public void test_from_TemporalAccessor_invalid_noDerive() {
         QuarterOfYear.from(LocalTime.of(12, 30));
@@ -148,6 +170,24 @@ public class TestQuarterOfYear {
         QuarterOfYear.Q1.getDisplayName(TextStyle.FULL, null);
     }
 
+    @Test(groups={"tck"})
+    public void test_getDisplayName_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(IsoFields.QUARTER_OF_YEAR, style).toFormatter(locale);
+                for (QuarterOfYear value : QuarterOfYear.values()) {
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_getDisplayName_cached() {
+        String first = QuarterOfYear.values()[0].getDisplayName(TextStyle.FULL, Locale.UK);
+        assertSame(QuarterOfYear.values()[0].getDisplayName(TextStyle.FULL, Locale.UK), first);
+    }
+
     //-----------------------------------------------------------------------
     // get(TemporalField)
     //-----------------------------------------------------------------------
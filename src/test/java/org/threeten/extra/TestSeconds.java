@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,128 @@ public class TestSeconds {
         assertSame(Seconds.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Seconds orginal = Seconds.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Seconds ser = (Seconds) in.readObject();
+        assertSame(Seconds.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), 5443198},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), -5443198},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0), 63158400},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0), -63158400},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30), 31631400},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0), -31631400},
+            {Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), 1818000},
+            {Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), Instant.ofEpochSecond(0, 500), -1818000},
+            {Instant.ofEpochSecond(-86400 * 100, 0), Instant.ofEpochSecond(86400 * 100, 1), 17280000},
+            {Instant.ofEpochSecond(86400 * 100, 1), Instant.ofEpochSecond(-86400 * 100, 0), -17280000},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Seconds.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Seconds.between(start, end).getAmount(), start.periodUntil(end, SECONDS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalTime.of(23, 59, 58), LocalTime.of(0, 0, 3)},
+            {LocalDateTime.of(2012, 2, 28, 23, 59, 58), LocalDateTime.of(2012, 2, 29, 0, 0, 3)},
+            {OffsetDateTime.of(2012, 2, 28, 23, 59, 58, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 2, 29, 0, 0, 3, 0, ZoneOffset.UTC)},
+            {Instant.ofEpochSecond(1000), Instant.ofEpochSecond(1000 + 5)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Seconds.of(5).addTo(base), expected);
+        assertEquals(base.plus(Seconds.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Seconds.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Seconds.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Seconds.sum(new int[] {1, 2, -4, 10}), Seconds.of(9));
+        assertEquals(Seconds.min(new int[] {3, -2, 7}), Seconds.of(-2));
+        assertEquals(Seconds.max(new int[] {3, -2, 7}), Seconds.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"PT5S", 5},
+            {"pt5s", 5},
+            {"-PT5S", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Seconds.parse(text), Seconds.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Seconds.parse("xx" + text + "yy", 2, text.length()), Seconds.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Seconds.parse(Seconds.of(-123).toString()), Seconds.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"P5S"},
+            {"PT5H"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Seconds.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Seconds test5 = Seconds.of(5);
@@ -320,6 +451,12 @@ public class TestSeconds {
         Seconds.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toDuration() {
+        assertEquals(Seconds.of(3).toDuration(), Duration.ofSeconds(3));
+        assertEquals(Seconds.of(-3).toDuration(), Duration.ofSeconds(-3));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Seconds test5 = Seconds.of(5);
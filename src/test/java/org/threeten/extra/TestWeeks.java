@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.Period;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,136 @@ public class TestWeeks {
         assertSame(Weeks.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Weeks orginal = Weeks.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Weeks ser = (Weeks) in.readObject();
+        assertSame(Weeks.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 1), 4},
+            {LocalDate.of(2012, 3, 1), LocalDate.of(2012, 1, 31), -4},
+            {LocalDate.of(2011, 2, 28), LocalDate.of(2013, 2, 28), 104},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2011, 2, 28), -104},
+            {LocalDate.of(2012, 2, 29), LocalDate.of(2013, 2, 28), 52},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2012, 2, 29), -52},
+            {LocalDate.of(-1, 6, 15), LocalDate.of(2012, 6, 14), 105033},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(-1, 6, 15), -105033},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(2012, 6, 14), 0},
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), 8},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), -8},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0), 104},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0), -104},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30), 52},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0), -52},
+            {Instant.ofEpochSecond(0, 500), Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), 3},
+            {Instant.ofEpochSecond(7 * 86400 * 3 + 3601, 499), Instant.ofEpochSecond(0, 500), -3},
+            {Instant.ofEpochSecond(-86400 * 100, 0), Instant.ofEpochSecond(86400 * 100, 1), 28},
+            {Instant.ofEpochSecond(86400 * 100, 1), Instant.ofEpochSecond(-86400 * 100, 0), -28},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Weeks.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Weeks.between(start, end).getAmount(), start.periodUntil(end, WEEKS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalDate.of(2012, 2, 28), LocalDate.of(2012, 4, 3)},
+            {LocalDateTime.of(2012, 2, 28, 10, 30), LocalDateTime.of(2012, 4, 3, 10, 30)},
+            {OffsetDateTime.of(2012, 2, 28, 10, 30, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 4, 3, 10, 30, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Weeks.of(5).addTo(base), expected);
+        assertEquals(base.plus(Weeks.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Weeks.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Weeks.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Weeks.sum(new int[] {1, 2, -4, 10}), Weeks.of(9));
+        assertEquals(Weeks.min(new int[] {3, -2, 7}), Weeks.of(-2));
+        assertEquals(Weeks.max(new int[] {3, -2, 7}), Weeks.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"P5W", 5},
+            {"p5w", 5},
+            {"-P5W", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Weeks.parse(text), Weeks.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Weeks.parse("xx" + text + "yy", 2, text.length()), Weeks.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Weeks.parse(Weeks.of(-123).toString()), Weeks.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"PT5W"},
+            {"P5D"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Weeks.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Weeks test5 = Weeks.of(5);
@@ -320,6 +459,28 @@ public class TestWeeks {
         Weeks.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toDays() {
+        assertEquals(Weeks.of(3).toDays(), Days.of(21));
+        assertEquals(Weeks.of(-3).toDays(), Days.of(-21));
+        assertEquals(Weeks.of(Integer.MAX_VALUE / 7).toDays(), Days.of(Integer.MAX_VALUE / 7 * 7));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toDays_overflow() {
+        Weeks.of(Integer.MAX_VALUE / 7 + 1).toDays();
+    }
+
+    public void test_toPeriod() {
+        assertEquals(Weeks.of(3).toPeriod(), Period.ofDays(21));
+        assertEquals(Weeks.of(-3).toPeriod(), Period.ofDays(-21));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toPeriod_overflow() {
+        Weeks.of(Integer.MIN_VALUE / 7 - 1).toPeriod();
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Weeks test5 = Weeks.of(5);
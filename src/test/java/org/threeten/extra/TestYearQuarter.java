@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.ERA;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_OF_YEAR;
+import static org.threeten.bp.temporal.IsoFields.QUARTER_YEARS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalQueries;
+
+/**
+ * Test YearQuarter.
+ */
+@Test
+public class TestYearQuarter {
+
+    //-----------------------------------------------------------------------
+    public void test_interfaces() {
+        assertTrue(Serializable.class.isAssignableFrom(YearQuarter.class));
+        assertTrue(Comparable.class.isAssignableFrom(YearQuarter.class));
+        assertTrue(TemporalAccessor.class.isAssignableFrom(YearQuarter.class));
+        assertTrue(TemporalAdjuster.class.isAssignableFrom(YearQuarter.class));
+    }
+
+    public void test_serialization() throws IOException, ClassNotFoundException {
+        assertSerialization(YearQuarter.of(2012, 2), true);
+        assertSerialization(YearQuarter.of(-5, 4), false);
+    }
+
+    private void assertSerialization(YearQuarter test, boolean cached) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(
+                baos.toByteArray()));
+        Object result = ois.readObject();
+        assertEquals(result, test);
+        assertEquals(result == test, cached);
+    }
+
+    public void test_immutable() {
+        Class<YearQuarter> cls = YearQuarter.class;
+        assertTrue(Modifier.isPublic(cls.getModifiers()));
+        assertTrue(Modifier.isFinal(cls.getModifiers()));
+        Field[] fields = cls.getDeclaredFields();
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            } else {
+                assertTrue(Modifier.isPrivate(field.getModifiers()), "Field:" + field.getName());
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        for (int year = -2000; year <= 3000; year += 7) {
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                assertEquals(test.getYear(), year);
+                assertEquals(test.getQuarterValue(), quarter);
+                assertEquals(test.getQuarter(), QuarterOfYear.of(quarter));
+                assertEquals(YearQuarter.of(year, QuarterOfYear.of(quarter)), test);
+            }
+        }
+    }
+
+    public void test_of_limits() {
+        YearQuarter min = YearQuarter.of(-536870912, 1);
+        assertEquals(min.getYear(), -536870912);
+        assertEquals(min.getQuarterValue(), 1);
+        YearQuarter max = YearQuarter.of(536870911, 4);
+        assertEquals(max.getYear(), 536870911);
+        assertEquals(max.getQuarterValue(), 4);
+    }
+
+    public void test_of_cached() {
+        assertSame(YearQuarter.of(1900, 1), YearQuarter.of(1900, 1));
+        assertSame(YearQuarter.of(2024, 3), YearQuarter.of(2024, QuarterOfYear.Q3));
+        assertSame(YearQuarter.of(2100, 4), YearQuarter.of(2100, 4));
+        assertEquals(YearQuarter.of(2101, 1), YearQuarter.of(2101, 1));
+    }
+
+    @DataProvider(name="badOf")
+    Object[][] data_badOf() {
+        return new Object[][] {
+            {2012, 0},
+            {2012, 5},
+            {-536870913, 1},
+            {536870912, 1},
+        };
+    }
+
+    @Test(dataProvider="badOf", expectedExceptions=DateTimeException.class)
+    public void test_of_bad(int year, int quarter) {
+        YearQuarter.of(year, quarter);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_nullQuarter() {
+        YearQuarter.of(2012, (QuarterOfYear) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // from(TemporalAccessor)
+    //-----------------------------------------------------------------------
+    public void test_from_LocalDate() {
+        LocalDate date = LocalDate.of(2011, 12, 1);
+        LocalDate end = LocalDate.of(2013, 2, 1);
+        while (date.isBefore(end)) {
+            YearQuarter test = YearQuarter.from(date);
+            assertEquals(test.getYear(), date.getYear());
+            assertEquals(test.getQuarterValue(), date.get(QUARTER_OF_YEAR));
+            assertEquals(YearQuarter.from(date.atTime(12, 30)), test);
+            assertEquals(YearQuarter.from(ZonedDateTime.of(date.atTime(12, 30), ZoneOffset.UTC)), test);
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_from_YearQuarter() {
+        YearQuarter test = YearQuarter.of(1600, 2);
+        assertSame(YearQuarter.from(test), test);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_from_noDerive() {
+        YearQuarter.from(LocalTime.NOON);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_from_null() {
+        YearQuarter.from((TemporalAccessor) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // isSupported(), range(), get()
+    //-----------------------------------------------------------------------
+    public void test_isSupported() {
+        YearQuarter test = YearQuarter.of(2012, 2);
+        assertTrue(test.isSupported(QUARTER_OF_YEAR));
+        assertTrue(test.isSupported(YEAR));
+        assertTrue(test.isSupported(YEAR_OF_ERA));
+        assertTrue(test.isSupported(ERA));
+        assertFalse(test.isSupported(MONTH_OF_YEAR));
+        assertFalse(test.isSupported(null));
+    }
+
+    public void test_get() {
+        YearQuarter test = YearQuarter.of(2012, 2);
+        assertEquals(test.get(QUARTER_OF_YEAR), 2);
+        assertEquals(test.get(YEAR), 2012);
+        assertEquals(test.get(YEAR_OF_ERA), 2012);
+        assertEquals(test.get(ERA), 1);
+        YearQuarter bce = YearQuarter.of(-4, 3);
+        assertEquals(bce.getLong(YEAR), -4);
+        assertEquals(bce.getLong(YEAR_OF_ERA), 5);
+        assertEquals(bce.getLong(ERA), 0);
+        assertEquals(test.range(QUARTER_OF_YEAR), QUARTER_OF_YEAR.range());
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_get_unsupported() {
+        YearQuarter.of(2012, 2).getLong(MONTH_OF_YEAR);
+    }
+
+    //-----------------------------------------------------------------------
+    // lengthInDays(), atDay(), atEndOfQuarter()
+    //-----------------------------------------------------------------------
+    public void test_lengthInDays() {
+        assertEquals(YearQuarter.of(2011, 1).lengthInDays(), 90);
+        assertEquals(YearQuarter.of(2012, 1).lengthInDays(), 91);
+        assertEquals(YearQuarter.of(1900, 1).lengthInDays(), 90);
+        assertEquals(YearQuarter.of(2000, 1).lengthInDays(), 91);
+        assertEquals(YearQuarter.of(2012, 2).lengthInDays(), 91);
+        assertEquals(YearQuarter.of(2012, 3).lengthInDays(), 92);
+        assertEquals(YearQuarter.of(2012, 4).lengthInDays(), 92);
+    }
+
+    public void test_atDay() {
+        for (int year = 2011; year <= 2012; year++) {
+            LocalDate date = LocalDate.of(year, 1, 1);
+            for (int quarter = 1; quarter <= 4; quarter++) {
+                YearQuarter test = YearQuarter.of(year, quarter);
+                for (int day = 1; day <= test.lengthInDays(); day++) {
+                    assertEquals(test.atDay(day), date);
+                    date = date.plusDays(1);
+                }
+                assertEquals(test.atEndOfQuarter(), date.minusDays(1));
+            }
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_atDay_tooLow() {
+        YearQuarter.of(2012, 1).atDay(0);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_atDay_tooHigh() {
+        YearQuarter.of(2011, 1).atDay(91);
+    }
+
+    //-----------------------------------------------------------------------
+    // plusQuarters(), minusQuarters(), plusYears(), quartersUntil()
+    //-----------------------------------------------------------------------
+    public void test_plusQuarters() {
+        YearQuarter base = YearQuarter.of(2012, 3);
+        assertSame(base.plusQuarters(0), base);
+        assertEquals(base.plusQuarters(1), YearQuarter.of(2012, 4));
+        assertEquals(base.plusQuarters(2), YearQuarter.of(2013, 1));
+        assertEquals(base.plusQuarters(-3), YearQuarter.of(2011, 4));
+        assertEquals(base.plusQuarters(-8047), YearQuarter.of(0, 4));
+        assertEquals(base.plusQuarters(-8052), YearQuarter.of(-1, 3));
+        assertEquals(base.minusQuarters(3), YearQuarter.of(2011, 4));
+        assertEquals(base.plusYears(-3), YearQuarter.of(2009, 3));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_plusQuarters_overflow() {
+        YearQuarter.of(536870911, 4).plusQuarters(1);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_plusQuarters_hugeOverflow() {
+        YearQuarter.of(2012, 1).plusQuarters(Long.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_minusQuarters_overflow() {
+        YearQuarter.of(-536870912, 1).minusQuarters(1);
+    }
+
+    public void test_quartersUntil() {
+        YearQuarter base = YearQuarter.of(2012, 3);
+        assertEquals(base.quartersUntil(base), 0);
+        assertEquals(base.quartersUntil(YearQuarter.of(2013, 1)), 2);
+        assertEquals(base.quartersUntil(YearQuarter.of(2011, 4)), -3);
+        assertEquals(YearQuarter.of(-536870912, 1).quartersUntil(YearQuarter.of(536870911, 4)), 4294967295L);
+        for (int i = -20; i <= 20; i++) {
+            assertEquals(base.quartersUntil(base.plusQuarters(i)), i);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // query(), adjustInto()
+    //-----------------------------------------------------------------------
+    public void test_query() {
+        YearQuarter test = YearQuarter.of(2012, 2);
+        assertEquals(test.query(TemporalQueries.chronology()), IsoChronology.INSTANCE);
+        assertEquals(test.query(TemporalQueries.precision()), QUARTER_YEARS);
+        assertNull(test.query(TemporalQueries.zoneId()));
+        assertNull(test.query(TemporalQueries.zone()));
+        assertNull(test.query(TemporalQueries.offset()));
+        assertNull(test.query(TemporalQueries.localDate()));
+        assertNull(test.query(TemporalQueries.localTime()));
+        assertSame(test.query(YearQuarterFromQuery.INSTANCE), test);
+    }
+
+    public void test_adjustInto() {
+        assertEquals(LocalDate.of(2010, 1, 15).with(YearQuarter.of(2012, 3)), LocalDate.of(2012, 7, 15));
+        assertEquals(LocalDate.of(2010, 5, 31).with(YearQuarter.of(2012, 4)), LocalDate.of(2012, 11, 30));
+        assertEquals(LocalDate.of(2010, 12, 31).with(YearQuarter.of(-3, 1)), LocalDate.of(-3, 3, 31));
+        assertEquals(LocalDateTime.of(2010, 8, 31, 12, 0).with(YearQuarter.of(2012, 1)), LocalDateTime.of(2012, 2, 29, 12, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo(), isBefore(), isAfter(), equals(), hashCode()
+    //-----------------------------------------------------------------------
+    public void test_compareTo() {
+        YearQuarter[] values = {
+            YearQuarter.of(-536870912, 1), YearQuarter.of(-1, 4), YearQuarter.of(0, 1),
+            YearQuarter.of(2011, 4), YearQuarter.of(2012, 1), YearQuarter.of(2012, 2),
+            YearQuarter.of(3000, 1), YearQuarter.of(536870911, 4),
+        };
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(Integer.signum(values[i].compareTo(values[j])), Integer.signum(Integer.compare(i, j)));
+                assertEquals(values[i].isBefore(values[j]), i < j);
+                assertEquals(values[i].isAfter(values[j]), i > j);
+                assertEquals(values[i].equals(values[j]), i == j);
+            }
+        }
+    }
+
+    public void test_equals_hashCode() {
+        YearQuarter a = YearQuarter.of(3000, 2);
+        YearQuarter b = YearQuarter.of(3000, 2);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(null));
+        assertFalse(a.equals("3000-Q2"));
+    }
+
+    //-----------------------------------------------------------------------
+    // toString()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="toString")
+    Object[][] data_toString() {
+        return new Object[][] {
+            {YearQuarter.of(2012, 2), "2012-Q2"},
+            {YearQuarter.of(12, 4), "0012-Q4"},
+            {YearQuarter.of(0, 1), "0000-Q1"},
+            {YearQuarter.of(-12, 3), "-0012-Q3"},
+            {YearQuarter.of(9999, 4), "9999-Q4"},
+            {YearQuarter.of(10000, 1), "+10000-Q1"},
+            {YearQuarter.of(123456, 1), "+123456-Q1"},
+            {YearQuarter.of(-123456, 1), "-123456-Q1"},
+        };
+    }
+
+    @Test(dataProvider="toString")
+    public void test_toString(YearQuarter test, String expected) {
+        assertEquals(test.toString(), expected);
+    }
+
+    @Test(dataProvider="toString")
+    public void test_toString_matchesFormatter(YearQuarter test, String expected) {
+        assertEquals(ExtraFormatters.yearQuarter().format(test), expected);
+        assertEquals(YearQuarter.from(ExtraFormatters.yearQuarter().parse(expected)), test);
+    }
+
+    //-----------------------------------------------------------------------
+    static final class YearQuarterFromQuery implements org.threeten.bp.temporal.TemporalQuery<YearQuarter> {
+        static final YearQuarterFromQuery INSTANCE = new YearQuarterFromQuery();
+        @Override
+        public YearQuarter queryFrom(TemporalAccessor temporal) {
+            return YearQuarter.from(temporal);
+        }
+    }
+
+}
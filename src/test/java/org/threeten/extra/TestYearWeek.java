@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.IsoFields.WEEK_BASED_YEAR;
+import static org.threeten.bp.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalQueries;
+
+/**
+ * Test YearWeek.
+ */
+@Test
+public class TestYearWeek {
+
+    //-----------------------------------------------------------------------
+    public void test_interfaces() {
+        assertTrue(Serializable.class.isAssignableFrom(YearWeek.class));
+        assertTrue(Comparable.class.isAssignableFrom(YearWeek.class));
+        assertTrue(TemporalAccessor.class.isAssignableFrom(YearWeek.class));
+        assertTrue(TemporalAdjuster.class.isAssignableFrom(YearWeek.class));
+    }
+
+    public void test_serialization() throws IOException, ClassNotFoundException {
+        YearWeek test = YearWeek.of(2015, 53);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(test);
+        oos.close();
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(
+                baos.toByteArray()));
+        assertEquals(ois.readObject(), test);
+    }
+
+    public void test_immutable() {
+        Class<YearWeek> cls = YearWeek.class;
+        assertTrue(Modifier.isPublic(cls.getModifiers()));
+        assertTrue(Modifier.isFinal(cls.getModifiers()));
+        Field[] fields = cls.getDeclaredFields();
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            } else {
+                assertTrue(Modifier.isPrivate(field.getModifiers()), "Field:" + field.getName());
+                assertTrue(Modifier.isFinal(field.getModifiers()), "Field:" + field.getName());
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        YearWeek test = YearWeek.of(2012, 5);
+        assertEquals(test.getYear(), 2012);
+        assertEquals(test.getWeek(), 5);
+    }
+
+    public void test_of_limits() {
+        assertEquals(YearWeek.of(-33554432, 1).getYear(), -33554432);
+        assertEquals(YearWeek.of(33554431, 52).getYear(), 33554431);
+    }
+
+    public void test_is53WeekYear() {
+        for (int year = -500; year <= 2500; year++) {
+            LocalDate endOfYear = LocalDate.of(year, 12, 28);
+            boolean expected = endOfYear.get(WEEK_OF_WEEK_BASED_YEAR) == 53;
+            assertEquals(YearWeek.of(year, 1).is53WeekYear(), expected, "Year: " + year);
+        }
+    }
+
+    @DataProvider(name="badOf")
+    Object[][] data_badOf() {
+        return new Object[][] {
+            {2012, 0},
+            {2012, 53},
+            {2015, 54},
+            {-33554433, 1},
+            {33554432, 1},
+        };
+    }
+
+    @Test(dataProvider="badOf", expectedExceptions=DateTimeException.class)
+    public void test_of_bad(int year, int week) {
+        YearWeek.of(year, week);
+    }
+
+    //-----------------------------------------------------------------------
+    // from()
+    //-----------------------------------------------------------------------
+    public void test_from_LocalDate_matchesIsoFields() {
+        LocalDate date = LocalDate.of(1995, 12, 1);
+        LocalDate end = LocalDate.of(2030, 2, 1);
+        while (date.isBefore(end)) {
+            YearWeek test = YearWeek.from(date);
+            assertEquals(test.getYear(), date.get(WEEK_BASED_YEAR), date.toString());
+            assertEquals(test.getWeek(), date.get(WEEK_OF_WEEK_BASED_YEAR), date.toString());
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_from_LocalDate_negativeYears() {
+        LocalDate date = LocalDate.of(-402, 12, 1);
+        LocalDate end = LocalDate.of(-398, 2, 1);
+        while (date.isBefore(end)) {
+            YearWeek test = YearWeek.from(date);
+            assertEquals(test.getYear(), date.get(WEEK_BASED_YEAR), date.toString());
+            assertEquals(test.getWeek(), date.get(WEEK_OF_WEEK_BASED_YEAR), date.toString());
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_from_TemporalAccessor() {
+        LocalDate date = LocalDate.of(2010, 1, 3);
+        YearWeek expected = YearWeek.of(2009, 53);
+        assertEquals(YearWeek.from((TemporalAccessor) date), expected);
+        assertEquals(YearWeek.from(LocalDateTime.of(date, LocalTime.NOON)), expected);
+        assertEquals(YearWeek.from(ZonedDateTime.of(LocalDateTime.of(date, LocalTime.NOON), ZoneOffset.UTC)), expected);
+        assertSame(YearWeek.from(expected), expected);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_from_noDerive() {
+        YearWeek.from(LocalTime.NOON);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_from_null() {
+        YearWeek.from((TemporalAccessor) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // get(), range()
+    //-----------------------------------------------------------------------
+    public void test_get() {
+        YearWeek test = YearWeek.of(2015, 53);
+        assertTrue(test.isSupported(WEEK_BASED_YEAR));
+        assertTrue(test.isSupported(WEEK_OF_WEEK_BASED_YEAR));
+        assertFalse(test.isSupported(YEAR));
+        assertFalse(test.isSupported(null));
+        assertEquals(test.get(WEEK_BASED_YEAR), 2015);
+        assertEquals(test.get(WEEK_OF_WEEK_BASED_YEAR), 53);
+        assertEquals(test.range(WEEK_OF_WEEK_BASED_YEAR).getMaximum(), 53);
+        assertEquals(YearWeek.of(2014, 1).range(WEEK_OF_WEEK_BASED_YEAR).getMaximum(), 52);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_get_unsupported() {
+        YearWeek.of(2012, 5).getLong(YEAR);
+    }
+
+    //-----------------------------------------------------------------------
+    // atDay()
+    //-----------------------------------------------------------------------
+    public void test_atDay() {
+        LocalDate date = LocalDate.of(2008, 12, 29);
+        LocalDate end = LocalDate.of(2016, 1, 10);
+        while (date.isBefore(end) || date.equals(end)) {
+            YearWeek week = YearWeek.from(date);
+            assertEquals(week.atDay(date.getDayOfWeek()), date);
+            date = date.plusDays(1);
+        }
+        assertEquals(YearWeek.of(2009, 1).atDay(DayOfWeek.MONDAY), LocalDate.of(2008, 12, 29));
+        assertEquals(YearWeek.of(2009, 53).atDay(DayOfWeek.SUNDAY), LocalDate.of(2010, 1, 3));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_atDay_null() {
+        YearWeek.of(2012, 5).atDay(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // plusWeeks(), minusWeeks(), weeksUntil()
+    //-----------------------------------------------------------------------
+    public void test_plusWeeks() {
+        LocalDate base = LocalDate.of(2012, 6, 13);
+        YearWeek test = YearWeek.from(base);
+        assertSame(test.plusWeeks(0), test);
+        for (int i = -600; i <= 600; i += 7) {
+            YearWeek expected = YearWeek.from(base.plusWeeks(i));
+            assertEquals(test.plusWeeks(i), expected, "Weeks: " + i);
+            assertEquals(test.minusWeeks(-i), expected, "Weeks: " + i);
+            assertEquals(test.weeksUntil(expected), i, "Weeks: " + i);
+            assertEquals(expected.weeksUntil(test), -i, "Weeks: " + i);
+        }
+        assertEquals(YearWeek.of(2015, 52).plusWeeks(1), YearWeek.of(2015, 53));
+        assertEquals(YearWeek.of(2015, 53).plusWeeks(1), YearWeek.of(2016, 1));
+        assertEquals(YearWeek.of(2014, 52).plusWeeks(1), YearWeek.of(2015, 1));
+        assertEquals(YearWeek.of(2016, 1).minusWeeks(1), YearWeek.of(2015, 53));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_plusWeeks_overflow() {
+        YearWeek.of(33554431, 52).plusWeeks(1);
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void test_plusWeeks_hugeOverflow() {
+        YearWeek.of(2012, 5).plusWeeks(Long.MAX_VALUE);
+    }
+
+    //-----------------------------------------------------------------------
+    // query(), adjustInto()
+    //-----------------------------------------------------------------------
+    public void test_query() {
+        YearWeek test = YearWeek.of(2012, 5);
+        assertEquals(test.query(TemporalQueries.chronology()), IsoChronology.INSTANCE);
+        assertEquals(test.query(TemporalQueries.precision()), WEEKS);
+        assertNull(test.query(TemporalQueries.zoneId()));
+        assertNull(test.query(TemporalQueries.zone()));
+        assertNull(test.query(TemporalQueries.localDate()));
+    }
+
+    public void test_adjustInto() {
+        assertEquals(LocalDate.of(2012, 6, 13).with(YearWeek.of(2009, 53)), LocalDate.of(2009, 12, 30));
+        assertEquals(LocalDateTime.of(2012, 6, 17, 10, 0).with(YearWeek.of(2009, 1)), LocalDateTime.of(2009, 1, 4, 10, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo(), equals(), hashCode(), toString()
+    //-----------------------------------------------------------------------
+    public void test_compareTo() {
+        YearWeek[] values = {
+            YearWeek.of(-33554432, 1), YearWeek.of(-1, 52), YearWeek.of(0, 1),
+            YearWeek.of(2009, 1), YearWeek.of(2009, 53), YearWeek.of(2010, 1),
+            YearWeek.of(33554431, 52),
+        };
+        YearWeek[] sorted = values.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted, values);
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(Integer.signum(values[i].compareTo(values[j])), Integer.signum(Integer.compare(i, j)));
+                assertEquals(values[i].isBefore(values[j]), i < j);
+                assertEquals(values[i].isAfter(values[j]), i > j);
+                assertEquals(values[i].equals(values[j]), i == j);
+            }
+        }
+    }
+
+    public void test_equals_hashCode() {
+        assertEquals(YearWeek.of(2012, 5), YearWeek.of(2012, 5));
+        assertEquals(YearWeek.of(2012, 5).hashCode(), YearWeek.of(2012, 5).hashCode());
+        assertFalse(YearWeek.of(2012, 5).equals(null));
+        assertFalse(YearWeek.of(2012, 5).equals("2012-W05"));
+    }
+
+    @DataProvider(name="toString")
+    Object[][] data_toString() {
+        return new Object[][] {
+            {YearWeek.of(2012, 5), "2012-W05"},
+            {YearWeek.of(2015, 53), "2015-W53"},
+            {YearWeek.of(12, 10), "0012-W10"},
+            {YearWeek.of(-12, 1), "-0012-W01"},
+            {YearWeek.of(9999, 52), "9999-W52"},
+            {YearWeek.of(10000, 1), "+10000-W01"},
+            {YearWeek.of(123456, 1), "+123456-W01"},
+            {YearWeek.of(-123456, 1), "-123456-W01"},
+        };
+    }
+
+    @Test(dataProvider="toString")
+    public void test_toString(YearWeek test, String expected) {
+        assertEquals(test.toString(), expected);
+    }
+
+}
@@ -43,7 +43,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.Period;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalUnit;
 
 /**
@@ -87,6 +96,137 @@ public class TestYears {
         assertSame(Years.ZERO, ser);
     }
 
+    public void test_deserializationCached() throws Exception {
+        Years orginal = Years.of(5);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        Years ser = (Years) in.readObject();
+        assertSame(Years.of(5), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // between()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="between")
+    Object[][] data_between() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 31), LocalDate.of(2012, 3, 1), 0},
+            {LocalDate.of(2012, 3, 1), LocalDate.of(2012, 1, 31), 0},
+            {LocalDate.of(2011, 2, 28), LocalDate.of(2013, 2, 28), 2},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2011, 2, 28), -2},
+            {LocalDate.of(2012, 2, 29), LocalDate.of(2013, 2, 28), 0},
+            {LocalDate.of(2013, 2, 28), LocalDate.of(2012, 2, 29), 0},
+            {LocalDate.of(-1, 6, 15), LocalDate.of(2012, 6, 14), 2012},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(-1, 6, 15), -2012},
+            {LocalDate.of(2012, 6, 14), LocalDate.of(2012, 6, 14), 0},
+            {YearMonth.of(2012, 1), YearMonth.of(2014, 7), 2},
+            {YearMonth.of(2014, 7), YearMonth.of(2012, 1), -2},
+            {YearMonth.of(-1, 12), YearMonth.of(1, 1), 1},
+            {YearMonth.of(1, 1), YearMonth.of(-1, 12), -1},
+            {YearMonth.of(2012, 6), YearMonth.of(2012, 6), 0},
+        };
+    }
+
+    @Test(dataProvider="between")
+    public void test_between(Temporal start, Temporal end, int expected) {
+        assertEquals(Years.between(start, end).getAmount(), expected);
+    }
+
+    @DataProvider(name="betweenPeriodUntil")
+    Object[][] data_betweenPeriodUntil() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500), LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499)},
+            {LocalDateTime.of(2012, 3, 4, 9, 59, 59, 499), LocalDateTime.of(2012, 1, 1, 10, 0, 0, 500)},
+            {LocalDateTime.of(2012, 1, 1, 10, 0), LocalDateTime.of(2014, 1, 1, 10, 0)},
+            {LocalDateTime.of(2014, 1, 1, 10, 0), LocalDateTime.of(2012, 1, 1, 10, 0)},
+            {LocalDateTime.of(-1, 12, 31, 23, 0), LocalDateTime.of(1, 1, 1, 1, 30)},
+            {LocalDateTime.of(1, 1, 1, 1, 30), LocalDateTime.of(-1, 12, 31, 23, 0)},
+            {OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC)},
+            {OffsetDateTime.of(2014, 3, 3, 9, 0, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2012, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="betweenPeriodUntil")
+    public void test_between_periodUntil(Temporal start, Temporal end) {
+        assertEquals(Years.between(start, end).getAmount(), start.periodUntil(end, YEARS));
+    }
+
+    //-----------------------------------------------------------------------
+    // TemporalAmount
+    //-----------------------------------------------------------------------
+    @DataProvider(name="addTo")
+    Object[][] data_addTo() {
+        return new Object[][] {
+            {LocalDate.of(2012, 2, 15), LocalDate.of(2017, 2, 15)},
+            {LocalDateTime.of(2012, 2, 15, 10, 30), LocalDateTime.of(2017, 2, 15, 10, 30)},
+            {OffsetDateTime.of(2012, 2, 15, 10, 30, 0, 0, ZoneOffset.UTC), OffsetDateTime.of(2017, 2, 15, 10, 30, 0, 0, ZoneOffset.UTC)},
+        };
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_addTo(Temporal base, Temporal expected) {
+        assertEquals(Years.of(5).addTo(base), expected);
+        assertEquals(base.plus(Years.of(5)), expected);
+    }
+
+    @Test(dataProvider="addTo")
+    public void test_subtractFrom(Temporal expected, Temporal base) {
+        assertEquals(Years.of(5).subtractFrom(base), expected);
+        assertEquals(base.minus(Years.of(5)), expected);
+    }
+
+    //-----------------------------------------------------------------------
+    // sum() / min() / max()
+    //-----------------------------------------------------------------------
+    public void test_sumMinMax() {
+        assertEquals(Years.sum(new int[] {1, 2, -4, 10}), Years.of(9));
+        assertEquals(Years.min(new int[] {3, -2, 7}), Years.of(-2));
+        assertEquals(Years.max(new int[] {3, -2, 7}), Years.of(7));
+    }
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parseValid")
+    Object[][] data_parseValid() {
+        return new Object[][] {
+            {"P5Y", 5},
+            {"p5y", 5},
+            {"-P5Y", -5},
+        };
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequence_valid(String text, int expected) {
+        assertEquals(Years.parse(text), Years.of(expected));
+    }
+
+    @Test(dataProvider="parseValid")
+    public void test_parse_CharSequenceOffsetLength_valid(String text, int expected) {
+        assertEquals(Years.parse("xx" + text + "yy", 2, text.length()), Years.of(expected));
+    }
+
+    public void test_parse_toString() {
+        assertEquals(Years.parse(Years.of(-123).toString()), Years.of(-123));
+    }
+
+    @DataProvider(name="parseInvalid")
+    Object[][] data_parseInvalid() {
+        return new Object[][] {
+            {"PT5Y"},
+            {"P5M"},
+        };
+    }
+
+    @Test(dataProvider="parseInvalid", expectedExceptions = {DateTimeParseException.class})
+    public void test_parse_CharSequence_invalid(String text) {
+        Years.parse(text);
+    }
+
     //-----------------------------------------------------------------------
     public void test_compareTo() {
         Years test5 = Years.of(5);
@@ -320,6 +460,22 @@ public class TestYears {
         Years.of(Integer.MIN_VALUE).negated();
     }
 
+    //-----------------------------------------------------------------------
+    public void test_toMonths() {
+        assertEquals(Years.of(3).toMonths(), Months.of(36));
+        assertEquals(Years.of(-3).toMonths(), Months.of(-36));
+    }
+
+    @Test(expectedExceptions = {ArithmeticException.class})
+    public void test_toMonths_overflow() {
+        Years.of(Integer.MAX_VALUE / 12 + 1).toMonths();
+    }
+
+    public void test_toPeriod() {
+        assertEquals(Years.of(5).toPeriod(), Period.ofYears(5));
+        assertEquals(Years.of(-5).toPeriod(), Period.ofYears(-5));
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString() {
         Years test5 = Years.of(5);
@@ -33,6 +33,8 @@ package org.threeten.extra.chrono;
 
 import static org.testng.Assert.assertEquals;
 
+import java.util.Locale;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -42,6 +44,10 @@ import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAdjusters;
 
 /**
@@ -199,4 +205,28 @@ public class TestCopticChrono {
         assertEquals(coptic.toString(), expected);
     }
 
+    //-----------------------------------------------------------------------
+    // CopticEra.getDisplayName()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_era_getDisplayName() {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(ChronoField.ERA, style).toFormatter(Locale.US);
+            for (CopticEra era : CopticEra.values()) {
+                assertEquals(era.getDisplayName(style, Locale.US), formatter.format(era));
+                assertEquals(era.getDisplayName(style, Locale.US), formatter.format(era));
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_era_getDisplayName_nullStyle() {
+        CopticEra.AM.getDisplayName(null, Locale.US);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_era_getDisplayName_nullLocale() {
+        CopticEra.AM.getDisplayName(TextStyle.FULL, null);
+    }
+
 }
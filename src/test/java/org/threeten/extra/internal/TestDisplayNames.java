@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.threeten.bp.temporal.ChronoField.ERA;
+
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.ValueRange;
+import org.threeten.extra.chrono.CopticEra;
+
+/**
+ * Test DisplayNames.
+ */
+@Test
+public class TestDisplayNames {
+
+    /**
+     * An enum with more eras than CopticEra, sharing the ERA field.
+     */
+    static enum ThreeEras implements TemporalAccessor {
+        BEFORE, CURRENT, AFTER;
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return field == ERA;
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            if (field == ERA) {
+                return ordinal();
+            }
+            throw new DateTimeException("Unsupported field: " + field);
+        }
+
+        @Override
+        public int get(TemporalField field) {
+            return (int) getLong(field);
+        }
+
+        @Override
+        public ValueRange range(TemporalField field) {
+            return ValueRange.of(0, 2);
+        }
+
+        @Override
+        public <R> R query(TemporalQuery<R> query) {
+            if (query == TemporalQueries.zoneId() || query == TemporalQueries.chronology() ||
+                    query == TemporalQueries.precision()) {
+                return null;
+            }
+            return query.queryFrom(this);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // displayName()
+    //-----------------------------------------------------------------------
+    public void test_displayName() {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(Locale.UK);
+            for (CopticEra era : CopticEra.values()) {
+                String test = DisplayNames.displayName(era, ERA, style, Locale.UK);
+                assertEquals(test, expected.format(era));
+                assertSame(DisplayNames.displayName(era, ERA, style, Locale.UK), test);
+                assertSame(era.getDisplayName(style, Locale.UK), test);
+            }
+        }
+    }
+
+    public void test_displayName_sameFieldSmallerEnumFirst() {
+        assertDisplayNames(CopticEra.class, Locale.GERMANY);
+        assertDisplayNames(ThreeEras.class, Locale.GERMANY);
+    }
+
+    public void test_displayName_sameFieldLargerEnumFirst() {
+        assertDisplayNames(ThreeEras.class, Locale.ITALY);
+        assertDisplayNames(CopticEra.class, Locale.ITALY);
+    }
+
+    private <E extends Enum<E> & TemporalAccessor> void assertDisplayNames(Class<E> type, Locale locale) {
+        for (TextStyle style : TextStyle.values()) {
+            DateTimeFormatter expected = new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale);
+            for (E value : type.getEnumConstants()) {
+                assertEquals(DisplayNames.displayName(value, ERA, style, locale), expected.format(value));
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_displayName_nullField() {
+        DisplayNames.displayName(ThreeEras.AFTER, null, TextStyle.FULL, Locale.US);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_displayName_nullStyle() {
+        DisplayNames.displayName(ThreeEras.AFTER, ERA, null, Locale.US);
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+/**
+ * Mock rules that delegate to other rules, using the default implementation
+ * of any non-abstract methods.
+ */
+public class MockUTCRulesDelegating extends UTCRules {
+
+    private final UTCRules delegate;
+
+    public MockUTCRulesDelegating(UTCRules delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return "Delegating";
+    }
+
+    @Override
+    public int getLeapSecondAdjustment(long mjDay) {
+        return delegate.getLeapSecondAdjustment(mjDay);
+    }
+
+    @Override
+    public int getTAIOffset(long mjDay) {
+        return delegate.getTAIOffset(mjDay);
+    }
+
+    @Override
+    public long[] getLeapSecondDates() {
+        return delegate.getLeapSecondDates();
+    }
+
+    @Override
+    public UTCInstant convertToUTC(TAIInstant taiInstant) {
+        return delegate.convertToUTC(taiInstant);
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.format.DateTimeParseException;
+
+/**
+ * Test TTInstant.
+ */
+@Test
+public class TestTTInstant {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_interfaces() {
+        assertTrue(Serializable.class.isAssignableFrom(TTInstant.class));
+        assertTrue(Comparable.class.isAssignableFrom(TTInstant.class));
+    }
+
+    public void test_deserialization() throws Exception {
+        TTInstant orginal = TTInstant.ofTTSeconds(2, 3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(orginal);
+        out.close();
+        ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+        ObjectInputStream in = new ObjectInputStream(bais);
+        TTInstant ser = (TTInstant) in.readObject();
+        assertEquals(TTInstant.ofTTSeconds(2, 3), ser);
+    }
+
+    //-----------------------------------------------------------------------
+    // ofTTSeconds(long,long)
+    //-----------------------------------------------------------------------
+    public void factory_ofTTSeconds_long_long() {
+        for (long i = -2; i <= 2; i++) {
+            for (int j = 0; j < 10; j++) {
+                TTInstant t = TTInstant.ofTTSeconds(i, j);
+                assertEquals(t.getTTSeconds(), i);
+                assertEquals(t.getNano(), j);
+            }
+            for (int j = -10; j < 0; j++) {
+                TTInstant t = TTInstant.ofTTSeconds(i, j);
+                assertEquals(t.getTTSeconds(), i - 1);
+                assertEquals(t.getNano(), j + 1000000000);
+            }
+        }
+    }
+
+    @Test(expectedExceptions=ArithmeticException.class)
+    public void factory_ofTTSeconds_long_long_tooBig() {
+        TTInstant.ofTTSeconds(Long.MAX_VALUE, 1000000000);
+    }
+
+    //-----------------------------------------------------------------------
+    // of(TAIInstant) / toTAIInstant()
+    //-----------------------------------------------------------------------
+    public void factory_of_TAIInstant() {
+        assertEquals(TTInstant.of(TAIInstant.ofTAISeconds(0, 0)), TTInstant.ofTTSeconds(32, 184000000));
+        assertEquals(TTInstant.of(TAIInstant.ofTAISeconds(0, 815999999)), TTInstant.ofTTSeconds(32, 999999999));
+        assertEquals(TTInstant.of(TAIInstant.ofTAISeconds(0, 816000000)), TTInstant.ofTTSeconds(33, 0));
+        assertEquals(TTInstant.of(TAIInstant.ofTAISeconds(-33, 0)), TTInstant.ofTTSeconds(-1, 184000000));
+    }
+
+    public void test_toTAIInstant() {
+        assertEquals(TTInstant.ofTTSeconds(32, 184000000).toTAIInstant(), TAIInstant.ofTAISeconds(0, 0));
+        assertEquals(TTInstant.ofTTSeconds(0, 0).toTAIInstant(), TAIInstant.ofTAISeconds(-33, 816000000));
+    }
+
+    public void test_toTAIInstant_roundTrip() {
+        for (long i = -1000; i < 1000; i += 7) {
+            TTInstant test = TTInstant.ofTTSeconds(i * 1000003, (i & 0xFFFF) * 100000);
+            assertEquals(TTInstant.of(test.toTAIInstant()), test);
+            assertEquals(test.toTAIInstant().durationUntil(TAIInstant.ofTAISeconds(test.getTTSeconds(), test.getNano())), Duration.ofMillis(32184));
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void factory_of_TAIInstant_null() {
+        TTInstant.of((TAIInstant) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // of(UTCInstant) / toUTCInstant()
+    //-----------------------------------------------------------------------
+    public void test_toUTCInstant_leap() {
+        UTCInstant leap = UTCInstant.ofModifiedJulianDay(56108, SECS_PER_DAY * 1000000000L + 5);  // 2012-06-30T23:59:60
+        TTInstant test = TTInstant.of(leap);
+        assertEquals(test.toUTCInstant(), leap);
+        assertEquals(test.toUTCInstant(UTCRules.system()), leap);
+        assertEquals(test, TTInstant.of(leap.toTAIInstant()));
+    }
+
+    //-----------------------------------------------------------------------
+    // of(Instant) / toInstant()
+    //-----------------------------------------------------------------------
+    public void factory_of_Instant() {
+        Instant instant = Instant.ofEpochSecond(315964800L, 2);
+        TTInstant test = TTInstant.of(instant);
+        assertEquals(test, TTInstant.of(TAIInstant.of(instant)));
+        assertEquals(test.toInstant(), instant);
+    }
+
+    //-----------------------------------------------------------------------
+    // parse(String)
+    //-----------------------------------------------------------------------
+    public void factory_parse_String() {
+        assertEquals(TTInstant.parse("12345.123456789s(TT)"), TTInstant.ofTTSeconds(12345, 123456789));
+        assertEquals(TTInstant.parse("-1.000000001s(TT)"), TTInstant.ofTTSeconds(-1, 1));
+    }
+
+    @DataProvider(name="BadParse")
+    Object[][] provider_badParse() {
+        return new Object[][] {
+            {"A.123456789s(TT)"},
+            {"123.123456789"},
+            {"123.123456789s(GPS)"},
+            {"-123.123s(TT)"},
+        };
+    }
+
+    @Test(dataProvider="BadParse", expectedExceptions=DateTimeParseException.class)
+    public void factory_parse_String_invalid(String str) {
+        TTInstant.parse(str);
+    }
+
+    //-----------------------------------------------------------------------
+    // plus/minus/durationUntil
+    //-----------------------------------------------------------------------
+    public void test_plus_minus() {
+        TTInstant test = TTInstant.ofTTSeconds(10, 999999999);
+        assertEquals(test.plus(Duration.ofSeconds(1, 2)), TTInstant.ofTTSeconds(12, 1));
+        assertEquals(test.minus(Duration.ofSeconds(11, 0)), TTInstant.ofTTSeconds(-1, 999999999));
+        assertEquals(test.plus(Duration.ZERO), test);
+    }
+
+    public void test_durationUntil() {
+        TTInstant start = TTInstant.ofTTSeconds(10, 900000000);
+        TTInstant end = TTInstant.ofTTSeconds(25, 100000000);
+        assertEquals(start.durationUntil(end), Duration.ofSeconds(14, 200000000));
+        assertEquals(end.durationUntil(start), Duration.ofSeconds(-14, -200000000));
+    }
+
+    //-----------------------------------------------------------------------
+    // compareTo/equals/hashCode/toString
+    //-----------------------------------------------------------------------
+    public void test_comparisons() {
+        TTInstant a = TTInstant.ofTTSeconds(-1, 5);
+        TTInstant b = TTInstant.ofTTSeconds(-1, 6);
+        TTInstant c = TTInstant.ofTTSeconds(0, 0);
+        assertEquals(a.compareTo(a) == 0, true);
+        assertEquals(a.compareTo(b) < 0, true);
+        assertEquals(b.compareTo(c) < 0, true);
+        assertEquals(c.compareTo(a) > 0, true);
+    }
+
+    public void test_equals_hashCode() {
+        TTInstant a = TTInstant.ofTTSeconds(5, 20);
+        TTInstant b = TTInstant.ofTTSeconds(5, 20);
+        TTInstant c = TTInstant.ofTTSeconds(5, 30);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode() == b.hashCode(), true);
+        assertEquals(a.equals(c), false);
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals(TAIInstant.ofTAISeconds(5, 20)), false);
+    }
+
+    public void test_toString() {
+        assertEquals(TTInstant.ofTTSeconds(123L, 123456789).toString(), "123.123456789s(TT)");
+        assertEquals(TTInstant.ofTTSeconds(0L, 567).toString(), "0.000000567s(TT)");
+        assertEquals(TTInstant.parse(TTInstant.ofTTSeconds(-5L, 1).toString()), TTInstant.ofTTSeconds(-5L, 1));
+    }
+
+}
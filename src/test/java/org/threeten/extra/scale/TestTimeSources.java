@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Clock;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+
+/**
+ * Test TimeSources.
+ */
+@Test
+public class TestTimeSources {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    // clock(TimeSource, ZoneId)
+    //-----------------------------------------------------------------------
+    public void test_clock_acrossLeapSecond() {
+        MockTimeSource source = new MockTimeSource();
+        Clock test = TimeSources.clock(source, ZoneOffset.UTC);
+        UTCInstant start = UTCInstant.ofModifiedJulianDay(41681, (SECS_PER_DAY - 10) * 1000000000L);
+        TAIInstant startTai = start.toTAIInstant();
+        for (int i = 0; i < 2 * SECS_PER_DAY; i += 7) {
+            source.tai = startTai.plus(Duration.ofSeconds(i, 123456789));
+            assertEquals(test.instant(), source.tai.toInstant());
+        }
+    }
+
+    public void test_clock_backwards() {
+        MockTimeSource source = new MockTimeSource();
+        Clock test = TimeSources.clock(source, ZoneOffset.UTC);
+        TAIInstant startTai = UTCInstant.ofModifiedJulianDay(41690, 0).toTAIInstant();
+        for (int i = 0; i < 3 * SECS_PER_DAY; i += 997) {
+            source.tai = TAIInstant.ofTAISeconds(startTai.getTAISeconds() - i, 5);
+            assertEquals(test.instant(), source.tai.toInstant());
+        }
+    }
+
+    public void test_clock_zone() {
+        MockTimeSource source = new MockTimeSource();
+        Clock test = TimeSources.clock(source, ZoneOffset.UTC);
+        assertEquals(test.getZone(), ZoneOffset.UTC);
+        assertSame(test.withZone(ZoneOffset.UTC), test);
+        Clock paris = test.withZone(PARIS);
+        assertEquals(paris.getZone(), PARIS);
+        assertEquals(paris, TimeSources.clock(source, PARIS));
+        assertEquals(paris.hashCode(), TimeSources.clock(source, PARIS).hashCode());
+        assertEquals(paris.equals(test), false);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_clock_nullTimeSource() {
+        TimeSources.clock(null, ZoneOffset.UTC);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_clock_nullZone() {
+        TimeSources.clock(new MockTimeSource(), null);
+    }
+
+    //-----------------------------------------------------------------------
+    // of(Clock)
+    //-----------------------------------------------------------------------
+    public void test_of_Clock() {
+        Instant instant = Instant.ofEpochSecond(1341100800L - 1, 500000000);  // 2012-06-30T23:59:59.5
+        TimeSource test = TimeSources.of(Clock.fixed(instant, ZoneOffset.UTC));
+        assertEquals(test.instant(), instant);
+        assertEquals(test.utcInstant(), UTCInstant.of(instant));
+        assertEquals(test.taiInstant(), TAIInstant.of(instant));
+        assertEquals(test, TimeSources.of(Clock.fixed(instant, ZoneOffset.UTC)));
+    }
+
+    public void test_of_Clock_roundTrip() {
+        Instant instant = Instant.ofEpochSecond(1341100800L - 1, 500000000);
+        TimeSource source = TimeSources.of(Clock.fixed(instant, ZoneOffset.UTC));
+        assertEquals(TimeSources.clock(source, ZoneOffset.UTC).instant(), instant);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_Clock_null() {
+        TimeSources.of((Clock) null);
+    }
+
+    //-----------------------------------------------------------------------
+    static class MockTimeSource implements TimeSource {
+        TAIInstant tai;
+        @Override
+        public Instant instant() {
+            return tai.toInstant();
+        }
+        @Override
+        public UTCInstant utcInstant() {
+            return tai.toUTCInstant();
+        }
+        @Override
+        public TAIInstant taiInstant() {
+            return tai;
+        }
+    }
+
+}
@@ -40,12 +40,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.JulianFields;
 
 /**
@@ -305,6 +307,127 @@ public class TestUTCInstant {
         UTCInstant.of(TAIInstant.ofTAISeconds(0, 2), (UTCRules) null);
     }
 
+    //-----------------------------------------------------------------------
+    // parse(CharSequence)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="Parse")
+    Object[][] provider_parse() {
+        return new Object[][] {
+            {"1970-01-01T00:00:00.000000000(UTC)", 40587, 0},
+            {"1970-01-02T00:00:00.000000001(UTC)", 40588, 1},
+            {"1970-02-01T00:00:00.999999999(UTC)", 40618, 999999999},
+            {"1970-02-04T01:00:00.000000000(UTC)", 40621, 60L * 60L * 1000000000L},
+            {"1970-01-01T00:00:01.5Z", 40587, 1500000000},
+            {"1970-01-01T00:00:01Z", 40587, 1000000000},
+            {"1858-11-17T00:00:00Z", 0, 0},
+            {"1858-11-16T23:59:59.999999999Z", -1, SECS_PER_DAY * NANOS_PER_SEC - 1},
+            {"2000-02-29T12:00:00Z", 51603, SECS_PER_DAY * NANOS_PER_SEC / 2},
+            {"-0001-12-31T00:00:00Z", -678942, 0},
+            {"+10000-01-01T00:00:00Z", 2973484, 0},
+            {"1972-12-31T23:59:59.000000000(UTC)", 41682, SECS_PER_DAY * NANOS_PER_SEC - NANOS_PER_SEC},
+            {"1972-12-31T23:59:60.000000000(UTC)", 41682, SECS_PER_DAY * NANOS_PER_SEC},
+            {"1972-12-31T23:59:60.999999999Z", 41682, SECS_PER_DAY * NANOS_PER_SEC + 999999999},
+        };
+    }
+
+    @Test(dataProvider="Parse", groups={"tck"})
+    public void factory_parse_CharSequence(String str, long mjd, long nanos) {
+        UTCInstant test = UTCInstant.parse(str);
+        assertEquals(test.getModifiedJulianDay(), mjd);
+        assertEquals(test.getNanoOfDay(), nanos);
+        assertEquals(test.getRules(), UTCRules.system());
+    }
+
+    @Test(dataProvider="Parse", groups={"tck"})
+    public void factory_parse_CharSequence_offset(String str, long mjd, long nanos) {
+        UTCInstant test = UTCInstant.parse(new StringBuilder("ab").append(str).append("cd"), 2, str.length(), UTCRules.system());
+        assertEquals(test.getModifiedJulianDay(), mjd);
+        assertEquals(test.getNanoOfDay(), nanos);
+    }
+
+    @Test(dataProvider="Parse", groups={"tck"})
+    public void factory_parse_bytes_offset(String str, long mjd, long nanos) {
+        byte[] bytes = ("ab" + str + "cd").getBytes(StandardCharsets.US_ASCII);
+        UTCInstant test = UTCInstant.parse(bytes, 2, str.length(), UTCRules.system());
+        assertEquals(test.getModifiedJulianDay(), mjd);
+        assertEquals(test.getNanoOfDay(), nanos);
+    }
+
+    @Test(groups={"tck"})
+    public void factory_parse_CharSequence_roundTrip() {
+        for (long mjd = 41680; mjd < 41690; mjd++) {
+            UTCInstant expected = UTCInstant.ofModifiedJulianDay(mjd, SECS_PER_DAY * NANOS_PER_SEC - 123456789);
+            assertEquals(UTCInstant.parse(expected.toString()), expected);
+        }
+        UTCInstant leap = UTCInstant.ofModifiedJulianDay(41682, SECS_PER_DAY * NANOS_PER_SEC + 123456789);
+        assertEquals(UTCInstant.parse(leap.toString()), leap);
+    }
+
+    @Test(groups={"tck"})
+    public void factory_parse_CharSequence_Rules() {
+        MockUTCRulesAlwaysLeap mockRules = new MockUTCRulesAlwaysLeap();
+        UTCInstant test = UTCInstant.parse("1970-01-01T23:59:60Z", mockRules);
+        assertEquals(test.getModifiedJulianDay(), 40587);
+        assertEquals(test.getNanoOfDay(), SECS_PER_DAY * NANOS_PER_SEC);
+        assertEquals(test.getRules(), mockRules);
+    }
+
+    @DataProvider(name="BadParse")
+    Object[][] provider_badParse() {
+        return new Object[][] {
+            {""},
+            {"1970-01-01T00:00:00"},
+            {"1970-01-01T00:00:00.(UTC)"},
+            {"1970-01-01T00:00:00.0000000000(UTC)"},
+            {"1970-01-01T00:00:00(TAI)"},
+            {"1970-01-01T00:00:00ZZ"},
+            {"1970-01-01 00:00:00Z"},
+            {"1970-1-01T00:00:00Z"},
+            {"197-01-01T00:00:00Z"},
+            {"10000-01-01T00:00:00Z"},
+            {"1970-13-01T00:00:00Z"},
+            {"1970-00-01T00:00:00Z"},
+            {"1970-02-29T00:00:00Z"},
+            {"1970-04-31T00:00:00Z"},
+            {"1970-01-01T24:00:00Z"},
+            {"1970-01-01T00:60:00Z"},
+            {"1970-01-01T00:00:61Z"},
+            {"1970-01-01T23:59:60Z"},
+            {"1972-12-31T23:58:60Z"},
+            {"1972-12-30T23:59:60(UTC)"},
+        };
+    }
+
+    @Test(dataProvider="BadParse", expectedExceptions=DateTimeParseException.class, groups={"tck"})
+    public void factory_parse_CharSequence_invalid(String str) {
+        UTCInstant.parse(str);
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class, groups={"tck"})
+    public void factory_parse_CharSequence_negativeLeap() {
+        UTCInstant.parse("1970-01-01T23:59:59Z", new MockUTCRulesNegativeLeap());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void factory_parse_CharSequence_null() {
+        UTCInstant.parse((CharSequence) null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void factory_parse_CharSequence_Rules_null() {
+        UTCInstant.parse("1970-01-01T00:00:00Z", (UTCRules) null);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void factory_parse_CharSequence_offset_invalid() {
+        UTCInstant.parse("1970-01-01T00:00:00Z", 1, 20, UTCRules.system());
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void factory_parse_bytes_offset_invalid() {
+        UTCInstant.parse(new byte[10], -1, 5, UTCRules.system());
+    }
+
     //-----------------------------------------------------------------------
     // withModifiedJulianDay()
     //-----------------------------------------------------------------------
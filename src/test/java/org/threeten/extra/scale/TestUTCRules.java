@@ -37,9 +37,15 @@ import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
 
 import org.testng.annotations.DataProvider;
@@ -79,6 +85,139 @@ public class TestUTCRules {
         assertSame(ois.readObject(), test);
     }
 
+    //-----------------------------------------------------------------------
+    // embedded data and discovery
+    //-----------------------------------------------------------------------
+    public void test_embedded_newestKnownLeapSecond() {
+        SystemUTCRules test = new SystemUTCRules();
+        assertEquals(test.getLeapSecondDates().length, 28);
+        assertEquals(test.getLeapSecondAdjustment(57753L), 1);  // 2016-12-31
+        assertEquals(test.getTAIOffset(57753L), 36);
+        assertEquals(test.getTAIOffset(57754L), 37);
+    }
+
+    public void test_refresh_nullLoader() {
+        SystemUTCRules test = new SystemUTCRules();
+        long[] dates = test.getLeapSecondDates();
+        test.refresh(null);
+        assertEquals(Arrays.equals(test.getLeapSecondDates(), dates), true);
+    }
+
+    public void test_refresh_noFile() {
+        SystemUTCRules test = new SystemUTCRules();
+        long[] dates = test.getLeapSecondDates();
+        test.refresh(new URLClassLoader(new URL[0], null));
+        assertEquals(Arrays.equals(test.getLeapSecondDates(), dates), true);
+    }
+
+    public void test_refresh_olderFileIgnored() throws Exception {
+        File dir = writeLeapSecondFile(new long[] {41317L, 41498L}, new int[] {10, 11});
+        try {
+            SystemUTCRules test = new SystemUTCRules();
+            long[] dates = test.getLeapSecondDates();
+            test.refresh(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            assertEquals(Arrays.equals(test.getLeapSecondDates(), dates), true);
+        } finally {
+            deleteLeapSecondFile(dir);
+        }
+    }
+
+    public void test_refresh_newerFileMergedWithRegistered() throws Exception {
+        File dir = writeLeapSecondFile(new long[] {41317L, 41498L, 60000L}, new int[] {10, 11, 12});
+        try {
+            SystemUTCRules test = new SystemUTCRules();
+            test.registerLeapSecond(59000L, -1);
+            test.refresh(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            assertEquals(test.getLeapSecondAdjustment(59000L), -1);
+            assertEquals(test.getLeapSecondAdjustment(60000L), 1);
+            assertEquals(test.getTAIOffset(59001L), 36);
+            assertEquals(test.getTAIOffset(60001L), 37);
+            assertEquals(test.getTAIOffset(57754L), 37);
+            assertEquals(test.convertToUTC(test.convertToTAI(UTCInstant.ofModifiedJulianDay(60000L, SECS_PER_DAY * NANOS_PER_SEC, test))),
+                    UTCInstant.ofModifiedJulianDay(60000L, SECS_PER_DAY * NANOS_PER_SEC, test));
+            test.refresh(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            assertEquals(test.getLeapSecondDates().length, 30);
+        } finally {
+            deleteLeapSecondFile(dir);
+        }
+    }
+
+    public void test_discovery_notBeforeEmbeddedEnd() throws Exception {
+        File dir = writeLeapSecondFile(new long[] {41317L, 41498L, 60000L}, new int[] {10, 11, 12});
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try {
+            SystemUTCRules test = new SystemUTCRules();
+            Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            assertEquals(test.getTAIOffset(57000L), 35);
+            assertEquals(test.getLeapSecondAdjustment(57753L), 1);
+            Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[0], null));
+            assertEquals(test.getTAIOffset(60001L), 37);  // searched here, finding nothing
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+            deleteLeapSecondFile(dir);
+        }
+    }
+
+    public void test_discovery_afterEmbeddedEnd() throws Exception {
+        File dir = writeLeapSecondFile(new long[] {41317L, 41498L, 60000L}, new int[] {10, 11, 12});
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try {
+            SystemUTCRules test = new SystemUTCRules();
+            Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            assertEquals(test.getTAIOffset(60001L), 38);
+            assertEquals(test.getLeapSecondAdjustment(60000L), 1);
+            assertEquals(test.getLeapSecondDates().length, 29);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+            deleteLeapSecondFile(dir);
+        }
+    }
+
+    public void test_discovery_convertToUTC() throws Exception {
+        File dir = writeLeapSecondFile(new long[] {41317L, 41498L, 60000L}, new int[] {10, 11, 12});
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try {
+            SystemUTCRules test = new SystemUTCRules();
+            Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] {dir.toURI().toURL()}, null));
+            UTCInstant leap = UTCInstant.ofModifiedJulianDay(60000L, SECS_PER_DAY * NANOS_PER_SEC, test);
+            TAIInstant tai = TAIInstant.ofTAISeconds((60001L - 36204L) * SECS_PER_DAY + 37, 0);
+            assertEquals(test.convertToUTC(tai), leap);
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+            deleteLeapSecondFile(dir);
+        }
+    }
+
+    public void test_refreshSystemLeapSeconds() {
+        long[] dates = rules.getLeapSecondDates();
+        UTCRules.refreshSystemLeapSeconds();
+        assertEquals(Arrays.equals(rules.getLeapSecondDates(), dates), true);
+    }
+
+    private static File writeLeapSecondFile(long[] dates, int[] offsets) throws IOException {
+        File dir = File.createTempFile("leap", "");
+        dir.delete();
+        File file = new File(dir, "javax/time/LeapSecondRules.dat");
+        file.getParentFile().mkdirs();
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+        out.writeByte(1);
+        out.writeInt(dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            out.writeLong(dates[i]);
+            out.writeInt(offsets[i]);
+        }
+        out.close();
+        return dir;
+    }
+
+    private static void deleteLeapSecondFile(File dir) {
+        File file = new File(dir, "javax/time/LeapSecondRules.dat");
+        file.delete();
+        file.getParentFile().delete();
+        file.getParentFile().getParentFile().delete();
+        dir.delete();
+    }
+
     //-----------------------------------------------------------------------
     // getName()
     //-----------------------------------------------------------------------
@@ -335,6 +474,50 @@ public class TestUTCRules {
         rules.convertToTAI((UTCInstant) null);
     }
 
+    //-----------------------------------------------------------------------
+    // convertToUTC(MutableTAITimestamp,MutableUTCTimestamp)/convertToTAI(MutableUTCTimestamp,MutableTAITimestamp)
+    //-----------------------------------------------------------------------
+    public void test_convertToUTC_mutable_acrossLeap() {
+        MutableTAITimestamp tai = new MutableTAITimestamp();
+        MutableUTCTimestamp utc = new MutableUTCTimestamp();
+        MutableTAITimestamp reverse = new MutableTAITimestamp();
+        for (long secs = TAI_SECS_UTC1980 - 5; secs < TAI_SECS_UTC1980 + 5; secs++) {
+            TAIInstant expectedTai = TAIInstant.ofTAISeconds(secs, 123456789);
+            UTCInstant expectedUtc = rules.convertToUTC(expectedTai);
+            rules.convertToUTC(tai.set(secs, 123456789), utc);
+            assertEquals(utc.getModifiedJulianDay(), expectedUtc.getModifiedJulianDay());
+            assertEquals(utc.getNanoOfDay(), expectedUtc.getNanoOfDay());
+            assertEquals(utc.toUTCInstant(rules), expectedUtc);
+            rules.convertToTAI(utc, reverse);
+            assertEquals(reverse.toTAIInstant(), expectedTai);
+        }
+    }
+
+    public void test_convertToUTC_mutable_defaultImplementation() {
+        UTCRules custom = new MockUTCRulesDelegating(rules);
+        MutableUTCTimestamp utc = new MutableUTCTimestamp();
+        custom.convertToUTC(new MutableTAITimestamp().set(TAI_SECS_UTC1980 - 1, 5), utc);
+        assertEquals(utc.getModifiedJulianDay(), MJD_1980 - 1);
+        assertEquals(utc.getNanoOfDay(), SECS_PER_DAY * NANOS_PER_SEC + 5);
+    }
+
+    public void test_convertToTAI_mutable_sameHolder() {
+        MutableUTCTimestamp utc = new MutableUTCTimestamp();
+        MutableTAITimestamp tai = new MutableTAITimestamp();
+        rules.convertToTAI(utc.set(MJD_1980, 7), tai);
+        assertEquals(tai.getTAISeconds(), TAI_SECS_UTC1980);
+        assertEquals(tai.getNano(), 7);
+        rules.convertToTAI(utc.set(MJD_1980 - 1, SECS_PER_DAY * NANOS_PER_SEC + 8), tai);
+        assertEquals(tai.getTAISeconds(), TAI_SECS_UTC1980 - 1);
+        assertEquals(tai.getNano(), 8);
+        assertEquals(tai.toString(), TAIInstant.ofTAISeconds(TAI_SECS_UTC1980 - 1, 8).toString());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_convertToUTC_mutable_null() {
+        rules.convertToUTC((MutableTAITimestamp) null, new MutableUTCTimestamp());
+    }
+
     //-------------------------------------------------------------------------
 //    public void test_negativeLeap_justBeforeLeap() {
 //        rules.registerLeapSecond(MJD_2100 - 1, -1);
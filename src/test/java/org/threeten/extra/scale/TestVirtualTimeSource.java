@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2007-2013, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.extra.scale;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+
+/**
+ * Test VirtualTimeSource.
+ */
+@Test
+public class TestVirtualTimeSource {
+
+    private static final long SECS_PER_DAY = 24L * 60 * 60;
+
+    static {
+        TestUTCInstant.dummyStaticMethod();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        TAIInstant start = TAIInstant.ofTAISeconds(1000, 5);
+        VirtualTimeSource test = VirtualTimeSource.of(start);
+        assertEquals(test.getRules(), UTCRules.system());
+        assertEquals(test.getAutoAdvance(), Duration.ZERO);
+        assertEquals(test.taiInstant(), start);
+        assertEquals(test.taiInstant(), start);
+        assertEquals(test.utcInstant(), start.toUTCInstant());
+        assertEquals(test.instant(), start.toInstant());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_null() {
+        VirtualTimeSource.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_advance() {
+        VirtualTimeSource test = VirtualTimeSource.of(TAIInstant.ofTAISeconds(1000, 5));
+        assertEquals(test.advance(Duration.ofSeconds(2, 10)), TAIInstant.ofTAISeconds(1002, 15));
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(1002, 15));
+        assertEquals(test.advance(Duration.ofSeconds(-3)), TAIInstant.ofTAISeconds(999, 15));
+    }
+
+    public void test_setTAI() {
+        VirtualTimeSource test = VirtualTimeSource.of(TAIInstant.ofTAISeconds(1000, 5));
+        test.setTAI(TAIInstant.ofTAISeconds(-20, 0));
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(-20, 0));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_autoAdvance() {
+        VirtualTimeSource test = VirtualTimeSource.of(TAIInstant.ofTAISeconds(1000, 0));
+        test.setAutoAdvance(Duration.ofMillis(250));
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(1000, 0));
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(1000, 250000000));
+        assertEquals(test.utcInstant(), TAIInstant.ofTAISeconds(1000, 500000000).toUTCInstant());
+        assertEquals(test.instant(), TAIInstant.ofTAISeconds(1000, 750000000).toInstant());
+        test.setAutoAdvance(Duration.ZERO);
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(1001, 0));
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(1001, 0));
+    }
+
+    public void test_autoAdvance_concurrent() throws Exception {
+        final VirtualTimeSource test = VirtualTimeSource.of(TAIInstant.ofTAISeconds(0, 0));
+        test.setAutoAdvance(Duration.ofSeconds(1));
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j++) {
+                        test.taiInstant();
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        test.setAutoAdvance(Duration.ZERO);
+        assertEquals(test.taiInstant(), TAIInstant.ofTAISeconds(4000, 0));
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_autoAdvance_negative() {
+        VirtualTimeSource.of(TAIInstant.ofTAISeconds(0, 0)).setAutoAdvance(Duration.ofSeconds(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_listener() {
+        UTCInstant beforeLeap = UTCInstant.ofModifiedJulianDay(41682, (SECS_PER_DAY - 1) * 1000000000L);  // 1972-12-31T23:59:59
+        VirtualTimeSource test = VirtualTimeSource.of(beforeLeap.toTAIInstant());
+        final List<Long> crossed = new ArrayList<Long>();
+        VirtualTimeSource.LeapSecondListener listener = new VirtualTimeSource.LeapSecondListener() {
+            @Override
+            public void leapSecondCrossed(VirtualTimeSource source, long mjDay, int leapAdjustment) {
+                assertEquals(leapAdjustment, 1);
+                crossed.add(mjDay);
+            }
+        };
+        test.addLeapSecondListener(listener);
+        test.advance(Duration.ofSeconds(1));  // 23:59:60
+        assertEquals(crossed.size(), 0);
+        test.advance(Duration.ofSeconds(1));  // 00:00:00
+        assertEquals(crossed, list(41682L));
+        test.advance(Duration.ofSeconds(-5));
+        test.advance(Duration.ofSeconds(5));
+        assertEquals(crossed, list(41682L, 41682L));
+        test.setTAI(UTCInstant.ofModifiedJulianDay(41000, 0).toTAIInstant());
+        assertEquals(crossed.size(), 2);
+        test.setTAI(UTCInstant.ofModifiedJulianDay(42500, 0).toTAIInstant());
+        assertEquals(crossed, list(41682L, 41682L, 41498L, 41682L, 42047L, 42412L));
+        test.removeLeapSecondListener(listener);
+        test.setTAI(UTCInstant.ofModifiedJulianDay(41000, 0).toTAIInstant());
+        test.setTAI(UTCInstant.ofModifiedJulianDay(42500, 0).toTAIInstant());
+        assertEquals(crossed.size(), 6);
+    }
+
+    private static List<Long> list(Long... values) {
+        List<Long> list = new ArrayList<Long>();
+        for (Long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+}